@@ -1,14 +1,24 @@
 package org.zadorozhn;
 
+import lombok.extern.slf4j.Slf4j;
 import org.zadorozhn.building.Building;
 import org.zadorozhn.building.Controller;
 import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.jmx.BuildingManagement;
+import org.zadorozhn.building.prometheus.MetricsServer;
+import org.zadorozhn.building.prometheus.PrometheusRenderer;
 import org.zadorozhn.human.Human;
 import org.zadorozhn.util.HumanGenerator;
 import org.zadorozhn.util.UserInterface;
+import org.zadorozhn.util.journal.MappedEventJournal;
+import org.zadorozhn.util.lock.LockRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 
+@Slf4j
 public class Runner {
-    public static void main(String[] args){
+    public static void main(String[] args) throws IOException {
         int numberOfFloors = 10;
         int capacityOfElevator = 500;
         int startFloorNumber = 0;
@@ -35,6 +45,31 @@ public class Runner {
 
         UserInterface userInterface = UserInterface.of(building, userInterfaceRenderingSpeed);
 
+        BuildingManagement.of(building, "office").register();
+
+        Integer metricsPort = Integer.getInteger("metrics.port");
+        if (metricsPort != null) {
+            MetricsServer.of(PrometheusRenderer.of(building, "office"), metricsPort).start();
+        }
+
+        String journalDirectory = System.getProperty("journal.dir");
+        if (journalDirectory != null) {
+            MappedEventJournal journal = MappedEventJournal.of(Paths.get(journalDirectory)).start();
+            building.setJournal(journal);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    journal.close();
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }));
+        }
+
+        if (LockRegistry.getDefault().isEnabled()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    log.info("lock contention report:\n{}", LockRegistry.getDefault().getReport())));
+        }
+
         humanGenerator.start();
         userInterface.start();
         building.start();
@@ -3,12 +3,22 @@ package org.zadorozhn.building;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.IntStream;
 import com.google.common.collect.ImmutableList;
+import org.zadorozhn.building.state.OverflowPolicy;
 import org.zadorozhn.human.Human;
+import org.zadorozhn.util.IdAllocator;
+import org.zadorozhn.util.RenegingTimer;
+import org.zadorozhn.util.StatisticsHolder;
+import org.zadorozhn.util.StatisticsSnapshot;
+import org.zadorozhn.util.lock.LockRegistry;
+import org.zadorozhn.util.clock.Clock;
+import org.zadorozhn.util.journal.EventJournal;
+import org.zadorozhn.util.latency.LatencyStatistics;
+import org.zadorozhn.util.window.WindowedStatistics;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -17,22 +27,50 @@ public class Building {
     public static final int MIN_NUMBER_OF_FLOORS = 2;
     public static final int MIN_NUMBER_OF_ELEVATORS = 1;
 
+    private static final IdAllocator ID_ALLOCATOR = IdAllocator.of(1);
+
+    @Getter
+    private final long id;
     @Getter
     private final int numberOfFloors;
     private final List<Floor> floors;
     private final List<Elevator> elevators;
     private final Lock buildingLock;
+    private volatile List<Elevator> elevatorSnapshot;
+    @Getter
+    private final RenegingTimer renegingTimer;
+    @Getter
+    private final IdAllocator idAllocator;
+    @Getter
+    private final LatencyStatistics latencyStatistics;
+    @Getter
+    private final StatisticsHolder statisticsHolder;
+    @Getter
+    private final WindowedStatistics windowedStatistics;
 
     @Getter
     private volatile Controller controller;
+    @Getter
+    private volatile Clock clock;
+    @Getter
+    private volatile EventJournal journal;
 
     private Building(int numberOfFloors) {
         checkArgument(numberOfFloors >= MIN_NUMBER_OF_FLOORS);
 
-        this.buildingLock = new ReentrantLock();
+        this.id = ID_ALLOCATOR.next();
+        this.buildingLock = LockRegistry.getDefault().newLock("Building[" + id + "].buildingLock", false);
         this.numberOfFloors = numberOfFloors;
         this.elevators = new ArrayList<>();
         this.floors = new ArrayList<>();
+        this.elevatorSnapshot = ImmutableList.of();
+        this.renegingTimer = RenegingTimer.getDefault();
+        this.idAllocator = IdAllocator.getDefault();
+        this.clock = Clock.system();
+        this.journal = EventJournal.disabled();
+        this.latencyStatistics = LatencyStatistics.of(numberOfFloors);
+        this.statisticsHolder = StatisticsHolder.getEmpty();
+        this.windowedStatistics = WindowedStatistics.getDefault();
 
         IntStream.range(Floor.GROUND_FLOOR, numberOfFloors).forEachOrdered(i -> floors.add(Floor.of(i, this)));
     }
@@ -44,8 +82,11 @@ public class Building {
     public Building addElevator(Elevator elevator) {
         checkNotNull(elevator);
 
+        buildingLock.lock();
         elevator.addTo(this);
         elevators.add(elevator);
+        elevatorSnapshot = ImmutableList.copyOf(elevators);
+        buildingLock.unlock();
 
         return this;
     }
@@ -59,12 +100,30 @@ public class Building {
         return this;
     }
 
+    public Building setClock(Clock clock) {
+        checkNotNull(clock);
+
+        this.clock = clock;
+        renegingTimer.setClock(clock);
+
+        return this;
+    }
+
+    public Building setJournal(EventJournal journal) {
+        checkNotNull(journal);
+
+        this.journal = journal;
+
+        return this;
+    }
+
     public Building start() {
         checkNotNull(controller);
         checkState(elevators.size() >= MIN_NUMBER_OF_ELEVATORS);
 
         startElevators();
         startController();
+        startRenegingTimer();
 
         return this;
     }
@@ -90,12 +149,26 @@ public class Building {
         return this;
     }
 
+    public Building startRenegingTimer() {
+        String threadName = "renegingTimer";
+        new Thread(renegingTimer, threadName).start();
+
+        return this;
+    }
+
     public Building stop() {
         checkNotNull(controller);
         checkState(elevators.size() >= MIN_NUMBER_OF_ELEVATORS);
 
         stopElevators();
         stopController();
+        stopRenegingTimer();
+
+        return this;
+    }
+
+    public Building stopRenegingTimer() {
+        renegingTimer.turnOff();
 
         return this;
     }
@@ -118,6 +191,15 @@ public class Building {
         return this;
     }
 
+    public Building setFloorCapacity(int capacity, OverflowPolicy overflowPolicy) {
+        checkArgument(capacity > 0);
+        checkNotNull(overflowPolicy);
+
+        floors.forEach(i -> i.setCapacity(capacity, overflowPolicy));
+
+        return this;
+    }
+
     public Floor getFloor(int number) {
         checkArgument(number < numberOfFloors);
 
@@ -126,19 +208,41 @@ public class Building {
 
     public Building addHuman(Human human) {
         checkNotNull(human);
-        checkArgument(floors.contains(human.getStartFloor()));
+        checkArgument(human.getStartFloor().getBuilding() == this);
 
         this.getFloor(human.getStartFloor().getFloorNumber()).addHuman(human);
 
         return this;
     }
 
-    public List<Elevator> getElevators() {
-        buildingLock.lock();
-        List<Elevator> list = ImmutableList.copyOf(elevators);
-        buildingLock.unlock();
+    public Building addHumans(Collection<Human> humans) {
+        checkNotNull(humans);
+
+        List<List<Human>> humansByFloor = new ArrayList<>(numberOfFloors);
+        IntStream.range(Floor.GROUND_FLOOR, numberOfFloors).forEach(i -> humansByFloor.add(new ArrayList<>()));
+
+        for (Human human : humans) {
+            checkNotNull(human);
+            checkArgument(human.getStartFloor().getBuilding() == this);
 
-        return list;
+            humansByFloor.get(human.getStartFloor().getFloorNumber()).add(human);
+        }
+
+        IntStream.range(Floor.GROUND_FLOOR, numberOfFloors)
+                .filter(i -> !humansByFloor.get(i).isEmpty())
+                .forEach(i -> getFloor(i).addHumans(humansByFloor.get(i)));
+
+        return this;
+    }
+
+    public StatisticsSnapshot getStatisticsSnapshot() {
+        return getElevators().stream()
+                .map(i -> i.getStatisticsHolder().getSnapshot())
+                .reduce(statisticsHolder.getSnapshot(), StatisticsSnapshot::plus);
+    }
+
+    public List<Elevator> getElevators() {
+        return elevatorSnapshot;
     }
 
     public List<Floor> getFloors() {
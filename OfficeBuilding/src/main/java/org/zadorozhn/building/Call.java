@@ -3,12 +3,17 @@ package org.zadorozhn.building;
 import lombok.Getter;
 import lombok.EqualsAndHashCode;
 import org.zadorozhn.building.state.Direction;
+import java.util.Arrays;
 
 import static com.google.common.base.Preconditions.*;
 
 @Getter
 @EqualsAndHashCode
 public class Call {
+    public static final int MAX_INTERNED_FLOOR_NUMBER = 4096;
+    private static final int INITIAL_TABLE_SIZE = 64;
+    private static volatile Call[][] table = new Call[INITIAL_TABLE_SIZE][];
+
     private final int targetFloorNumber;
     private final Direction direction;
 
@@ -21,13 +26,16 @@ public class Call {
     }
 
     public static Call of(int targetFloorNumber, Direction direction) {
-        return new Call(targetFloorNumber, direction);
+        checkArgument(targetFloorNumber >= Floor.GROUND_FLOOR);
+        checkNotNull(direction);
+
+        return intern(targetFloorNumber, direction);
     }
 
     public static Call of(Floor targetFloor, Direction direction) {
         checkNotNull(targetFloor);
 
-        return new Call(targetFloor.getFloorNumber(), direction);
+        return of(targetFloor.getFloorNumber(), direction);
     }
 
     public static Call of(int targetFloorNumber, int startFloorNumber) {
@@ -35,7 +43,7 @@ public class Call {
 
         Direction direction = resolveDirection(targetFloorNumber, startFloorNumber);
 
-        return new Call(targetFloorNumber, direction);
+        return of(targetFloorNumber, direction);
     }
 
     public static Call of(Floor targetFloor, Floor startFloor) {
@@ -45,7 +53,7 @@ public class Call {
 
         Direction direction = resolveDirection(targetFloor.getFloorNumber(), startFloor.getFloorNumber());
 
-        return new Call(targetFloor.getFloorNumber(), direction);
+        return of(targetFloor.getFloorNumber(), direction);
     }
 
     public static Call of(int targetFloorNumber, Floor startFloor) {
@@ -54,7 +62,7 @@ public class Call {
 
         Direction direction = resolveDirection(targetFloorNumber, startFloor.getFloorNumber());
 
-        return new Call(targetFloorNumber, direction);
+        return of(targetFloorNumber, direction);
     }
 
     public static Call of(Floor targetFloor, int startFloorNumber) {
@@ -63,7 +71,50 @@ public class Call {
 
         Direction direction = resolveDirection(targetFloor.getFloorNumber(), startFloorNumber);
 
-        return new Call(targetFloor.getFloorNumber(), direction);
+        return of(targetFloor.getFloorNumber(), direction);
+    }
+
+    private static Call intern(int targetFloorNumber, Direction direction) {
+        if (targetFloorNumber >= MAX_INTERNED_FLOOR_NUMBER) {
+            return new Call(targetFloorNumber, direction);
+        }
+
+        Call[][] currentTable = table;
+        if (targetFloorNumber >= currentTable.length) {
+            currentTable = grow(targetFloorNumber);
+        }
+
+        Call[] floorCalls = currentTable[targetFloorNumber];
+        if (floorCalls == null) {
+            floorCalls = createFloorCalls(targetFloorNumber);
+        }
+
+        return floorCalls[direction.ordinal()];
+    }
+
+    private static synchronized Call[][] grow(int targetFloorNumber) {
+        if (targetFloorNumber >= table.length) {
+            int size = table.length;
+            while (size <= targetFloorNumber) {
+                size *= 2;
+            }
+            table = Arrays.copyOf(table, Math.min(size, MAX_INTERNED_FLOOR_NUMBER));
+        }
+
+        return table;
+    }
+
+    private static synchronized Call[] createFloorCalls(int targetFloorNumber) {
+        Call[][] latestTable = table;
+        if (latestTable[targetFloorNumber] == null) {
+            Call[] floorCalls = new Call[Direction.values().length];
+            for (Direction direction : Direction.values()) {
+                floorCalls[direction.ordinal()] = new Call(targetFloorNumber, direction);
+            }
+            latestTable[targetFloorNumber] = floorCalls;
+        }
+
+        return latestTable[targetFloorNumber];
     }
 
     private static Direction resolveDirection(int targetFloorNumber, int startFloorNumber) {
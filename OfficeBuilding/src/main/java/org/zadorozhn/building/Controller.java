@@ -3,11 +3,16 @@ package org.zadorozhn.building;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.jfr.DispatchDecisionEvent;
+import org.zadorozhn.building.jfr.FlightRecorderSupport;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
 import org.zadorozhn.building.state.State;
+import org.zadorozhn.util.IdAllocator;
 import org.zadorozhn.util.interrupt.Interruptible;
+import org.zadorozhn.util.lock.LockRegistry;
 import com.google.common.collect.ImmutableList;
-import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
@@ -17,24 +22,44 @@ import static com.google.common.base.Preconditions.*;
 
 @Slf4j
 public class Controller implements Runnable, Interruptible {
+    private static final IdAllocator ID_ALLOCATOR = IdAllocator.of(1);
+
+    @Getter
+    private final long id;
     @Setter
     private List<Elevator> elevators;
     private final Queue<Call> calls;
+    private final Queue<DestinationCall> destinationCalls;
+    @Getter
+    private final HallCallRegistry hallCallRegistry;
 
     private final Condition controllerStopCondition;
     private final Lock callLock;
     private final Lock elevatorLock;
 
+    private volatile List<Call> callSnapshot;
+    @Getter
+    private volatile int numberOfPendingDestinationCalls;
+    @Getter
+    private volatile long numberOfDispatchedCalls;
     @Getter
     private volatile boolean isRunning;
+    @Getter
+    @Setter
+    private volatile DispatchMode dispatchMode;
 
     private Controller() {
         this.elevators = new ArrayList<>();
         this.calls = new LinkedList<>();
-        this.callLock = new ReentrantLock(true);
-        this.elevatorLock = new ReentrantLock(true);
+        this.callSnapshot = ImmutableList.of();
+        this.destinationCalls = new LinkedList<>();
+        this.hallCallRegistry = HallCallRegistry.getEmpty();
+        this.id = ID_ALLOCATOR.next();
+        this.callLock = LockRegistry.getDefault().newLock("Controller[" + id + "].callLock", true);
+        this.elevatorLock = LockRegistry.getDefault().newLock("Controller[" + id + "].elevatorLock", true);
         this.controllerStopCondition = callLock.newCondition();
         this.isRunning = false;
+        this.dispatchMode = DispatchMode.COLLECTIVE;
     }
 
     public static Controller of(List<Elevator> elevators) {
@@ -46,10 +71,28 @@ public class Controller implements Runnable, Interruptible {
         return controller;
     }
 
+    public static Controller of(List<Elevator> elevators, DispatchMode dispatchMode) {
+        checkNotNull(dispatchMode);
+
+        Controller controller = of(elevators);
+        controller.setDispatchMode(dispatchMode);
+
+        return controller;
+    }
+
     public static Controller getEmpty() {
         return new Controller();
     }
 
+    public static Controller getEmpty(DispatchMode dispatchMode) {
+        checkNotNull(dispatchMode);
+
+        Controller controller = new Controller();
+        controller.setDispatchMode(dispatchMode);
+
+        return controller;
+    }
+
     public boolean canCallElevator(Call call) {
         checkNotNull(call);
 
@@ -67,22 +110,72 @@ public class Controller implements Runnable, Interruptible {
         checkNotNull(call);
         checkArgument(call.getTargetFloorNumber() >= Floor.GROUND_FLOOR);
 
+        if (!hallCallRegistry.latch(call)) {
+            log.debug("call is already registered: {}", call);
+            return;
+        }
+
+        enqueueCall(call);
+    }
+
+    public void relatchCall(Call call) {
+        checkNotNull(call);
+        checkArgument(call.getTargetFloorNumber() >= Floor.GROUND_FLOOR);
+
+        if (!hallCallRegistry.relatch(call)) {
+            log.debug("call is still registered: {}", call);
+            return;
+        }
+
+        enqueueCall(call);
+    }
+
+    private void enqueueCall(Call call) {
         callLock.lock();
         calls.add(call);
+        callSnapshot = ImmutableList.copyOf(calls);
         controllerStopCondition.signal();
         callLock.unlock();
 
-        log.info("call added: {}", call.getTargetFloorNumber());
+        log.debug("call added: {}", call);
     }
 
-    public void removeCall(Call call) {
-        checkNotNull(call);
+    public void addDestinationCall(DestinationCall destinationCall) {
+        checkNotNull(destinationCall);
+
+        callLock.lock();
+        destinationCalls.add(destinationCall);
+        numberOfPendingDestinationCalls = destinationCalls.size();
+        controllerStopCondition.signal();
+        callLock.unlock();
+
+        log.debug("destination call added: {}", destinationCall);
+    }
+
+    public void removeDestinationCall(DestinationCall destinationCall) {
+        checkNotNull(destinationCall);
 
         callLock.lock();
-        calls.removeAll(calls.stream().filter(call::equals).collect(Collectors.toList()));
+        boolean isRemoved = destinationCalls.remove(destinationCall);
+        numberOfPendingDestinationCalls = destinationCalls.size();
         callLock.unlock();
 
-        log.info("call has been removed {}", call);
+        if (isRemoved) {
+            log.debug("destination call has been removed {}", destinationCall);
+        }
+    }
+
+    public void removeCall(Call call) {
+        checkNotNull(call);
+
+        if (hallCallRegistry.clear(call)) {
+            callLock.lock();
+            calls.remove(call);
+            callSnapshot = ImmutableList.copyOf(calls);
+            callLock.unlock();
+
+            log.debug("call has been removed {}", call);
+        }
     }
 
     public void dispatchCall() {
@@ -91,6 +184,8 @@ public class Controller implements Runnable, Interruptible {
         if (!calls.isEmpty()) {
             Call call = calls.poll();
 
+            DispatchDecisionEvent dispatchDecisionEvent = beginDispatchDecisionEvent();
+
             List<Elevator> suitableElevators;
 
             elevatorLock.lock();
@@ -103,18 +198,89 @@ public class Controller implements Runnable, Interruptible {
 
             if (!suitableElevators.isEmpty()) {
                 suitableElevators.get(0).addCall(call);
-                log.info("call has been dispatched {}", call);
+                callSnapshot = ImmutableList.copyOf(calls);
+                numberOfDispatchedCalls++;
+                log.debug("call has been dispatched {}", call);
+
+                if (dispatchDecisionEvent != null) {
+                    dispatchDecisionEvent.end();
+                    if (dispatchDecisionEvent.shouldCommit()) {
+                        dispatchDecisionEvent.callType = "HALL";
+                        dispatchDecisionEvent.floor = call.getTargetFloorNumber();
+                        dispatchDecisionEvent.targetFloor = DispatchDecisionEvent.UNKNOWN_FLOOR;
+                        dispatchDecisionEvent.direction = call.getDirection().name();
+                        dispatchDecisionEvent.candidates = suitableElevators.size();
+                        dispatchDecisionEvent.chosenElevatorId = suitableElevators.get(0).getId();
+                        dispatchDecisionEvent.commit();
+                    }
+                }
             } else {
                 calls.add(call);
             }
         }
 
+        if (!destinationCalls.isEmpty()) {
+            dispatchDestinationCall(destinationCalls.poll());
+            numberOfPendingDestinationCalls = destinationCalls.size();
+        }
+
         callLock.unlock();
     }
 
+    private void dispatchDestinationCall(DestinationCall destinationCall) {
+        DispatchDecisionEvent dispatchDecisionEvent = beginDispatchDecisionEvent();
+
+        Optional<Elevator> suitableElevator;
+        List<Elevator> candidates;
+
+        elevatorLock.lock();
+        candidates = elevators.stream()
+                .filter(i -> i.getDirection().equals(Direction.NONE)
+                        && i.getState().equals(State.STOP))
+                .collect(Collectors.toList());
+        elevatorLock.unlock();
+
+        suitableElevator = candidates.stream()
+                .min(Comparator.comparing(i -> Math.abs(i.getCurrentFloorNumber()
+                        - destinationCall.getStartFloorNumber())));
+
+        if (suitableElevator.isPresent()) {
+            suitableElevator.get().addDestinationCall(destinationCall);
+            numberOfDispatchedCalls++;
+            log.debug("destination call has been dispatched {}", destinationCall);
+
+            if (dispatchDecisionEvent != null) {
+                dispatchDecisionEvent.end();
+                if (dispatchDecisionEvent.shouldCommit()) {
+                    dispatchDecisionEvent.callType = "DESTINATION";
+                    dispatchDecisionEvent.floor = destinationCall.getStartFloorNumber();
+                    dispatchDecisionEvent.targetFloor = destinationCall.getTargetFloorNumber();
+                    dispatchDecisionEvent.direction = destinationCall.getDirection().name();
+                    dispatchDecisionEvent.candidates = candidates.size();
+                    dispatchDecisionEvent.chosenElevatorId = suitableElevator.get().getId();
+                    dispatchDecisionEvent.commit();
+                }
+            }
+        } else {
+            destinationCalls.add(destinationCall);
+        }
+    }
+
+    @Nullable
+    private static DispatchDecisionEvent beginDispatchDecisionEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+
+        DispatchDecisionEvent dispatchDecisionEvent = new DispatchDecisionEvent();
+        dispatchDecisionEvent.begin();
+
+        return dispatchDecisionEvent;
+    }
+
     public void waitCall() {
         callLock.lock();
-        while (calls.isEmpty()) {
+        while (calls.isEmpty() && destinationCalls.isEmpty()) {
             try {
                 controllerStopCondition.await();
             } catch (InterruptedException exception) {
@@ -135,6 +301,22 @@ public class Controller implements Runnable, Interruptible {
         return allCalls;
     }
 
+    public List<Call> peekAllCalls() {
+        return callSnapshot;
+    }
+
+    public List<DestinationCall> getAllDestinationCalls() {
+        callLock.lock();
+        List<DestinationCall> allDestinationCalls = ImmutableList.copyOf(destinationCalls);
+        callLock.unlock();
+
+        return allDestinationCalls;
+    }
+
+    public int getNumberOfPendingCalls() {
+        return hallCallRegistry.getNumberOfLatchedCalls();
+    }
+
     public void turnOff() {
         isRunning = false;
 
@@ -152,7 +334,7 @@ public class Controller implements Runnable, Interruptible {
         turnOn();
 
         while (isRunning) {
-            while (calls.isEmpty()) {
+            while (calls.isEmpty() && destinationCalls.isEmpty()) {
                 waitCall();
             }
             dispatchCall();
@@ -0,0 +1,45 @@
+package org.zadorozhn.building;
+
+import lombok.Getter;
+import lombok.EqualsAndHashCode;
+import org.zadorozhn.building.state.Direction;
+
+import static com.google.common.base.Preconditions.*;
+
+@Getter
+@EqualsAndHashCode
+public class DestinationCall {
+    private final int startFloorNumber;
+    private final int targetFloorNumber;
+    private final Direction direction;
+
+    private DestinationCall(int startFloorNumber, int targetFloorNumber) {
+        checkArgument(startFloorNumber >= Floor.GROUND_FLOOR);
+        checkArgument(targetFloorNumber >= Floor.GROUND_FLOOR);
+        checkArgument(startFloorNumber != targetFloorNumber);
+
+        this.startFloorNumber = startFloorNumber;
+        this.targetFloorNumber = targetFloorNumber;
+        this.direction = targetFloorNumber > startFloorNumber ? Direction.UP : Direction.DOWN;
+    }
+
+    public static DestinationCall of(int startFloorNumber, int targetFloorNumber) {
+        return new DestinationCall(startFloorNumber, targetFloorNumber);
+    }
+
+    public static DestinationCall of(Floor startFloor, Floor targetFloor) {
+        checkNotNull(startFloor);
+        checkNotNull(targetFloor);
+
+        return new DestinationCall(startFloor.getFloorNumber(), targetFloor.getFloorNumber());
+    }
+
+    public Call getStartCall() {
+        return Call.of(startFloorNumber, direction);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(From->%S; To->%S; Direction:%s)", startFloorNumber, targetFloorNumber, direction);
+    }
+}
@@ -4,14 +4,23 @@ import com.google.common.collect.ImmutableList;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.jfr.BoardingEvent;
+import org.zadorozhn.building.jfr.DoorCycleEvent;
+import org.zadorozhn.building.jfr.ElevatorMoveEvent;
+import org.zadorozhn.building.jfr.FlightRecorderSupport;
 import org.zadorozhn.building.state.State;
 import org.zadorozhn.human.Human;
 import org.zadorozhn.util.StatisticsHolder;
+import org.zadorozhn.util.clock.Clock;
 import org.zadorozhn.util.interrupt.Interruptible;
+import org.zadorozhn.util.journal.EventJournal;
+import org.zadorozhn.util.journal.EventType;
+import org.zadorozhn.util.lock.LockRegistry;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -23,38 +32,48 @@ import static com.google.common.base.Preconditions.*;
 @Slf4j
 public class Elevator implements Runnable, Interruptible {
     public static final int MIN_CAPACITY = 0;
+    public static final long NO_OPERATION = -1;
+    public static final long UNASSIGNED_ID = 0;
+    private static final Direction[] CALL_DIRECTIONS = Direction.values();
 
     @Getter
-    private final UUID id;
+    private volatile long id;
     @Getter
     private final int capacity;
     @Getter
     private final int moveSpeed;
     @Getter
     private final int doorWorkSpeed;
-    private final List<Human> passengers;
+    private final Set<Human> passengers;
     private final List<Call> calls;
+    private final List<DestinationCall> destinationCalls;
 
-    private final Condition elevatorStopCondition;
-    private final Lock currentFloorLock;
-    private final Lock peopleLock;
-    private final Lock stateLock;
-    private final Lock callLock;
+    private Condition elevatorStopCondition;
+    private Lock currentFloorLock;
+    private Lock peopleLock;
+    private Lock stateLock;
+    private Lock callLock;
 
     @Getter
-    private final AtomicInteger numberOfDeliveredPeople;
+    private final StatisticsHolder statisticsHolder;
     private final AtomicInteger currentFloorNumber;
     private volatile boolean isRunning;
     private volatile Building building;
+    private volatile Clock clock;
     private volatile Direction direction;
     private volatile State state;
+    @Getter
+    private volatile int load;
+    private volatile int numberOfPeople;
+    @Getter
+    private volatile int numberOfPendingCalls;
 
     private Elevator(int capacity, int currentFloorNumber, int moveSpeed, int doorWorkSpeed) {
         checkArgument(capacity > MIN_CAPACITY);
         checkArgument(moveSpeed >= MIN_SPEED && moveSpeed <= MAX_SPEED);
         checkArgument(doorWorkSpeed >= MIN_SPEED && doorWorkSpeed <= MAX_SPEED);
 
-        this.id = UUID.randomUUID();
+        this.id = UNASSIGNED_ID;
         this.capacity = capacity;
         this.moveSpeed = moveSpeed;
         this.doorWorkSpeed = doorWorkSpeed;
@@ -66,13 +85,14 @@ public class Elevator implements Runnable, Interruptible {
         this.callLock = new ReentrantLock(true);
         this.elevatorStopCondition = callLock.newCondition();
 
-        this.passengers = new ArrayList<>();
+        this.passengers = new LinkedHashSet<>();
         this.calls = new ArrayList<>();
+        this.destinationCalls = new ArrayList<>();
 
         this.direction = Direction.NONE;
         this.state = State.STOP;
 
-        this.numberOfDeliveredPeople = new AtomicInteger(0);
+        this.statisticsHolder = StatisticsHolder.getEmpty();
     }
 
     public static Elevator of(int capacity) {
@@ -111,10 +131,33 @@ public class Elevator implements Runnable, Interruptible {
 
     public void addTo(Building building) {
         checkNotNull(building);
+        checkState(this.building == null, "elevator %s is already added to a building", id);
+        checkState(!isRunning);
+
+        String lockPrefix = "Building[" + building.getId() + "].Elevator[";
+        long id = building.getIdAllocator().next();
 
+        this.currentFloorLock = LockRegistry.getDefault().newLock(lockPrefix + id + "].currentFloorLock", true);
+        this.peopleLock = LockRegistry.getDefault().newLock(lockPrefix + id + "].peopleLock", true);
+        this.stateLock = LockRegistry.getDefault().newLock(lockPrefix + id + "].stateLock", true);
+        this.callLock = LockRegistry.getDefault().newLock(lockPrefix + id + "].callLock", true);
+        this.elevatorStopCondition = callLock.newCondition();
+        this.id = id;
         this.building = building;
     }
 
+    public void setClock(@Nullable Clock clock) {
+        this.clock = clock;
+    }
+
+    public Clock getClock() {
+        if (clock != null) {
+            return clock;
+        }
+
+        return building == null ? Clock.system() : building.getClock();
+    }
+
     public int getCurrentFloorNumber() {
         currentFloorLock.lock();
         int floor = currentFloorNumber.get();
@@ -180,6 +223,26 @@ public class Elevator implements Runnable, Interruptible {
         return capacity - engagedSpace;
     }
 
+    public State peekState() {
+        return state;
+    }
+
+    public Direction peekDirection() {
+        return direction;
+    }
+
+    public int peekCurrentFloorNumber() {
+        return currentFloorNumber.get();
+    }
+
+    public int peekNumberOfPeople() {
+        return numberOfPeople;
+    }
+
+    public long getNumberOfDeliveredPeople() {
+        return statisticsHolder.getNumberOfDeliveredPeople();
+    }
+
     public boolean isRunning() {
         stateLock.lock();
         boolean result = isRunning;
@@ -204,11 +267,32 @@ public class Elevator implements Runnable, Interruptible {
         return list;
     }
 
+    public List<DestinationCall> getDestinationCalls() {
+        callLock.lock();
+        List<DestinationCall> list = ImmutableList.copyOf(destinationCalls);
+        callLock.unlock();
+
+        return list;
+    }
+
+    public void addDestinationCall(DestinationCall destinationCall) {
+        checkNotNull(destinationCall);
+
+        callLock.lock();
+        destinationCalls.add(destinationCall);
+        callLock.unlock();
+
+        addCall(destinationCall.getStartCall());
+
+        log.debug("elevator assigned to destination group {}", destinationCall);
+    }
+
     public void addCall(Call call) {
         checkNotNull(call);
 
         callLock.lock();
         calls.add(call);
+        numberOfPendingCalls = calls.size();
         elevatorStopCondition.signal();
         callLock.unlock();
 
@@ -220,25 +304,31 @@ public class Elevator implements Runnable, Interruptible {
         currentFloorLock.unlock();
         stateLock.unlock();
 
-        log.info("elevator called to {}", call);
+        log.debug("elevator called to {}", call);
     }
 
     public void goUp() {
         checkState(getCurrentFloorNumber() < building.getNumberOfFloors());
 
+        ElevatorMoveEvent moveEvent = beginMoveEvent();
+
         stateLock.lock();
         direction = Direction.UP;
-        state = State.MOVE;
+        setState(State.MOVE);
         stateLock.unlock();
 
         currentFloorLock.lock();
         currentFloorNumber.incrementAndGet();
         currentFloorLock.unlock();
 
-        StatisticsHolder.getInstance().incrementNumberOfPassedFloors();
+        statisticsHolder.incrementNumberOfPassedFloors();
+        if (building != null) {
+            building.getWindowedStatistics().recordPassedFloor(getClock().currentTimeMillis());
+            journal(EventType.PASSED_FLOOR, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        }
 
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - moveSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - moveSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot go up, cause it was interrupted");
             log.error(exception.getMessage());
@@ -248,25 +338,33 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator moved to floor number {}", currentFloorNumber);
+        commitMoveEvent(moveEvent, Direction.UP);
+
+        log.debug("elevator moved to floor number {}", currentFloorNumber);
     }
 
     public void goDown() {
         checkState(currentFloorNumber.get() > Floor.GROUND_FLOOR);
 
+        ElevatorMoveEvent moveEvent = beginMoveEvent();
+
         stateLock.lock();
         direction = Direction.DOWN;
-        state = State.MOVE;
+        setState(State.MOVE);
         stateLock.unlock();
 
         currentFloorLock.lock();
         currentFloorNumber.decrementAndGet();
         currentFloorLock.unlock();
 
-        StatisticsHolder.getInstance().incrementNumberOfPassedFloors();
+        statisticsHolder.incrementNumberOfPassedFloors();
+        if (building != null) {
+            building.getWindowedStatistics().recordPassedFloor(getClock().currentTimeMillis());
+            journal(EventType.PASSED_FLOOR, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        }
 
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - moveSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - moveSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot go down, cause it was interrupted");
             log.error(exception.getMessage());
@@ -276,16 +374,24 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator moved to floor number {}", currentFloorNumber);
+        commitMoveEvent(moveEvent, Direction.DOWN);
+
+        log.debug("elevator moved to floor number {}", currentFloorNumber);
     }
 
     public void openDoor() {
+        DoorCycleEvent doorCycleEvent = beginDoorCycleEvent();
+
         stateLock.lock();
-        state = State.OPEN_DOOR;
+        setState(State.OPEN_DOOR);
         stateLock.unlock();
 
+        if (building != null) {
+            journal(EventType.DOOR_OPEN, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        }
+
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot open door, cause it was interrupted");
             log.error(exception.getMessage());
@@ -295,7 +401,9 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator has opened his door");
+        commitDoorCycleEvent(doorCycleEvent, State.OPEN_DOOR);
+
+        log.debug("elevator has opened his door");
     }
 
     public void pickUpHuman(Human human) {
@@ -307,8 +415,16 @@ public class Elevator implements Runnable, Interruptible {
         }
         stateLock.unlock();
 
+        human.board(getClock().currentTimeMillis());
+        if (building != null) {
+            building.getWindowedStatistics().recordBoarding(human.getBoardingTime(), human.getWaitTime());
+            journal(EventType.BOARDING, human.getSsn(), EventJournal.toValue(human.getWaitTime()));
+        }
+
         peopleLock.lock();
         passengers.add(human);
+        load += human.getWeight();
+        numberOfPeople = passengers.size();
         peopleLock.unlock();
 
         getController().removeCall(Call.of(getCurrentFloorNumber(), human.getCall().getDirection()));
@@ -316,7 +432,7 @@ public class Elevator implements Runnable, Interruptible {
         addCall(human.getCall());
 
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot pickup human, cause it was interrupted");
             log.error(exception.getMessage());
@@ -326,7 +442,7 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator pick up the next human: {}", human);
+        log.debug("elevator pick up the next human: {}", human);
     }
 
     public void disembark(Human human) {
@@ -335,13 +451,21 @@ public class Elevator implements Runnable, Interruptible {
 
         peopleLock.lock();
         passengers.remove(human);
+        load -= human.getWeight();
+        numberOfPeople = passengers.size();
         peopleLock.unlock();
 
-        StatisticsHolder.getInstance().incrementNumberOfDeliveredPeople();
-        numberOfDeliveredPeople.incrementAndGet();
+        human.alight(getClock().currentTimeMillis());
+        if (building != null) {
+            building.getLatencyStatistics().record(human);
+            building.getWindowedStatistics().recordDelivery(human.getAlightingTime());
+            journal(EventType.ALIGHTING, human.getSsn(), EventJournal.toValue(human.getRideTime()));
+        }
+
+        statisticsHolder.incrementNumberOfDeliveredPeople();
 
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot disembark human, cause it was interrupted");
             log.error(exception.getMessage());
@@ -351,7 +475,7 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator disembark the next human: {}", human);
+        log.debug("elevator disembark the next human: {}", human);
     }
 
     public boolean checkFloor() {
@@ -379,15 +503,37 @@ public class Elevator implements Runnable, Interruptible {
     }
 
     public void load() {
+        BoardingEvent boardingEvent = FlightRecorderSupport.isAvailable() ? new BoardingEvent() : null;
+        boolean isRecorded = boardingEvent != null && boardingEvent.isEnabled();
+        long numberOfDeliveredPeople = isRecorded ? getNumberOfDeliveredPeople() : 0;
+        int numberOfPeople = isRecorded ? getNumberOfPeople() : 0;
+        if (isRecorded) {
+            boardingEvent.begin();
+        }
+
         stateLock.lock();
-        state = State.LOAD;
+        setState(State.LOAD);
         stateLock.unlock();
 
         handleDisembark();
         handleLoadDirectionState();
         handleEmbark();
+        handleDestinationEmbark();
+        handleRecall();
+
+        if (isRecorded) {
+            boardingEvent.end();
+            if (boardingEvent.shouldCommit()) {
+                boardingEvent.elevatorId = id;
+                boardingEvent.floor = currentFloorNumber.get();
+                boardingEvent.alighted = (int) (getNumberOfDeliveredPeople() - numberOfDeliveredPeople);
+                boardingEvent.boarded = getNumberOfPeople() - numberOfPeople + boardingEvent.alighted;
+                boardingEvent.load = load;
+                boardingEvent.commit();
+            }
+        }
 
-        log.info("elevator finishes load");
+        log.debug("elevator finishes load");
     }
 
     private void handleDisembark() {
@@ -399,14 +545,14 @@ public class Elevator implements Runnable, Interruptible {
 
         peopleForDisembark.forEach(this::disembark);
 
-        log.info("elevator has finished disembarking");
+        log.debug("elevator has finished disembarking");
     }
 
     private void handleLoadDirectionState() {
         peopleLock.lock();
         stateLock.lock();
         if (passengers.isEmpty() && calls.isEmpty()) {
-            log.info("elevator is empty");
+            log.debug("elevator is empty");
             direction = Direction.NONE;
         } else if (passengers.isEmpty()) {
             direction = getDestinationDirection();
@@ -438,14 +584,16 @@ public class Elevator implements Runnable, Interruptible {
                     getCurrentFloor().getFloorLock().unlock();
                     pickUpHuman(human);
 
-                    log.info("human has been picked up {}", human);
+                    log.debug("human has been picked up {}", human);
                 } else {
                     stateLock.unlock();
                     getCurrentFloor().getFloorLock().unlock();
-                    getController().addCall(Call.of(currentFloorNumber.get(), human.getCall().getDirection()));
+                    getController().relatchCall(Call.of(currentFloorNumber.get(), human.getCall().getDirection()));
 
-                    log.info("elevator cannot pick up human, 'cause there is not enough space {}", human);
-                    log.info("elevator recall {}", human.getCall());
+                    if (log.isDebugEnabled()) {
+                        log.debug("elevator cannot pick up human, 'cause there is not enough space {}", human);
+                        log.debug("elevator recall {}", human.getCall());
+                    }
 
                     isEmbarking = false;
                 }
@@ -458,13 +606,131 @@ public class Elevator implements Runnable, Interruptible {
         }
     }
 
+    private void handleDestinationEmbark() {
+        callLock.lock();
+        List<DestinationCall> currentFloorDestinationCalls = destinationCalls.stream()
+                .filter(i -> i.getStartFloorNumber() == currentFloorNumber.get())
+                .collect(Collectors.toList());
+        destinationCalls.removeAll(currentFloorDestinationCalls);
+        callLock.unlock();
+
+        for (DestinationCall destinationCall : currentFloorDestinationCalls) {
+            Floor floor = getCurrentFloor();
+            Human human = floor.getFirstHumanByDestination(destinationCall.getTargetFloorNumber());
+
+            while (state == State.LOAD && human != null && human.getWeight() <= getFreeSpace()
+                    && (getDirection().equals(Direction.NONE) || getDirection().equals(destinationCall.getDirection()))) {
+                human = floor.pollHumanByDestination(destinationCall.getTargetFloorNumber());
+
+                if (human != null) {
+                    pickUpHuman(human);
+                    human = floor.getFirstHumanByDestination(destinationCall.getTargetFloorNumber());
+                }
+            }
+
+            if (human != null) {
+                getController().addDestinationCall(destinationCall);
+
+                log.debug("elevator cannot pick up the whole destination group {}", destinationCall);
+            }
+        }
+    }
+
+    private void handleRecall() {
+        Floor floor = getCurrentFloor();
+
+        if (floor.getNumberOfPeople(Direction.UP) > 0) {
+            getController().relatchCall(Call.of(floor.getFloorNumber(), Direction.UP));
+        }
+        if (floor.getNumberOfPeople(Direction.DOWN) > 0) {
+            getController().relatchCall(Call.of(floor.getFloorNumber(), Direction.DOWN));
+        }
+    }
+
+    private void setState(State state) {
+        boolean wasBusy = isBusy(this.state);
+        this.state = state;
+
+        if (building != null && wasBusy != isBusy(state)) {
+            building.getWindowedStatistics().recordBusyElevators(getClock().currentTimeMillis(), wasBusy ? -1 : 1);
+        }
+    }
+
+    private void journal(EventType type, long passengerId, int value) {
+        building.getJournal().record(type, getClock().currentTimeMillis(), id, currentFloorNumber.get(),
+                passengerId, value);
+    }
+
+    @Nullable
+    private static ElevatorMoveEvent beginMoveEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+
+        ElevatorMoveEvent moveEvent = new ElevatorMoveEvent();
+        moveEvent.begin();
+
+        return moveEvent;
+    }
+
+    @Nullable
+    private static DoorCycleEvent beginDoorCycleEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+
+        DoorCycleEvent doorCycleEvent = new DoorCycleEvent();
+        doorCycleEvent.begin();
+
+        return doorCycleEvent;
+    }
+
+    private void commitMoveEvent(@Nullable ElevatorMoveEvent moveEvent, Direction direction) {
+        if (moveEvent == null) {
+            return;
+        }
+
+        moveEvent.end();
+        if (moveEvent.shouldCommit()) {
+            moveEvent.elevatorId = id;
+            moveEvent.toFloor = currentFloorNumber.get();
+            moveEvent.fromFloor = direction == Direction.UP ? moveEvent.toFloor - 1 : moveEvent.toFloor + 1;
+            moveEvent.direction = direction.name();
+            moveEvent.commit();
+        }
+    }
+
+    private void commitDoorCycleEvent(@Nullable DoorCycleEvent doorCycleEvent, State state) {
+        if (doorCycleEvent == null) {
+            return;
+        }
+
+        doorCycleEvent.end();
+        if (doorCycleEvent.shouldCommit()) {
+            doorCycleEvent.elevatorId = id;
+            doorCycleEvent.floor = currentFloorNumber.get();
+            doorCycleEvent.action = state.name();
+            doorCycleEvent.commit();
+        }
+    }
+
+    private static boolean isBusy(State state) {
+        return state != State.STOP && state != State.END;
+    }
+
     public void closeDoor() {
+        DoorCycleEvent doorCycleEvent = beginDoorCycleEvent();
+
         stateLock.lock();
-        state = State.CLOSE_DOOR;
+        setState(State.CLOSE_DOOR);
         stateLock.unlock();
 
+        if (building != null) {
+            journal(EventType.DOOR_CLOSE, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        }
+
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
+            getClock().sleep(DEFAULT_OPERATION_TIME - doorWorkSpeed);
         } catch (InterruptedException exception){
             log.error("elevator cannot close door, cause it was interrupted");
             log.error(exception.getMessage());
@@ -474,19 +740,25 @@ public class Elevator implements Runnable, Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("elevator has closed his door");
-    }
+        commitDoorCycleEvent(doorCycleEvent, State.CLOSE_DOOR);
 
-    public void stop() {
-        callLock.lock();
+        log.debug("elevator has closed his door");
+    }
 
+    public void idle() {
         stateLock.lock();
         direction = Direction.NONE;
-        state = State.STOP;
+        setState(State.STOP);
         stateLock.unlock();
+    }
+
+    public void stop() {
+        callLock.lock();
+
+        idle();
 
         while (calls.isEmpty()) {
-            log.info("elevator stopped");
+            log.debug("elevator stopped");
 
             try {
                 elevatorStopCondition.await();
@@ -506,7 +778,7 @@ public class Elevator implements Runnable, Interruptible {
     public void end() {
         stateLock.lock();
         direction = Direction.NONE;
-        state = State.END;
+        setState(State.END);
         stateLock.unlock();
 
         log.warn("elevator has finished his way");
@@ -514,13 +786,24 @@ public class Elevator implements Runnable, Interruptible {
 
     public boolean removeExecutedCalls() {
         boolean hasExecutedCalls = false;
+        int floorNumber = currentFloorNumber.get();
 
-        callLock.lock();
-        List<Call> currentFloorCalls = calls.stream()
-                .filter(i -> i.getTargetFloorNumber() == currentFloorNumber.get())
-                .collect(Collectors.toList());
-        hasExecutedCalls = calls.removeAll(currentFloorCalls);
-        callLock.unlock();
+        for (Direction callDirection : CALL_DIRECTIONS) {
+            Call call = Call.of(floorNumber, callDirection);
+            boolean isExecuted = false;
+
+            callLock.lock();
+            while (calls.remove(call)) {
+                isExecuted = true;
+            }
+            numberOfPendingCalls = calls.size();
+            callLock.unlock();
+
+            if (isExecuted) {
+                getController().removeCall(call);
+                hasExecutedCalls = true;
+            }
+        }
 
         return hasExecutedCalls;
     }
@@ -539,38 +822,49 @@ public class Elevator implements Runnable, Interruptible {
         log.info("elevator has been started");
     }
 
-    @Override
-    public void run() {
+    public long step() {
+        long startTime = getClock().currentTimeMillis();
         boolean areWaitingPeopleOnThisFloor;
         boolean hasExecutedCalls;
         int currentCallFloorNumber;
 
+        callLock.lock();
+        if (calls.isEmpty()) {
+            callLock.unlock();
+            idle();
+
+            return NO_OPERATION;
+        }
+
+        hasExecutedCalls = removeExecutedCalls();
+        currentCallFloorNumber = calls.isEmpty()
+                ? currentFloorNumber.get()
+                : calls.get(0).getTargetFloorNumber();
+
+        callLock.unlock();
+
+        areWaitingPeopleOnThisFloor = checkFloor();
+
+        if (hasExecutedCalls || areWaitingPeopleOnThisFloor) {
+            openDoor();
+            load();
+            closeDoor();
+        } else if (currentCallFloorNumber > currentFloorNumber.get()) {
+            goUp();
+        } else if (currentCallFloorNumber < currentFloorNumber.get()) {
+            goDown();
+        }
+
+        return getClock().currentTimeMillis() - startTime;
+    }
+
+    @Override
+    public void run() {
         turnOn();
 
         while (isRunning) {
-            callLock.lock();
-            if (calls.isEmpty()) {
-                callLock.unlock();
+            if (step() == NO_OPERATION) {
                 stop();
-            } else {
-                hasExecutedCalls = removeExecutedCalls();
-                currentCallFloorNumber = calls.isEmpty()
-                        ? currentFloorNumber.get()
-                        : calls.get(0).getTargetFloorNumber();
-
-                callLock.unlock();
-
-                areWaitingPeopleOnThisFloor = checkFloor();
-
-                if (hasExecutedCalls || areWaitingPeopleOnThisFloor) {
-                    openDoor();
-                    load();
-                    closeDoor();
-                } else if (currentCallFloorNumber > currentFloorNumber.get()) {
-                    goUp();
-                } else if (currentCallFloorNumber < currentFloorNumber.get()) {
-                    goDown();
-                }
             }
         }
 
@@ -582,6 +876,6 @@ public class Elevator implements Runnable, Interruptible {
     @Override
     public String toString() {
         return String.format("State: %s; Direction: %s; Free space: %s; PeopleDelivered: %d; Calls: %s; Passengers: %s; "
-                , getState(), getDirection(), getFreeSpace(), numberOfDeliveredPeople.get(), getCalls(), getPassengers());
+                , getState(), getDirection(), getFreeSpace(), getNumberOfDeliveredPeople(), getCalls(), getPassengers());
     }
 }
\ No newline at end of file
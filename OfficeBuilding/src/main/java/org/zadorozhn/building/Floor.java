@@ -5,32 +5,59 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
+import org.zadorozhn.building.state.OverflowPolicy;
 import org.zadorozhn.human.Human;
+import org.zadorozhn.util.journal.EventJournal;
+import org.zadorozhn.util.journal.EventType;
+import org.zadorozhn.util.lock.LockRegistry;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @Slf4j
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Floor {
     public static final int GROUND_FLOOR = 0;
+    public static final int UNLIMITED_CAPACITY = Integer.MAX_VALUE;
 
     @Getter
+    @EqualsAndHashCode.Include
     private final int floorNumber;
     @Getter
     private final Lock floorLock;
     @Getter
     private final Condition floorLockCondition;
+    @Getter
+    @EqualsAndHashCode.Include
     private final Building building;
     private final Queue<Human> queueUp;
     private final Queue<Human> queueDown;
+    private final AtomicInteger numberOfPeopleUp;
+    private final AtomicInteger numberOfPeopleDown;
+    private final Map<Integer, Queue<Human>> destinationQueues;
+    private final AtomicInteger numberOfPeopleByDestination;
+    private final AtomicInteger peakQueueDepth;
+    private final AtomicInteger numberOfBalkedPeople;
+    private final AtomicInteger numberOfDivertedPeople;
+
+    @Getter
+    private volatile int capacity;
+    @Getter
+    private volatile OverflowPolicy overflowPolicy;
 
     private Floor(int floorNumber, Building building) {
         checkArgument(floorNumber >= GROUND_FLOOR);
@@ -41,8 +68,19 @@ public class Floor {
         this.building = building;
         this.queueUp = new ConcurrentLinkedQueue<>();
         this.queueDown = new ConcurrentLinkedQueue<>();
-
-        this.floorLock = new ReentrantLock(true);
+        this.numberOfPeopleUp = new AtomicInteger(0);
+        this.numberOfPeopleDown = new AtomicInteger(0);
+        this.destinationQueues = new ConcurrentHashMap<>();
+        this.numberOfPeopleByDestination = new AtomicInteger(0);
+        this.peakQueueDepth = new AtomicInteger(0);
+        this.numberOfBalkedPeople = new AtomicInteger(0);
+        this.numberOfDivertedPeople = new AtomicInteger(0);
+
+        this.capacity = UNLIMITED_CAPACITY;
+        this.overflowPolicy = OverflowPolicy.BLOCK;
+
+        this.floorLock = LockRegistry.getDefault().newLock("Building[" + building.getId() + "].Floor[" + floorNumber
+                + "].floorLock", true);
         this.floorLockCondition = floorLock.newCondition();
     }
 
@@ -63,30 +101,267 @@ public class Floor {
         getController().addCall(Call.of(floorNumber, direction));
     }
 
-    public void addHuman(Human human) {
+    public void recallElevator(Direction direction) {
+        checkNotNull(direction);
+        checkNotNull(getController());
+
+        getController().relatchCall(Call.of(floorNumber, direction));
+    }
+
+    public void setCapacity(int capacity, OverflowPolicy overflowPolicy) {
+        checkArgument(capacity > 0);
+        checkNotNull(overflowPolicy);
+
+        floorLock.lock();
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        floorLockCondition.signalAll();
+        floorLock.unlock();
+    }
+
+    public boolean addHuman(Human human) {
+        checkNotNull(human);
+
+        if (getController().getDispatchMode() == DispatchMode.DESTINATION) {
+            return addHumanByDestination(human);
+        }
+
+        floorLock.lock();
+        boolean isAdded = awaitSpace(human);
+        if (isAdded) {
+            admit(human);
+            Direction direction = human.getCall().getDirection();
+            if (direction == Direction.UP) {
+                enqueue(queueUp, numberOfPeopleUp, human);
+            } else if (direction == Direction.DOWN) {
+                enqueue(queueDown, numberOfPeopleDown, human);
+            }
+            updatePeakQueueDepth();
+            recordArrivals(1);
+        }
+        floorLock.unlock();
+
+        if (isAdded) {
+            log.debug("human has been added to {}", human);
+        }
+
+        return isAdded;
+    }
+
+    public int addHumans(Collection<Human> humans) {
+        checkNotNull(humans);
+        humans.forEach(human -> checkNotNull(human));
+
+        if (getController().getDispatchMode() == DispatchMode.DESTINATION) {
+            return addHumansByDestination(humans);
+        }
+
+        List<Human> humansUp = new ArrayList<>(humans.size());
+        List<Human> humansDown = new ArrayList<>(humans.size());
+        for (Human human : humans) {
+            if (human.getCall().getDirection() == Direction.UP) {
+                humansUp.add(human);
+            } else if (human.getCall().getDirection() == Direction.DOWN) {
+                humansDown.add(human);
+            }
+        }
+
+        List<Human> addedHumans;
+
+        floorLock.lock();
+        if (getQueueDepth() + humans.size() <= capacity) {
+            humans.forEach(this::admit);
+            enqueueAll(queueUp, numberOfPeopleUp, humansUp, Direction.UP);
+            enqueueAll(queueDown, numberOfPeopleDown, humansDown, Direction.DOWN);
+            addedHumans = new ArrayList<>(humans);
+        } else {
+            addedHumans = new ArrayList<>(humans.size());
+            for (Human human : humans) {
+                if (awaitSpace(human)) {
+                    admit(human);
+                    if (human.getCall().getDirection() == Direction.UP) {
+                        enqueue(queueUp, numberOfPeopleUp, human);
+                    } else {
+                        enqueue(queueDown, numberOfPeopleDown, human);
+                    }
+                    addedHumans.add(human);
+                }
+            }
+        }
+        updatePeakQueueDepth();
+        recordArrivals(addedHumans.size());
+        floorLock.unlock();
+
+        log.debug("{} people have been added to floor {}", addedHumans.size(), floorNumber);
+
+        return addedHumans.size();
+    }
+
+    public int addHumansByDestination(Collection<Human> humans) {
+        checkNotNull(humans);
+        humans.forEach(human -> checkNotNull(human));
+
+        Map<Integer, List<Human>> humansByDestination = humans.stream()
+                .collect(Collectors.groupingBy(i -> i.getCall().getTargetFloorNumber(), LinkedHashMap::new,
+                        Collectors.toList()));
+
+        floorLock.lock();
+        if (getQueueDepth() + humans.size() > capacity) {
+            floorLock.unlock();
+
+            return (int) humans.stream().filter(this::addHumanByDestination).count();
+        }
+
+        humans.forEach(this::admit);
+        humansByDestination.forEach((targetFloorNumber, group) -> {
+            Queue<Human> queue = destinationQueues.computeIfAbsent(targetFloorNumber,
+                    i -> new ConcurrentLinkedQueue<>());
+            if (queue.isEmpty()) {
+                getController().addDestinationCall(DestinationCall.of(floorNumber, targetFloorNumber));
+            }
+            queue.addAll(group);
+        });
+        numberOfPeopleByDestination.addAndGet(humans.size());
+        updatePeakQueueDepth();
+        recordArrivals(humans.size());
+        floorLock.unlock();
+
+        log.debug("{} people have been added to destination groups of floor {}", humans.size(), floorNumber);
+
+        return humans.size();
+    }
+
+    public boolean addHumanByDestination(Human human) {
         checkNotNull(human);
 
+        int targetFloorNumber = human.getCall().getTargetFloorNumber();
+
         floorLock.lock();
+        boolean isAdded = awaitSpace(human);
+        if (isAdded) {
+            admit(human);
+            Queue<Human> queue = destinationQueues.computeIfAbsent(targetFloorNumber,
+                    i -> new ConcurrentLinkedQueue<>());
+            if (queue.isEmpty()) {
+                getController().addDestinationCall(DestinationCall.of(floorNumber, targetFloorNumber));
+            }
+            queue.add(human);
+            numberOfPeopleByDestination.incrementAndGet();
+            updatePeakQueueDepth();
+            recordArrivals(1);
+        }
+        floorLock.unlock();
+
+        if (isAdded) {
+            log.debug("human has been added to destination group {}", human);
+        }
+
+        return isAdded;
+    }
+
+    public boolean removeHuman(Human human) {
+        checkNotNull(human);
+
+        boolean isRemoved;
+        int targetFloorNumber = human.getCall().getTargetFloorNumber();
         Direction direction = human.getCall().getDirection();
-        if (direction == Direction.UP) {
-            enqueue(queueUp, human);
-        } else if (direction == Direction.DOWN) {
-            enqueue(queueDown, human);
+        Queue<Human> destinationQueue = destinationQueues.get(targetFloorNumber);
+
+        floorLock.lock();
+        if (destinationQueue != null && destinationQueue.remove(human)) {
+            isRemoved = true;
+            numberOfPeopleByDestination.decrementAndGet();
+            if (destinationQueue.isEmpty()) {
+                getController().removeDestinationCall(DestinationCall.of(floorNumber, targetFloorNumber));
+            }
+        } else if (direction == Direction.UP && queueUp.remove(human)) {
+            isRemoved = true;
+            numberOfPeopleUp.decrementAndGet();
+            if (queueUp.isEmpty()) {
+                getController().removeCall(Call.of(floorNumber, direction));
+            }
+        } else if (direction == Direction.DOWN && queueDown.remove(human)) {
+            isRemoved = true;
+            numberOfPeopleDown.decrementAndGet();
+            if (queueDown.isEmpty()) {
+                getController().removeCall(Call.of(floorNumber, direction));
+            }
+        } else {
+            isRemoved = false;
+        }
+        if (isRemoved) {
+            floorLockCondition.signal();
+            recordDepartures(1);
         }
         floorLock.unlock();
 
-        log.info("human has been added to {}", human);
+        if (isRemoved) {
+            log.debug("human has been removed {}", human);
+        }
+
+        return isRemoved;
+    }
+
+    public int getQueueDepth() {
+        return numberOfPeopleUp.get() + numberOfPeopleDown.get() + numberOfPeopleByDestination.get();
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    public int getNumberOfBalkedPeople() {
+        return numberOfBalkedPeople.get();
+    }
+
+    public int getNumberOfDivertedPeople() {
+        return numberOfDivertedPeople.get();
+    }
+
+    public int getNumberOfPeopleByDestination() {
+        return numberOfPeopleByDestination.get();
+    }
+
+    @Nullable
+    public Human getFirstHumanByDestination(int targetFloorNumber) {
+        Queue<Human> queue = destinationQueues.get(targetFloorNumber);
+
+        return queue == null ? null : queue.peek();
+    }
+
+    @Nullable
+    public Human pollHumanByDestination(int targetFloorNumber) {
+        Human human = null;
+
+        floorLock.lock();
+        Queue<Human> queue = destinationQueues.get(targetFloorNumber);
+        if (queue != null) {
+            human = queue.poll();
+        }
+        if (human != null) {
+            numberOfPeopleByDestination.decrementAndGet();
+            floorLockCondition.signal();
+            recordDepartures(1);
+
+            log.debug("human has been polled from destination group {}", human);
+        }
+        floorLock.unlock();
+
+        return human;
+    }
+
+    public List<Human> getHumanQueueByDestination(int targetFloorNumber) {
+        Queue<Human> queue = destinationQueues.get(targetFloorNumber);
+
+        return queue == null ? ImmutableList.of() : ImmutableList.copyOf(queue);
     }
 
     public int getNumberOfPeople(Direction direction) {
         checkNotNull(direction);
 
-        floorLock.lock();
         direction = resolveDirection(direction);
-        int count = direction.equals(Direction.UP) ? queueUp.size() : queueDown.size();
-        floorLock.unlock();
 
-        return count;
+        return direction.equals(Direction.UP) ? numberOfPeopleUp.get() : numberOfPeopleDown.get();
     }
 
     @Nullable
@@ -110,14 +385,22 @@ public class Floor {
         floorLock.lock();
         direction = resolveDirection(direction);
         if (getFirstHuman(direction) != null) {
-            human = direction.equals(Direction.UP) ? queueUp.poll() : queueDown.poll();
+            if (direction.equals(Direction.UP)) {
+                human = queueUp.poll();
+                numberOfPeopleUp.decrementAndGet();
+            } else {
+                human = queueDown.poll();
+                numberOfPeopleDown.decrementAndGet();
+            }
+            floorLockCondition.signal();
+            recordDepartures(1);
 
             if (getFirstHuman(direction) != null
                     && getController().canCallElevator(getFirstHuman(direction).getCall())) {
-                callElevator(direction);
+                recallElevator(direction);
             }
 
-            log.info("human has been polled {}", human);
+            log.debug("human has been polled {}", human);
         }
         floorLock.unlock();
 
@@ -127,23 +410,96 @@ public class Floor {
     public List<Human> getHumanQueue(Direction direction) {
         checkNotNull(direction);
 
-        floorLock.lock();
         direction = resolveDirection(direction);
-        floorLock.unlock();
 
         return direction.equals(Direction.UP) ? ImmutableList.copyOf(queueUp) : ImmutableList.copyOf(queueDown);
     }
 
-    private void enqueue(Queue<Human> queue, Human human) {
+    private boolean awaitSpace(Human human) {
+        while (overflowPolicy == OverflowPolicy.BLOCK && getQueueDepth() >= capacity) {
+            try {
+                floorLockCondition.await();
+            } catch (InterruptedException exception) {
+                log.error("floor cannot wait for free space, cause it was interrupted");
+                log.error(exception.getMessage());
+
+                Thread.currentThread().interrupt();
+
+                return false;
+            }
+        }
+
+        if (getQueueDepth() >= capacity) {
+            if (overflowPolicy == OverflowPolicy.STAIRS) {
+                numberOfDivertedPeople.incrementAndGet();
+                building.getStatisticsHolder().incrementNumberOfDivertedPeople();
+                journal(EventType.DIVERSION, human, building.getClock().currentTimeMillis());
+
+                log.debug("floor is full, human has been diverted to stairs {}", human);
+            } else {
+                numberOfBalkedPeople.incrementAndGet();
+                building.getStatisticsHolder().incrementNumberOfBalkedPeople();
+                journal(EventType.BALK, human, building.getClock().currentTimeMillis());
+
+                log.debug("floor is full, human has balked {}", human);
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private void admit(Human human) {
+        if (!human.hasInfinitePatience()) {
+            building.getRenegingTimer().schedule(human);
+        }
+        journal(EventType.ARRIVAL, human, human.getArrivalTime());
+    }
+
+    private void journal(EventType type, Human human, long time) {
+        building.getJournal().record(type, time, EventJournal.NO_ELEVATOR, floorNumber, human.getSsn(),
+                human.getCall().getTargetFloorNumber());
+    }
+
+    private void updatePeakQueueDepth() {
+        peakQueueDepth.accumulateAndGet(getQueueDepth(), Math::max);
+    }
+
+    private void recordArrivals(int numberOfPeople) {
+        if (numberOfPeople > 0) {
+            building.getWindowedStatistics().recordArrivals(building.getClock().currentTimeMillis(), numberOfPeople);
+        }
+    }
+
+    private void recordDepartures(int numberOfPeople) {
+        building.getWindowedStatistics().recordDepartures(building.getClock().currentTimeMillis(), numberOfPeople);
+    }
+
+    private void enqueue(Queue<Human> queue, AtomicInteger numberOfPeople, Human human) {
         if (queue.isEmpty()) {
             human.pushButton();
         }
         queue.add(human);
+        numberOfPeople.incrementAndGet();
+    }
+
+    private void enqueueAll(Queue<Human> queue, AtomicInteger numberOfPeople, List<Human> humans,
+                            Direction direction) {
+        if (humans.isEmpty()) {
+            return;
+        }
+
+        if (queue.isEmpty()) {
+            callElevator(direction);
+        }
+        queue.addAll(humans);
+        numberOfPeople.addAndGet(humans.size());
     }
 
     private Direction resolveDirection(Direction direction) {
         if (direction == Direction.NONE) {
-            return queueUp.size() > queueDown.size() ? Direction.UP : Direction.DOWN;
+            return numberOfPeopleUp.get() > numberOfPeopleDown.get() ? Direction.UP : Direction.DOWN;
         }
 
         return direction;
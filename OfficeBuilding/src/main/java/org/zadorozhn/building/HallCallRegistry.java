@@ -0,0 +1,127 @@
+package org.zadorozhn.building;
+
+import org.zadorozhn.building.jfr.FlightRecorderSupport;
+import org.zadorozhn.building.jfr.HallCallEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class HallCallRegistry {
+    private final Map<Call, AtomicBoolean> buttons;
+    private final Map<Call, HallCallEvent> hallCallEvents;
+    private final AtomicInteger numberOfLatchedCalls;
+    private final AtomicLong numberOfPresses;
+    private final AtomicLong numberOfDuplicates;
+
+    private HallCallRegistry() {
+        this.buttons = new ConcurrentHashMap<>();
+        this.hallCallEvents = new ConcurrentHashMap<>();
+        this.numberOfLatchedCalls = new AtomicInteger(0);
+        this.numberOfPresses = new AtomicLong(0);
+        this.numberOfDuplicates = new AtomicLong(0);
+    }
+
+    public static HallCallRegistry getEmpty() {
+        return new HallCallRegistry();
+    }
+
+    public boolean latch(Call call) {
+        checkNotNull(call);
+
+        numberOfPresses.incrementAndGet();
+        boolean isLatched = getButton(call).compareAndSet(false, true);
+        if (isLatched) {
+            numberOfLatchedCalls.incrementAndGet();
+            beginHallCallEvent(call);
+        } else {
+            numberOfDuplicates.incrementAndGet();
+        }
+
+        return isLatched;
+    }
+
+    public boolean relatch(Call call) {
+        checkNotNull(call);
+
+        boolean isLatched = getButton(call).compareAndSet(false, true);
+        if (isLatched) {
+            numberOfLatchedCalls.incrementAndGet();
+            beginHallCallEvent(call);
+        }
+
+        return isLatched;
+    }
+
+    public boolean clear(Call call) {
+        checkNotNull(call);
+
+        AtomicBoolean button = buttons.get(call);
+        boolean isCleared = button != null && button.compareAndSet(true, false);
+        if (isCleared) {
+            numberOfLatchedCalls.decrementAndGet();
+            commitHallCallEvent(call);
+        }
+
+        return isCleared;
+    }
+
+    public boolean isLatched(Call call) {
+        checkNotNull(call);
+
+        AtomicBoolean button = buttons.get(call);
+
+        return button != null && button.get();
+    }
+
+    public int getNumberOfLatchedCalls() {
+        return numberOfLatchedCalls.get();
+    }
+
+    public long getNumberOfPresses() {
+        return numberOfPresses.get();
+    }
+
+    public long getNumberOfDuplicates() {
+        return numberOfDuplicates.get();
+    }
+
+    public double getDuplicateRate() {
+        long presses = numberOfPresses.get();
+
+        return presses == 0 ? 0 : (double) numberOfDuplicates.get() / presses;
+    }
+
+    private void beginHallCallEvent(Call call) {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return;
+        }
+
+        HallCallEvent hallCallEvent = new HallCallEvent();
+        if (hallCallEvent.isEnabled()) {
+            hallCallEvent.begin();
+            hallCallEvents.put(call, hallCallEvent);
+        }
+    }
+
+    private void commitHallCallEvent(Call call) {
+        HallCallEvent hallCallEvent = hallCallEvents.remove(call);
+        if (hallCallEvent != null) {
+            hallCallEvent.end();
+            if (hallCallEvent.shouldCommit()) {
+                hallCallEvent.floor = call.getTargetFloorNumber();
+                hallCallEvent.direction = call.getDirection().name();
+                hallCallEvent.commit();
+            }
+        }
+    }
+
+    private AtomicBoolean getButton(Call call) {
+        AtomicBoolean button = buttons.get(call);
+
+        return button != null ? button : buttons.computeIfAbsent(call, key -> new AtomicBoolean(false));
+    }
+}
@@ -0,0 +1,28 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.zadorozhn.Boarding")
+@Label("Boarding")
+@Category({"Office Building", "Elevator"})
+@Description("Elevator exchanged passengers at a stop")
+public class BoardingEvent extends Event {
+    @Label("Elevator")
+    public long elevatorId;
+
+    @Label("Floor")
+    public int floor;
+
+    @Label("Boarded")
+    public int boarded;
+
+    @Label("Alighted")
+    public int alighted;
+
+    @Label("Load")
+    public int load;
+}
@@ -0,0 +1,33 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.zadorozhn.DispatchDecision")
+@Label("Dispatch Decision")
+@Category({"Office Building", "Controller"})
+@Description("Controller chose an elevator for a call; the duration is the decision latency")
+public class DispatchDecisionEvent extends Event {
+    public static final int UNKNOWN_FLOOR = -1;
+
+    @Label("Call Type")
+    public String callType;
+
+    @Label("Floor")
+    public int floor;
+
+    @Label("Target Floor")
+    public int targetFloor;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Candidates")
+    public int candidates;
+
+    @Label("Chosen Elevator")
+    public long chosenElevatorId;
+}
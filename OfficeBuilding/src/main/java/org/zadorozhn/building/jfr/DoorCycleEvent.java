@@ -0,0 +1,22 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.zadorozhn.DoorCycle")
+@Label("Door Cycle")
+@Category({"Office Building", "Elevator"})
+@Description("Elevator opened or closed its door")
+public class DoorCycleEvent extends Event {
+    @Label("Elevator")
+    public long elevatorId;
+
+    @Label("Floor")
+    public int floor;
+
+    @Label("Action")
+    public String action;
+}
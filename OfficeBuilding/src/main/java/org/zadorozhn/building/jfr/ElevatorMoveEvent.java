@@ -0,0 +1,25 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.zadorozhn.ElevatorMove")
+@Label("Elevator Move")
+@Category({"Office Building", "Elevator"})
+@Description("Elevator travelled one floor")
+public class ElevatorMoveEvent extends Event {
+    @Label("Elevator")
+    public long elevatorId;
+
+    @Label("From Floor")
+    public int fromFloor;
+
+    @Label("To Floor")
+    public int toFloor;
+
+    @Label("Direction")
+    public String direction;
+}
@@ -0,0 +1,29 @@
+package org.zadorozhn.building.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class FlightRecorderSupport {
+    public static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+
+    private static final boolean IS_AVAILABLE = isEventClassPresent();
+
+    private FlightRecorderSupport() {
+    }
+
+    public static boolean isAvailable() {
+        return IS_AVAILABLE;
+    }
+
+    private static boolean isEventClassPresent() {
+        try {
+            Class.forName(EVENT_CLASS_NAME, false, FlightRecorderSupport.class.getClassLoader());
+
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            log.info("flight recorder events are disabled, {} is not available", EVENT_CLASS_NAME);
+
+            return false;
+        }
+    }
+}
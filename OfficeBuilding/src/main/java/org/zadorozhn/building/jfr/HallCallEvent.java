@@ -0,0 +1,19 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.zadorozhn.HallCall")
+@Label("Hall Call")
+@Category({"Office Building", "Controller"})
+@Description("Hall call lifetime from latch to clear")
+public class HallCallEvent extends Event {
+    @Label("Floor")
+    public int floor;
+
+    @Label("Direction")
+    public String direction;
+}
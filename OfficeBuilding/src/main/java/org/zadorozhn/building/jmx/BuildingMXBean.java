@@ -0,0 +1,27 @@
+package org.zadorozhn.building.jmx;
+
+public interface BuildingMXBean {
+    int getNumberOfFloors();
+
+    int getNumberOfElevators();
+
+    long getNumberOfDeliveredPeople();
+
+    long getNumberOfGeneratedPeople();
+
+    long getNumberOfPassedFloors();
+
+    long getNumberOfBalkedPeople();
+
+    long getNumberOfDivertedPeople();
+
+    long getNumberOfAbandonedPeople();
+
+    long getQueueLength();
+
+    double getDeliveredPerMinute();
+
+    double getPassedFloorsPerMinute();
+
+    double getUtilisation();
+}
@@ -0,0 +1,109 @@
+package org.zadorozhn.building.jmx;
+
+import com.google.common.collect.ImmutableList;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class BuildingManagement {
+    public static final String DOMAIN = "org.zadorozhn";
+
+    private final Building building;
+    private final String name;
+    private final MBeanServer mBeanServer;
+    private final List<ObjectName> objectNames;
+
+    private BuildingManagement(Building building, String name, MBeanServer mBeanServer) {
+        checkNotNull(building);
+        checkNotNull(name);
+        checkNotNull(mBeanServer);
+        checkArgument(!name.isEmpty());
+
+        this.building = building;
+        this.name = name;
+        this.mBeanServer = mBeanServer;
+        this.objectNames = new ArrayList<>();
+    }
+
+    public static BuildingManagement of(Building building, String name) {
+        return new BuildingManagement(building, name, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public static BuildingManagement of(Building building, String name, MBeanServer mBeanServer) {
+        return new BuildingManagement(building, name, mBeanServer);
+    }
+
+    public synchronized BuildingManagement register() {
+        checkState(objectNames.isEmpty(), "building is already registered");
+        checkNotNull(building.getController());
+
+        Map<ObjectName, Object> monitors = new LinkedHashMap<>();
+        monitors.put(getObjectName("Building", null), BuildingMonitor.of(building));
+        monitors.put(getObjectName("Controller", null), ControllerMonitor.of(building.getController()));
+        for (Elevator elevator : building.getElevators()) {
+            monitors.put(getObjectName("Elevator", "id=" + elevator.getId()), ElevatorMonitor.of(elevator));
+        }
+        for (Floor floor : building.getFloors()) {
+            monitors.put(getObjectName("Floor", "number=" + floor.getFloorNumber()), FloorMonitor.of(floor));
+        }
+
+        try {
+            for (Map.Entry<ObjectName, Object> monitor : monitors.entrySet()) {
+                mBeanServer.registerMBean(monitor.getValue(), monitor.getKey());
+                objectNames.add(monitor.getKey());
+            }
+        } catch (JMException exception) {
+            unregister();
+
+            throw new IllegalStateException("building cannot be registered as " + name, exception);
+        }
+
+        log.info("building has been registered as {} with {} mbeans", name, objectNames.size());
+
+        return this;
+    }
+
+    public synchronized void unregister() {
+        for (ObjectName objectName : objectNames) {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (JMException exception) {
+                log.error("mbean cannot be unregistered {}", objectName);
+                log.error(exception.getMessage());
+            }
+        }
+        objectNames.clear();
+    }
+
+    public synchronized boolean isRegistered() {
+        return !objectNames.isEmpty();
+    }
+
+    public synchronized List<ObjectName> getObjectNames() {
+        return ImmutableList.copyOf(objectNames);
+    }
+
+    private ObjectName getObjectName(String type, String key) {
+        String objectName = DOMAIN + ":type=" + type + ",building=" + ObjectName.quote(name)
+                + (key == null ? "" : "," + key);
+
+        try {
+            return new ObjectName(objectName);
+        } catch (MalformedObjectNameException exception) {
+            throw new IllegalArgumentException("invalid object name " + objectName, exception);
+        }
+    }
+}
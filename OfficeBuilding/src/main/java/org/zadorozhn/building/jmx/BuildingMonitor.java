@@ -0,0 +1,97 @@
+package org.zadorozhn.building.jmx;
+
+import com.google.common.collect.ImmutableList;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.util.StatisticsSnapshot;
+import org.zadorozhn.util.window.WindowedStatistics;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class BuildingMonitor implements BuildingMXBean {
+    private final Building building;
+    private final List<Elevator> elevators;
+
+    private BuildingMonitor(Building building) {
+        this.building = checkNotNull(building);
+        this.elevators = ImmutableList.copyOf(building.getElevators());
+    }
+
+    public static BuildingMonitor of(Building building) {
+        return new BuildingMonitor(building);
+    }
+
+    @Override
+    public int getNumberOfFloors() {
+        return building.getNumberOfFloors();
+    }
+
+    @Override
+    public int getNumberOfElevators() {
+        return elevators.size();
+    }
+
+    @Override
+    public long getNumberOfDeliveredPeople() {
+        return getStatisticsSnapshot().getNumberOfDeliveredPeople();
+    }
+
+    @Override
+    public long getNumberOfGeneratedPeople() {
+        return building.getStatisticsHolder().getNumberOfGeneratedPeople();
+    }
+
+    @Override
+    public long getNumberOfPassedFloors() {
+        return getStatisticsSnapshot().getNumberOfPassedFloors();
+    }
+
+    @Override
+    public long getNumberOfBalkedPeople() {
+        return building.getStatisticsHolder().getNumberOfBalkedPeople();
+    }
+
+    @Override
+    public long getNumberOfDivertedPeople() {
+        return building.getStatisticsHolder().getNumberOfDivertedPeople();
+    }
+
+    @Override
+    public long getNumberOfAbandonedPeople() {
+        return building.getStatisticsHolder().getNumberOfAbandonedPeople();
+    }
+
+    @Override
+    public long getQueueLength() {
+        return building.getWindowedStatistics().getQueueLength();
+    }
+
+    @Override
+    public double getDeliveredPerMinute() {
+        return building.getWindowedStatistics().getDeliveredPerMinute(currentTimeMillis(),
+                WindowedStatistics.DEFAULT_WINDOW_DURATION);
+    }
+
+    @Override
+    public double getPassedFloorsPerMinute() {
+        return building.getWindowedStatistics().getPassedFloorsPerMinute(currentTimeMillis(),
+                WindowedStatistics.DEFAULT_WINDOW_DURATION);
+    }
+
+    @Override
+    public double getUtilisation() {
+        return building.getWindowedStatistics().getUtilisation(currentTimeMillis(),
+                WindowedStatistics.DEFAULT_WINDOW_DURATION, elevators.size());
+    }
+
+    private StatisticsSnapshot getStatisticsSnapshot() {
+        return elevators.stream()
+                .map(i -> i.getStatisticsHolder().getSnapshot())
+                .reduce(building.getStatisticsHolder().getSnapshot(), StatisticsSnapshot::plus);
+    }
+
+    private long currentTimeMillis() {
+        return building.getClock().currentTimeMillis();
+    }
+}
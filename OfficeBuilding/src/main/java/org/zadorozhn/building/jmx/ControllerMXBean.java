@@ -0,0 +1,19 @@
+package org.zadorozhn.building.jmx;
+
+public interface ControllerMXBean {
+    String getDispatchMode();
+
+    boolean isRunning();
+
+    int getNumberOfPendingCalls();
+
+    int getNumberOfPendingDestinationCalls();
+
+    long getNumberOfDispatchedCalls();
+
+    long getNumberOfPresses();
+
+    long getNumberOfDuplicates();
+
+    double getDuplicateRate();
+}
@@ -0,0 +1,57 @@
+package org.zadorozhn.building.jmx;
+
+import org.zadorozhn.building.Controller;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class ControllerMonitor implements ControllerMXBean {
+    private final Controller controller;
+
+    private ControllerMonitor(Controller controller) {
+        this.controller = checkNotNull(controller);
+    }
+
+    public static ControllerMonitor of(Controller controller) {
+        return new ControllerMonitor(controller);
+    }
+
+    @Override
+    public String getDispatchMode() {
+        return controller.getDispatchMode().name();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return controller.isRunning();
+    }
+
+    @Override
+    public int getNumberOfPendingCalls() {
+        return controller.getNumberOfPendingCalls();
+    }
+
+    @Override
+    public int getNumberOfPendingDestinationCalls() {
+        return controller.getNumberOfPendingDestinationCalls();
+    }
+
+    @Override
+    public long getNumberOfDispatchedCalls() {
+        return controller.getNumberOfDispatchedCalls();
+    }
+
+    @Override
+    public long getNumberOfPresses() {
+        return controller.getHallCallRegistry().getNumberOfPresses();
+    }
+
+    @Override
+    public long getNumberOfDuplicates() {
+        return controller.getHallCallRegistry().getNumberOfDuplicates();
+    }
+
+    @Override
+    public double getDuplicateRate() {
+        return controller.getHallCallRegistry().getDuplicateRate();
+    }
+}
@@ -0,0 +1,21 @@
+package org.zadorozhn.building.jmx;
+
+public interface ElevatorMXBean {
+    long getId();
+
+    String getState();
+
+    String getDirection();
+
+    int getCurrentFloorNumber();
+
+    int getCapacity();
+
+    int getLoad();
+
+    int getNumberOfPendingCalls();
+
+    long getNumberOfDeliveredPeople();
+
+    long getNumberOfPassedFloors();
+}
@@ -0,0 +1,62 @@
+package org.zadorozhn.building.jmx;
+
+import org.zadorozhn.building.Elevator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class ElevatorMonitor implements ElevatorMXBean {
+    private final Elevator elevator;
+
+    private ElevatorMonitor(Elevator elevator) {
+        this.elevator = checkNotNull(elevator);
+    }
+
+    public static ElevatorMonitor of(Elevator elevator) {
+        return new ElevatorMonitor(elevator);
+    }
+
+    @Override
+    public long getId() {
+        return elevator.getId();
+    }
+
+    @Override
+    public String getState() {
+        return elevator.peekState().name();
+    }
+
+    @Override
+    public String getDirection() {
+        return elevator.peekDirection().name();
+    }
+
+    @Override
+    public int getCurrentFloorNumber() {
+        return elevator.peekCurrentFloorNumber();
+    }
+
+    @Override
+    public int getCapacity() {
+        return elevator.getCapacity();
+    }
+
+    @Override
+    public int getLoad() {
+        return elevator.getLoad();
+    }
+
+    @Override
+    public int getNumberOfPendingCalls() {
+        return elevator.getNumberOfPendingCalls();
+    }
+
+    @Override
+    public long getNumberOfDeliveredPeople() {
+        return elevator.getStatisticsHolder().getNumberOfDeliveredPeople();
+    }
+
+    @Override
+    public long getNumberOfPassedFloors() {
+        return elevator.getStatisticsHolder().getNumberOfPassedFloors();
+    }
+}
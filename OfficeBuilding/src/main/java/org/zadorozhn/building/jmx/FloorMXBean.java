@@ -0,0 +1,21 @@
+package org.zadorozhn.building.jmx;
+
+public interface FloorMXBean {
+    int getFloorNumber();
+
+    int getCapacity();
+
+    int getNumberOfPeopleUp();
+
+    int getNumberOfPeopleDown();
+
+    int getNumberOfPeopleByDestination();
+
+    int getQueueDepth();
+
+    int getPeakQueueDepth();
+
+    int getNumberOfBalkedPeople();
+
+    int getNumberOfDivertedPeople();
+}
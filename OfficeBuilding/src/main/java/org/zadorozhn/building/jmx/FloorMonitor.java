@@ -0,0 +1,63 @@
+package org.zadorozhn.building.jmx;
+
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class FloorMonitor implements FloorMXBean {
+    private final Floor floor;
+
+    private FloorMonitor(Floor floor) {
+        this.floor = checkNotNull(floor);
+    }
+
+    public static FloorMonitor of(Floor floor) {
+        return new FloorMonitor(floor);
+    }
+
+    @Override
+    public int getFloorNumber() {
+        return floor.getFloorNumber();
+    }
+
+    @Override
+    public int getCapacity() {
+        return floor.getCapacity();
+    }
+
+    @Override
+    public int getNumberOfPeopleUp() {
+        return floor.getNumberOfPeople(Direction.UP);
+    }
+
+    @Override
+    public int getNumberOfPeopleDown() {
+        return floor.getNumberOfPeople(Direction.DOWN);
+    }
+
+    @Override
+    public int getNumberOfPeopleByDestination() {
+        return floor.getNumberOfPeopleByDestination();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return floor.getQueueDepth();
+    }
+
+    @Override
+    public int getPeakQueueDepth() {
+        return floor.getPeakQueueDepth();
+    }
+
+    @Override
+    public int getNumberOfBalkedPeople() {
+        return floor.getNumberOfBalkedPeople();
+    }
+
+    @Override
+    public int getNumberOfDivertedPeople() {
+        return floor.getNumberOfDivertedPeople();
+    }
+}
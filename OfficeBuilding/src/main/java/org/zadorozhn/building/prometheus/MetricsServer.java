@@ -0,0 +1,103 @@
+package org.zadorozhn.building.prometheus;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class MetricsServer {
+    public static final String PATH = "/metrics";
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    public static final int EPHEMERAL_PORT = 0;
+    public static final int STOP_DELAY = 0;
+
+    private final PrometheusRenderer prometheusRenderer;
+    private final int port;
+
+    private HttpServer httpServer;
+    private ExecutorService executorService;
+
+    private MetricsServer(PrometheusRenderer prometheusRenderer, int port) {
+        checkNotNull(prometheusRenderer);
+        checkArgument(port >= EPHEMERAL_PORT && port <= 0xFFFF);
+
+        this.prometheusRenderer = prometheusRenderer;
+        this.port = port;
+    }
+
+    public static MetricsServer of(PrometheusRenderer prometheusRenderer, int port) {
+        return new MetricsServer(prometheusRenderer, port);
+    }
+
+    public synchronized MetricsServer start() {
+        checkState(httpServer == null, "metrics server is already started");
+
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-server");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        httpServer.createContext(PATH, this::handle);
+        httpServer.setExecutor(executorService);
+        httpServer.start();
+
+        log.info("metrics server has been started on port {}", getPort());
+
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (httpServer == null) {
+            return;
+        }
+
+        httpServer.stop(STOP_DELAY);
+        executorService.shutdown();
+        httpServer = null;
+        executorService = null;
+
+        log.info("metrics server has been stopped");
+    }
+
+    public synchronized int getPort() {
+        checkState(httpServer != null, "metrics server is not started");
+
+        return httpServer.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+
+                return;
+            }
+
+            byte[] body = prometheusRenderer.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
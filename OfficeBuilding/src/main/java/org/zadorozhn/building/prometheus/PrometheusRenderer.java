@@ -0,0 +1,205 @@
+package org.zadorozhn.building.prometheus;
+
+import com.google.common.collect.ImmutableList;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.jmx.BuildingMonitor;
+import org.zadorozhn.building.jmx.ControllerMonitor;
+import org.zadorozhn.building.jmx.ElevatorMonitor;
+import org.zadorozhn.building.jmx.FloorMonitor;
+import org.zadorozhn.building.state.State;
+import org.zadorozhn.util.latency.HistogramSnapshot;
+import org.zadorozhn.util.latency.LatencyHistogram;
+import org.zadorozhn.util.latency.LatencyType;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.google.common.base.Preconditions.*;
+
+public class PrometheusRenderer {
+    public static final String PREFIX = "office_building_";
+    public static final long[] LATENCY_BOUNDS = LongStream.of(
+            100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000, 120_000, 300_000)
+            .map(LatencyHistogram::alignUpperBound)
+            .toArray();
+
+    private final Building building;
+    private final String name;
+    private final BuildingMonitor buildingMonitor;
+    private final ControllerMonitor controllerMonitor;
+    private final List<ElevatorMonitor> elevatorMonitors;
+    private final List<FloorMonitor> floorMonitors;
+
+    private PrometheusRenderer(Building building, String name) {
+        checkNotNull(building);
+        checkNotNull(building.getController());
+        checkNotNull(name);
+        checkArgument(!name.isEmpty());
+
+        this.building = building;
+        this.name = name;
+        this.buildingMonitor = BuildingMonitor.of(building);
+        this.controllerMonitor = ControllerMonitor.of(building.getController());
+        this.elevatorMonitors = ImmutableList.copyOf(building.getElevators().stream()
+                .map(ElevatorMonitor::of)
+                .collect(Collectors.toList()));
+        this.floorMonitors = ImmutableList.copyOf(building.getFloors().stream()
+                .map(FloorMonitor::of)
+                .collect(Collectors.toList()));
+    }
+
+    public static PrometheusRenderer of(Building building, String name) {
+        return new PrometheusRenderer(building, name);
+    }
+
+    public String render() {
+        StringBuilder builder = new StringBuilder(4096);
+        String buildingLabel = "building=\"" + escape(name) + "\"";
+
+        writeHeader(builder, "floors", "gauge", "Number of floors");
+        writeSample(builder, "floors", buildingLabel, buildingMonitor.getNumberOfFloors());
+        writeHeader(builder, "elevators", "gauge", "Number of elevators");
+        writeSample(builder, "elevators", buildingLabel, buildingMonitor.getNumberOfElevators());
+        writeHeader(builder, "generated_people_total", "counter", "People generated");
+        writeSample(builder, "generated_people_total", buildingLabel, buildingMonitor.getNumberOfGeneratedPeople());
+        writeHeader(builder, "delivered_people_total", "counter", "People delivered");
+        writeSample(builder, "delivered_people_total", buildingLabel, buildingMonitor.getNumberOfDeliveredPeople());
+        writeHeader(builder, "passed_floors_total", "counter", "Floors passed by all elevators");
+        writeSample(builder, "passed_floors_total", buildingLabel, buildingMonitor.getNumberOfPassedFloors());
+        writeHeader(builder, "balked_people_total", "counter", "People who found a full floor and left");
+        writeSample(builder, "balked_people_total", buildingLabel, buildingMonitor.getNumberOfBalkedPeople());
+        writeHeader(builder, "diverted_people_total", "counter", "People diverted to stairs");
+        writeSample(builder, "diverted_people_total", buildingLabel, buildingMonitor.getNumberOfDivertedPeople());
+        writeHeader(builder, "abandoned_people_total", "counter", "People who ran out of patience");
+        writeSample(builder, "abandoned_people_total", buildingLabel, buildingMonitor.getNumberOfAbandonedPeople());
+        writeHeader(builder, "queue_length", "gauge", "People waiting on all floors");
+        writeSample(builder, "queue_length", buildingLabel, buildingMonitor.getQueueLength());
+        writeHeader(builder, "utilisation", "gauge", "Share of busy elevators over the last minute");
+        writeSample(builder, "utilisation", buildingLabel, buildingMonitor.getUtilisation());
+
+        writeHeader(builder, "controller_pending_calls", "gauge", "Latched hall calls");
+        writeSample(builder, "controller_pending_calls", buildingLabel, controllerMonitor.getNumberOfPendingCalls());
+        writeHeader(builder, "controller_pending_destination_calls", "gauge", "Undispatched destination calls");
+        writeSample(builder, "controller_pending_destination_calls", buildingLabel,
+                controllerMonitor.getNumberOfPendingDestinationCalls());
+        writeHeader(builder, "controller_dispatched_calls_total", "counter", "Calls dispatched to elevators");
+        writeSample(builder, "controller_dispatched_calls_total", buildingLabel,
+                controllerMonitor.getNumberOfDispatchedCalls());
+        writeHeader(builder, "controller_duplicate_calls_total", "counter", "Hall button presses already latched");
+        writeSample(builder, "controller_duplicate_calls_total", buildingLabel,
+                controllerMonitor.getNumberOfDuplicates());
+
+        writeElevators(builder, buildingLabel);
+        writeFloors(builder, buildingLabel);
+
+        writeHistogram(builder, "wait_time_milliseconds", "Time from arrival to boarding", buildingLabel,
+                building.getLatencyStatistics().getHistogram(LatencyType.WAIT));
+        writeHistogram(builder, "ride_time_milliseconds", "Time from boarding to alighting", buildingLabel,
+                building.getLatencyStatistics().getHistogram(LatencyType.RIDE));
+
+        return builder.toString();
+    }
+
+    private void writeElevators(StringBuilder builder, String buildingLabel) {
+        List<String> labels = elevatorMonitors.stream()
+                .map(i -> buildingLabel + ",elevator=\"" + i.getId() + "\"")
+                .collect(Collectors.toList());
+
+        writeHeader(builder, "elevator_floor", "gauge", "Current floor of the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_floor", labels.get(i), elevatorMonitors.get(i).getCurrentFloorNumber());
+        }
+        writeHeader(builder, "elevator_load", "gauge", "Weight carried by the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_load", labels.get(i), elevatorMonitors.get(i).getLoad());
+        }
+        writeHeader(builder, "elevator_capacity", "gauge", "Capacity of the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_capacity", labels.get(i), elevatorMonitors.get(i).getCapacity());
+        }
+        writeHeader(builder, "elevator_busy", "gauge", "Whether the elevator is neither stopped nor ended");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            String state = elevatorMonitors.get(i).getState();
+            boolean isBusy = !state.equals(State.STOP.name()) && !state.equals(State.END.name());
+            writeSample(builder, "elevator_busy", labels.get(i), isBusy ? 1 : 0);
+        }
+        writeHeader(builder, "elevator_pending_calls", "gauge", "Calls assigned to the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_pending_calls", labels.get(i),
+                    elevatorMonitors.get(i).getNumberOfPendingCalls());
+        }
+        writeHeader(builder, "elevator_delivered_people_total", "counter", "People delivered by the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_delivered_people_total", labels.get(i),
+                    elevatorMonitors.get(i).getNumberOfDeliveredPeople());
+        }
+        writeHeader(builder, "elevator_passed_floors_total", "counter", "Floors passed by the elevator");
+        for (int i = 0; i < elevatorMonitors.size(); i++) {
+            writeSample(builder, "elevator_passed_floors_total", labels.get(i),
+                    elevatorMonitors.get(i).getNumberOfPassedFloors());
+        }
+    }
+
+    private void writeFloors(StringBuilder builder, String buildingLabel) {
+        List<String> labels = floorMonitors.stream()
+                .map(i -> buildingLabel + ",floor=\"" + i.getFloorNumber() + "\"")
+                .collect(Collectors.toList());
+
+        writeHeader(builder, "floor_queue_depth", "gauge", "People waiting on the floor");
+        for (int i = 0; i < floorMonitors.size(); i++) {
+            FloorMonitor floorMonitor = floorMonitors.get(i);
+            writeSample(builder, "floor_queue_depth", labels.get(i) + ",direction=\"up\"",
+                    floorMonitor.getNumberOfPeopleUp());
+            writeSample(builder, "floor_queue_depth", labels.get(i) + ",direction=\"down\"",
+                    floorMonitor.getNumberOfPeopleDown());
+            writeSample(builder, "floor_queue_depth", labels.get(i) + ",direction=\"destination\"",
+                    floorMonitor.getNumberOfPeopleByDestination());
+        }
+        writeHeader(builder, "floor_peak_queue_depth", "gauge", "Deepest queue seen on the floor");
+        for (int i = 0; i < floorMonitors.size(); i++) {
+            writeSample(builder, "floor_peak_queue_depth", labels.get(i), floorMonitors.get(i).getPeakQueueDepth());
+        }
+        writeHeader(builder, "floor_balked_people_total", "counter", "People who balked on the floor");
+        for (int i = 0; i < floorMonitors.size(); i++) {
+            writeSample(builder, "floor_balked_people_total", labels.get(i),
+                    floorMonitors.get(i).getNumberOfBalkedPeople());
+        }
+        writeHeader(builder, "floor_diverted_people_total", "counter", "People diverted to stairs on the floor");
+        for (int i = 0; i < floorMonitors.size(); i++) {
+            writeSample(builder, "floor_diverted_people_total", labels.get(i),
+                    floorMonitors.get(i).getNumberOfDivertedPeople());
+        }
+    }
+
+    private void writeHistogram(StringBuilder builder, String metric, String help, String labels,
+                                LatencyHistogram histogram) {
+        HistogramSnapshot snapshot = histogram.getSnapshot();
+        long[] cumulativeCounts = snapshot.getCumulativeCounts(LATENCY_BOUNDS);
+
+        writeHeader(builder, metric, "histogram", help);
+        for (int i = 0; i < LATENCY_BOUNDS.length; i++) {
+            writeSample(builder, metric + "_bucket", labels + ",le=\"" + LATENCY_BOUNDS[i] + "\"",
+                    cumulativeCounts[i]);
+        }
+        writeSample(builder, metric + "_bucket", labels + ",le=\"+Inf\"", snapshot.getCount());
+        writeSample(builder, metric + "_sum", labels, snapshot.getSum());
+        writeSample(builder, metric + "_count", labels, snapshot.getCount());
+    }
+
+    private static void writeHeader(StringBuilder builder, String metric, String type, String help) {
+        builder.append("# HELP ").append(PREFIX).append(metric).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(PREFIX).append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String metric, String labels, long value) {
+        builder.append(PREFIX).append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String metric, String labels, double value) {
+        builder.append(PREFIX).append(metric).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
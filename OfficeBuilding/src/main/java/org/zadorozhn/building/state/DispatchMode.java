@@ -0,0 +1,6 @@
+package org.zadorozhn.building.state;
+
+public enum DispatchMode {
+    COLLECTIVE,
+    DESTINATION
+}
@@ -0,0 +1,7 @@
+package org.zadorozhn.building.state;
+
+public enum OverflowPolicy {
+    BLOCK,
+    BALK,
+    STAIRS
+}
@@ -1,47 +1,133 @@
 package org.zadorozhn.human;
 
 import lombok.*;
-import java.util.UUID;
 import org.zadorozhn.building.Call;
 import org.zadorozhn.building.Floor;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.util.IdAllocator;
 
 import static com.google.common.base.Preconditions.*;
 
 @Getter
 @ToString
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Human {
     public static final int MIN_WEIGHT = 10;
     public static final int MAX_WEIGHT = 200;
+    public static final long INFINITE_PATIENCE = Long.MAX_VALUE;
+    public static final long NOT_STAMPED = -1;
 
-    private final UUID ssn;
+    @EqualsAndHashCode.Include
+    private final long ssn;
     private final int weight;
     private final Call call;
+    @EqualsAndHashCode.Include
+    @ToString.Exclude
     private final Floor startFloor;
+    private final long arrivalTime;
+    private final long patience;
+    private volatile long boardingTime;
+    private volatile long alightingTime;
 
-    private Human(int weight, int targetFloorNumber, Floor startFloor) {
+    private Human(long ssn, int weight, int targetFloorNumber, Floor startFloor, long patience) {
         checkNotNull(startFloor);
+        checkArgument(ssn >= IdAllocator.FIRST_ID);
         checkArgument(targetFloorNumber >= Floor.GROUND_FLOOR);
         checkArgument(targetFloorNumber != startFloor.getFloorNumber());
         checkArgument(weight >= MIN_WEIGHT && weight <= MAX_WEIGHT);
+        checkArgument(patience > 0);
 
         this.startFloor = startFloor;
-        this.ssn = UUID.randomUUID();
+        this.ssn = ssn;
         this.weight = weight;
+        this.arrivalTime = startFloor.getBuilding().getClock().currentTimeMillis();
+        this.patience = patience;
+        this.boardingTime = NOT_STAMPED;
+        this.alightingTime = NOT_STAMPED;
         this.call = Call.of(targetFloorNumber,
                 targetFloorNumber - startFloor.getFloorNumber() > 0 ? Direction.UP : Direction.DOWN);
     }
 
     public static Human of(int weight, int targetFloorNumber, Floor startFloor) {
-        return new Human(weight, targetFloorNumber, startFloor);
+        return of(weight, targetFloorNumber, startFloor, INFINITE_PATIENCE);
+    }
+
+    public static Human of(int weight, int targetFloorNumber, Floor startFloor, long patience) {
+        checkNotNull(startFloor);
+
+        return new Human(startFloor.getBuilding().getIdAllocator().next(), weight, targetFloorNumber, startFloor,
+                patience);
+    }
+
+    public static Human of(long ssn, int weight, int targetFloorNumber, Floor startFloor) {
+        return new Human(ssn, weight, targetFloorNumber, startFloor, INFINITE_PATIENCE);
     }
 
     public static Human of(int weight, Floor targetFloor, Floor startFloor) {
         checkNotNull(targetFloor);
         checkArgument(!targetFloor.equals(startFloor));
 
-        return new Human(weight, targetFloor.getFloorNumber(), startFloor);
+        return of(weight, targetFloor.getFloorNumber(), startFloor, INFINITE_PATIENCE);
+    }
+
+    public static Human of(int weight, Floor targetFloor, Floor startFloor, long patience) {
+        checkNotNull(targetFloor);
+        checkArgument(!targetFloor.equals(startFloor));
+
+        return of(weight, targetFloor.getFloorNumber(), startFloor, patience);
+    }
+
+    @ToString.Include(name = "startFloorNumber")
+    public int getStartFloorNumber() {
+        return startFloor.getFloorNumber();
+    }
+
+    public boolean hasInfinitePatience() {
+        return patience == INFINITE_PATIENCE;
+    }
+
+    public long getAbandonmentTime() {
+        return hasInfinitePatience() || arrivalTime > Long.MAX_VALUE - patience ? Long.MAX_VALUE : arrivalTime + patience;
+    }
+
+    public void board(long boardingTime) {
+        checkState(!isBoarded());
+        checkArgument(boardingTime >= 0);
+
+        this.boardingTime = boardingTime;
+    }
+
+    public void alight(long alightingTime) {
+        checkState(isBoarded() && !isDelivered());
+        checkArgument(alightingTime >= 0);
+
+        this.alightingTime = alightingTime;
+    }
+
+    public boolean isBoarded() {
+        return boardingTime != NOT_STAMPED;
+    }
+
+    public boolean isDelivered() {
+        return alightingTime != NOT_STAMPED;
+    }
+
+    public long getWaitTime() {
+        checkState(isBoarded());
+
+        return boardingTime - arrivalTime;
+    }
+
+    public long getRideTime() {
+        checkState(isDelivered());
+
+        return alightingTime - boardingTime;
+    }
+
+    public long getJourneyTime() {
+        checkState(isDelivered());
+
+        return alightingTime - arrivalTime;
     }
 
     public void pushButton() {
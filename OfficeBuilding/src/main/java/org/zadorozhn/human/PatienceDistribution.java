@@ -0,0 +1,35 @@
+package org.zadorozhn.human;
+
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.*;
+
+@FunctionalInterface
+public interface PatienceDistribution {
+    long nextPatience();
+
+    static PatienceDistribution infinite() {
+        return () -> Human.INFINITE_PATIENCE;
+    }
+
+    static PatienceDistribution fixed(long patience) {
+        checkArgument(patience > 0);
+
+        return () -> patience;
+    }
+
+    static PatienceDistribution uniform(long patienceFrom, long patienceTo, Random random) {
+        checkArgument(patienceFrom > 0);
+        checkArgument(patienceTo >= patienceFrom);
+        checkNotNull(random);
+
+        return () -> patienceFrom + (long) (random.nextDouble() * (patienceTo - patienceFrom));
+    }
+
+    static PatienceDistribution exponential(long meanPatience, Random random) {
+        checkArgument(meanPatience > 0);
+        checkNotNull(random);
+
+        return () -> Math.max(1, (long) (-meanPatience * Math.log(1 - random.nextDouble())));
+    }
+}
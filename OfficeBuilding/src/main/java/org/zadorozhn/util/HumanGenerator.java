@@ -1,13 +1,17 @@
 package org.zadorozhn.util;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.zadorozhn.building.Building;
 import org.zadorozhn.building.Floor;
 import org.zadorozhn.human.Human;
+import org.zadorozhn.human.PatienceDistribution;
+import org.zadorozhn.util.clock.Clock;
 import org.zadorozhn.util.interrupt.Interruptible;
+import org.zadorozhn.util.traffic.Journey;
+import org.zadorozhn.util.traffic.TrafficProfile;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -24,36 +28,79 @@ public class HumanGenerator extends Thread implements Interruptible {
 
     private final Random random;
 
-    private HumanGenerator(Building building, int weightFrom, int weightTo, int generateSpeed) {
+    @Setter
+    private volatile PatienceDistribution patienceDistribution;
+
+    @Getter
+    private volatile TrafficProfile trafficProfile;
+    private volatile long trafficStartTime;
+
+    private HumanGenerator(Building building, int weightFrom, int weightTo, int generateSpeed, Random random) {
         checkArgument(generateSpeed >= MIN_SPEED && generateSpeed <= MAX_SPEED);
         checkArgument(weightFrom >= Human.MIN_WEIGHT);
         checkArgument(weightTo <= Human.MAX_WEIGHT);
         checkArgument(weightTo >= weightFrom);
         checkNotNull(building);
+        checkNotNull(random);
 
         this.generateSpeed = generateSpeed;
         this.weightFrom = weightFrom;
         this.building = building;
         this.weightTo = weightTo;
-        this.random = new Random();
+        this.random = random;
+        this.patienceDistribution = PatienceDistribution.infinite();
 
         String threadName = "humanGenerator";
         this.setName(threadName);
     }
 
     public static HumanGenerator of(Building building, int weightFrom, int weightTo, int generateSpeed) {
-        return new HumanGenerator(building, weightFrom, weightTo, generateSpeed);
+        return new HumanGenerator(building, weightFrom, weightTo, generateSpeed, new Random());
+    }
+
+    public static HumanGenerator of(Building building, int weightFrom, int weightTo, int generateSpeed,
+                                    long seed) {
+        return new HumanGenerator(building, weightFrom, weightTo, generateSpeed, new Random(seed));
     }
 
     public static HumanGenerator of(Building building, int weightFrom, int weightTo) {
-        return new HumanGenerator(building, weightFrom, weightTo, MIN_SPEED);
+        return new HumanGenerator(building, weightFrom, weightTo, MIN_SPEED, new Random());
     }
 
     public static HumanGenerator of(Building building) {
-        return new HumanGenerator(building, Human.MIN_WEIGHT, Human.MAX_WEIGHT, MIN_SPEED);
+        return new HumanGenerator(building, Human.MIN_WEIGHT, Human.MAX_WEIGHT, MIN_SPEED, new Random());
+    }
+
+    public static HumanGenerator of(Building building, TrafficProfile trafficProfile) {
+        return of(building, trafficProfile, new Random());
+    }
+
+    public static HumanGenerator of(Building building, TrafficProfile trafficProfile, long seed) {
+        return of(building, trafficProfile, new Random(seed));
+    }
+
+    private static HumanGenerator of(Building building, TrafficProfile trafficProfile, Random random) {
+        HumanGenerator humanGenerator = new HumanGenerator(building, Human.MIN_WEIGHT, Human.MAX_WEIGHT, MIN_SPEED,
+                random);
+        humanGenerator.setTrafficProfile(trafficProfile);
+
+        return humanGenerator;
+    }
+
+    public void setTrafficProfile(TrafficProfile trafficProfile) {
+        checkNotNull(trafficProfile);
+
+        this.trafficStartTime = building.getClock().currentTimeMillis();
+        this.trafficProfile = trafficProfile;
     }
 
     public void generate() {
+        if (trafficProfile != null) {
+            generateByProfile(trafficProfile);
+
+            return;
+        }
+
         Floor floor = building.getFloor(Math.abs(random.nextInt()) % building.getNumberOfFloors());
         int weight = Math.abs(random.nextInt()) % (weightTo - weightFrom) + weightFrom;
         int targetFloor;
@@ -62,12 +109,17 @@ public class HumanGenerator extends Thread implements Interruptible {
             targetFloor = Math.abs(random.nextInt()) % building.getNumberOfFloors();
         } while (targetFloor == floor.getFloorNumber());
 
-        floor.addHuman(Human.of(weight, targetFloor, floor));
+        boolean isAdded = floor.addHuman(Human.of(weight, targetFloor, floor,
+                patienceDistribution.nextPatience()));
+
+        building.getStatisticsHolder().incrementNumberOfGeneratedPeople();
 
-        StatisticsHolder.getInstance().incrementNumberOfGeneratedPeople();
+        if (!isAdded) {
+            log.debug("generated human has not been queued at {}", floor.getFloorNumber());
+        }
 
         try {
-            TimeUnit.MILLISECONDS.sleep(DEFAULT_OPERATION_TIME - generateSpeed);
+            building.getClock().sleep(DEFAULT_OPERATION_TIME - generateSpeed);
         } catch (InterruptedException exception) {
             log.error("human generator has been interrupted");
             log.error(exception.getMessage());
@@ -75,7 +127,39 @@ public class HumanGenerator extends Thread implements Interruptible {
             Thread.currentThread().interrupt();
         }
 
-        log.info("human has been generated at {}", targetFloor);
+        log.debug("human has been generated at {}", targetFloor);
+    }
+
+    private void generateByProfile(TrafficProfile trafficProfile) {
+        Clock clock = building.getClock();
+        long elapsedTime = clock.currentTimeMillis() - trafficStartTime;
+        long arrivalTime = trafficProfile.nextArrivalTime(elapsedTime, random);
+
+        try {
+            clock.sleep(arrivalTime - elapsedTime);
+        } catch (InterruptedException exception) {
+            log.error("human generator has been interrupted");
+            log.error(exception.getMessage());
+
+            Thread.currentThread().interrupt();
+
+            return;
+        }
+
+        Journey journey = trafficProfile.nextJourney(arrivalTime, building.getNumberOfFloors(), random);
+        Floor floor = building.getFloor(journey.getStartFloorNumber());
+        int weight = Math.abs(random.nextInt()) % (weightTo - weightFrom) + weightFrom;
+
+        boolean isAdded = floor.addHuman(Human.of(weight, journey.getTargetFloorNumber(), floor,
+                patienceDistribution.nextPatience()));
+
+        building.getStatisticsHolder().incrementNumberOfGeneratedPeople();
+
+        if (!isAdded) {
+            log.debug("generated human has not been queued at {}", floor.getFloorNumber());
+        }
+
+        log.debug("human has been generated at {} by traffic profile", journey.getTargetFloorNumber());
     }
 
     public void turnOff() {
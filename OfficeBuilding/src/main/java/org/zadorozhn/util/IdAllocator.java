@@ -0,0 +1,61 @@
+package org.zadorozhn.util;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class IdAllocator {
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+    public static final long FIRST_ID = 1;
+
+    private final int blockSize;
+    private final AtomicLong nextBlockStart;
+    private final AtomicLong generation;
+    private final ThreadLocal<long[]> currentBlock;
+
+    private IdAllocator(int blockSize) {
+        checkArgument(blockSize > 0);
+
+        this.blockSize = blockSize;
+        this.nextBlockStart = new AtomicLong(FIRST_ID);
+        this.generation = new AtomicLong(0);
+        this.currentBlock = ThreadLocal.withInitial(() -> new long[]{-1, 0, 0});
+    }
+
+    public static IdAllocator of(int blockSize) {
+        return new IdAllocator(blockSize);
+    }
+
+    public static IdAllocator getDefault() {
+        return new IdAllocator(DEFAULT_BLOCK_SIZE);
+    }
+
+    public static UUID toUuid(long id) {
+        return new UUID(0, id);
+    }
+
+    public long next() {
+        long[] block = currentBlock.get();
+        long currentGeneration = generation.get();
+
+        if (block[0] != currentGeneration || block[1] == block[2]) {
+            block[0] = currentGeneration;
+            block[1] = nextBlockStart.getAndAdd(blockSize);
+            block[2] = block[1] + blockSize;
+        }
+
+        return block[1]++;
+    }
+
+    public long reserve(long numberOfIds) {
+        checkArgument(numberOfIds >= 0);
+
+        return nextBlockStart.getAndAdd(numberOfIds);
+    }
+
+    public void reset() {
+        nextBlockStart.set(FIRST_ID);
+        generation.incrementAndGet();
+    }
+}
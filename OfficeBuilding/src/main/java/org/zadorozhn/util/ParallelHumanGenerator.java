@@ -0,0 +1,113 @@
+package org.zadorozhn.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.human.Human;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class ParallelHumanGenerator {
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final Building building;
+    private final int weightFrom;
+    private final int weightTo;
+    @Getter
+    private final int batchSize;
+    @Getter
+    private final long seed;
+
+    private final SplittableRandom[] floorRandoms;
+    private final ForkJoinPool pool;
+
+    private ParallelHumanGenerator(Building building, long seed, int weightFrom, int weightTo, int batchSize) {
+        checkNotNull(building);
+        checkArgument(weightFrom >= Human.MIN_WEIGHT);
+        checkArgument(weightTo <= Human.MAX_WEIGHT);
+        checkArgument(weightTo >= weightFrom);
+        checkArgument(batchSize > 0);
+
+        this.building = building;
+        this.seed = seed;
+        this.weightFrom = weightFrom;
+        this.weightTo = weightTo;
+        this.batchSize = batchSize;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        this.floorRandoms = new SplittableRandom[building.getNumberOfFloors()];
+        for (int i = 0; i < floorRandoms.length; i++) {
+            floorRandoms[i] = random.split();
+        }
+
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("humanGenerator-" + thread.getPoolIndex());
+
+            return thread;
+        }, null, false);
+    }
+
+    public static ParallelHumanGenerator of(Building building, long seed, int weightFrom, int weightTo,
+                                            int batchSize) {
+        return new ParallelHumanGenerator(building, seed, weightFrom, weightTo, batchSize);
+    }
+
+    public static ParallelHumanGenerator of(Building building, long seed) {
+        return new ParallelHumanGenerator(building, seed, Human.MIN_WEIGHT, Human.MAX_WEIGHT, DEFAULT_BATCH_SIZE);
+    }
+
+    public synchronized long generate(int numberOfPeoplePerFloor) {
+        checkArgument(numberOfPeoplePerFloor >= 0);
+
+        long firstSsn = building.getIdAllocator().reserve((long) floorRandoms.length * numberOfPeoplePerFloor);
+        long numberOfAddedPeople = pool.submit(() -> IntStream.range(Floor.GROUND_FLOOR, floorRandoms.length)
+                .parallel()
+                .mapToLong(i -> generateAtFloor(building.getFloor(i), floorRandoms[i], numberOfPeoplePerFloor,
+                        firstSsn + (long) i * numberOfPeoplePerFloor))
+                .sum()).join();
+
+        log.info("{} people have been generated in parallel", numberOfAddedPeople);
+
+        return numberOfAddedPeople;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private long generateAtFloor(Floor floor, SplittableRandom random, int numberOfPeople, long firstSsn) {
+        long numberOfAddedPeople = 0;
+        List<Human> batch = new ArrayList<>(Math.min(batchSize, numberOfPeople));
+
+        for (int i = 0; i < numberOfPeople; i++) {
+            batch.add(nextHuman(floor, random, firstSsn + i));
+
+            if (batch.size() == batchSize || i == numberOfPeople - 1) {
+                numberOfAddedPeople += floor.addHumans(batch);
+                building.getStatisticsHolder().addNumberOfGeneratedPeople(batch.size());
+                batch.clear();
+            }
+        }
+
+        return numberOfAddedPeople;
+    }
+
+    private Human nextHuman(Floor floor, SplittableRandom random, long ssn) {
+        int weight = random.nextInt(weightFrom, weightTo + 1);
+        int targetFloorNumber = random.nextInt(floorRandoms.length - 1);
+        if (targetFloorNumber >= floor.getFloorNumber()) {
+            targetFloorNumber++;
+        }
+
+        return Human.of(ssn, weight, targetFloorNumber, floor);
+    }
+}
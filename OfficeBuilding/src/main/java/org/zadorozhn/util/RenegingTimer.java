@@ -0,0 +1,168 @@
+package org.zadorozhn.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.Clock;
+import org.zadorozhn.util.interrupt.Interruptible;
+import org.zadorozhn.util.journal.EventJournal;
+import org.zadorozhn.util.journal.EventType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class RenegingTimer implements Runnable, Interruptible {
+    public static final int DEFAULT_TICK_DURATION = 100;
+    public static final int DEFAULT_NUMBER_OF_SLOTS = 512;
+
+    @Getter
+    private final long tickDuration;
+    private final List<Queue<Human>> slots;
+    private volatile long lastTick;
+    @Getter
+    private volatile Clock clock;
+
+    @Getter
+    private volatile boolean isRunning;
+
+    private RenegingTimer(long tickDuration, int numberOfSlots, long startTime, Clock clock) {
+        checkArgument(tickDuration > 0);
+        checkArgument(numberOfSlots > 0);
+        checkNotNull(clock);
+
+        this.tickDuration = tickDuration;
+        this.slots = new ArrayList<>(numberOfSlots);
+        this.lastTick = startTime / tickDuration;
+        this.clock = clock;
+
+        IntStream.range(0, numberOfSlots).forEach(i -> slots.add(new ConcurrentLinkedQueue<>()));
+    }
+
+    public static RenegingTimer of(long tickDuration, int numberOfSlots) {
+        return new RenegingTimer(tickDuration, numberOfSlots, System.currentTimeMillis(), Clock.system());
+    }
+
+    public static RenegingTimer of(long tickDuration, int numberOfSlots, long startTime) {
+        return new RenegingTimer(tickDuration, numberOfSlots, startTime, Clock.system());
+    }
+
+    public static RenegingTimer of(long tickDuration, int numberOfSlots, Clock clock) {
+        checkNotNull(clock);
+
+        return new RenegingTimer(tickDuration, numberOfSlots, clock.currentTimeMillis(), clock);
+    }
+
+    public static RenegingTimer getDefault() {
+        return new RenegingTimer(DEFAULT_TICK_DURATION, DEFAULT_NUMBER_OF_SLOTS, System.currentTimeMillis(),
+                Clock.system());
+    }
+
+    public synchronized void setClock(Clock clock) {
+        checkNotNull(clock);
+
+        this.clock = clock;
+        this.lastTick = clock.currentTimeMillis() / tickDuration;
+    }
+
+    public synchronized void schedule(Human human) {
+        checkNotNull(human);
+        checkArgument(!human.hasInfinitePatience());
+
+        long tick = Math.max(human.getAbandonmentTime() / tickDuration, lastTick + 1);
+        slots.get((int) (tick % slots.size())).add(human);
+    }
+
+    public int advance(long currentTime) {
+        List<Human> expiredHumans = collectExpiredHumans(currentTime);
+        int numberOfAbandonedPeople = 0;
+
+        for (Human human : expiredHumans) {
+            if (abandon(human, currentTime)) {
+                numberOfAbandonedPeople++;
+            }
+        }
+
+        return numberOfAbandonedPeople;
+    }
+
+    public int getNumberOfScheduledPeople() {
+        return slots.stream().mapToInt(Queue::size).sum();
+    }
+
+    private synchronized List<Human> collectExpiredHumans(long currentTime) {
+        long currentTick = currentTime / tickDuration;
+        long numberOfTicks = Math.min(currentTick - lastTick, slots.size());
+        List<Human> expiredHumans = new ArrayList<>();
+
+        for (long tick = lastTick + 1; tick <= lastTick + numberOfTicks; tick++) {
+            Iterator<Human> iterator = slots.get((int) (tick % slots.size())).iterator();
+            while (iterator.hasNext()) {
+                Human human = iterator.next();
+
+                if (human.isBoarded()) {
+                    iterator.remove();
+                } else if (human.getAbandonmentTime() <= currentTime) {
+                    iterator.remove();
+                    expiredHumans.add(human);
+                }
+            }
+        }
+        lastTick = Math.max(lastTick, currentTick);
+
+        return expiredHumans;
+    }
+
+    private boolean abandon(Human human, long currentTime) {
+        if (human.isBoarded() || !human.getStartFloor().removeHuman(human)) {
+            return false;
+        }
+
+        human.getStartFloor().getBuilding().getStatisticsHolder().incrementNumberOfAbandonedPeople();
+        human.getStartFloor().getBuilding().getJournal().record(EventType.ABANDONMENT, currentTime,
+                EventJournal.NO_ELEVATOR, human.getStartFloorNumber(), human.getSsn(),
+                human.getCall().getTargetFloorNumber());
+
+        log.debug("human has abandoned the queue {}", human);
+
+        return true;
+    }
+
+    @Override
+    public void turnOff() {
+        isRunning = false;
+
+        log.info("reneging timer has been stopped");
+    }
+
+    @Override
+    public void turnOn() {
+        isRunning = true;
+
+        log.info("reneging timer has been started");
+    }
+
+    @Override
+    public void run() {
+        turnOn();
+
+        while (isRunning && !Thread.currentThread().isInterrupted()) {
+            Clock clock = this.clock;
+            try {
+                clock.sleep(tickDuration);
+            } catch (InterruptedException exception) {
+                log.error("reneging timer cannot wait, cause it was interrupted");
+                log.error(exception.getMessage());
+
+                Thread.currentThread().interrupt();
+            }
+
+            advance(clock.currentTimeMillis());
+        }
+    }
+}
@@ -1,63 +1,96 @@
 package org.zadorozhn.util;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class StatisticsHolder {
-    private static volatile StatisticsHolder instance;
-
-    private final AtomicInteger numberOfDeliveredPeople;
-    private final AtomicInteger numberOfGeneratedPeople;
-    private final AtomicInteger numberOfPassedFloors;
+    private final LongAdder numberOfDeliveredPeople;
+    private final LongAdder numberOfGeneratedPeople;
+    private final LongAdder numberOfPassedFloors;
+    private final LongAdder numberOfBalkedPeople;
+    private final LongAdder numberOfDivertedPeople;
+    private final LongAdder numberOfAbandonedPeople;
 
     private StatisticsHolder() {
-        numberOfDeliveredPeople = new AtomicInteger(0);
-        numberOfGeneratedPeople = new AtomicInteger(0);
-        numberOfPassedFloors = new AtomicInteger(0);
+        numberOfDeliveredPeople = new LongAdder();
+        numberOfGeneratedPeople = new LongAdder();
+        numberOfPassedFloors = new LongAdder();
+        numberOfBalkedPeople = new LongAdder();
+        numberOfDivertedPeople = new LongAdder();
+        numberOfAbandonedPeople = new LongAdder();
     }
 
-    public static StatisticsHolder getInstance() {
-        StatisticsHolder localInstance = instance;
-        if (localInstance == null) {
-            synchronized (StatisticsHolder.class) {
-                localInstance = instance;
-                if (localInstance == null) {
-                    instance = new StatisticsHolder();
-                    localInstance = instance;
-                }
-            }
-        }
-
-        return localInstance;
+    public static StatisticsHolder getEmpty() {
+        return new StatisticsHolder();
     }
 
     public void restart() {
-        numberOfDeliveredPeople.set(0);
-        numberOfGeneratedPeople.set(0);
-        numberOfPassedFloors.set(0);
+        numberOfDeliveredPeople.reset();
+        numberOfGeneratedPeople.reset();
+        numberOfPassedFloors.reset();
+        numberOfBalkedPeople.reset();
+        numberOfDivertedPeople.reset();
+        numberOfAbandonedPeople.reset();
     }
 
     public void incrementNumberOfDeliveredPeople() {
-        numberOfDeliveredPeople.incrementAndGet();
+        numberOfDeliveredPeople.increment();
     }
 
     public void incrementNumberOfGeneratedPeople() {
-        numberOfGeneratedPeople.incrementAndGet();
+        numberOfGeneratedPeople.increment();
+    }
+
+    public void addNumberOfGeneratedPeople(long numberOfPeople) {
+        numberOfGeneratedPeople.add(numberOfPeople);
     }
 
     public void incrementNumberOfPassedFloors() {
-        numberOfPassedFloors.incrementAndGet();
+        numberOfPassedFloors.increment();
+    }
+
+    public void incrementNumberOfBalkedPeople() {
+        numberOfBalkedPeople.increment();
+    }
+
+    public void incrementNumberOfDivertedPeople() {
+        numberOfDivertedPeople.increment();
+    }
+
+    public void incrementNumberOfAbandonedPeople() {
+        numberOfAbandonedPeople.increment();
     }
 
-    public int getNumberOfDeliveredPeople() {
-        return numberOfDeliveredPeople.get();
+    public long getNumberOfDeliveredPeople() {
+        return numberOfDeliveredPeople.sum();
     }
 
-    public int getNumberOfGeneratedPeople() {
-        return numberOfGeneratedPeople.get();
+    public long getNumberOfGeneratedPeople() {
+        return numberOfGeneratedPeople.sum();
     }
 
-    public int getNumberOfPassedFloors() {
-        return numberOfPassedFloors.get();
+    public long getNumberOfPassedFloors() {
+        return numberOfPassedFloors.sum();
     }
 
+    public long getNumberOfBalkedPeople() {
+        return numberOfBalkedPeople.sum();
+    }
+
+    public long getNumberOfDivertedPeople() {
+        return numberOfDivertedPeople.sum();
+    }
+
+    public long getNumberOfAbandonedPeople() {
+        return numberOfAbandonedPeople.sum();
+    }
+
+    public double getAbandonmentRate() {
+        return getSnapshot().getAbandonmentRate();
+    }
+
+    public StatisticsSnapshot getSnapshot() {
+        return StatisticsSnapshot.of(getNumberOfDeliveredPeople(), getNumberOfGeneratedPeople(),
+                getNumberOfPassedFloors(), getNumberOfBalkedPeople(), getNumberOfDivertedPeople(),
+                getNumberOfAbandonedPeople());
+    }
 }
@@ -0,0 +1,54 @@
+package org.zadorozhn.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class StatisticsSnapshot {
+    public static final StatisticsSnapshot EMPTY = new StatisticsSnapshot(0, 0, 0, 0, 0, 0);
+
+    private final long numberOfDeliveredPeople;
+    private final long numberOfGeneratedPeople;
+    private final long numberOfPassedFloors;
+    private final long numberOfBalkedPeople;
+    private final long numberOfDivertedPeople;
+    private final long numberOfAbandonedPeople;
+
+    private StatisticsSnapshot(long numberOfDeliveredPeople, long numberOfGeneratedPeople, long numberOfPassedFloors,
+                               long numberOfBalkedPeople, long numberOfDivertedPeople,
+                               long numberOfAbandonedPeople) {
+        this.numberOfDeliveredPeople = numberOfDeliveredPeople;
+        this.numberOfGeneratedPeople = numberOfGeneratedPeople;
+        this.numberOfPassedFloors = numberOfPassedFloors;
+        this.numberOfBalkedPeople = numberOfBalkedPeople;
+        this.numberOfDivertedPeople = numberOfDivertedPeople;
+        this.numberOfAbandonedPeople = numberOfAbandonedPeople;
+    }
+
+    public static StatisticsSnapshot of(long numberOfDeliveredPeople, long numberOfGeneratedPeople,
+                                        long numberOfPassedFloors, long numberOfBalkedPeople,
+                                        long numberOfDivertedPeople, long numberOfAbandonedPeople) {
+        return new StatisticsSnapshot(numberOfDeliveredPeople, numberOfGeneratedPeople, numberOfPassedFloors,
+                numberOfBalkedPeople, numberOfDivertedPeople, numberOfAbandonedPeople);
+    }
+
+    public StatisticsSnapshot plus(StatisticsSnapshot snapshot) {
+        checkNotNull(snapshot);
+
+        return new StatisticsSnapshot(numberOfDeliveredPeople + snapshot.numberOfDeliveredPeople,
+                numberOfGeneratedPeople + snapshot.numberOfGeneratedPeople,
+                numberOfPassedFloors + snapshot.numberOfPassedFloors,
+                numberOfBalkedPeople + snapshot.numberOfBalkedPeople,
+                numberOfDivertedPeople + snapshot.numberOfDivertedPeople,
+                numberOfAbandonedPeople + snapshot.numberOfAbandonedPeople);
+    }
+
+    public double getAbandonmentRate() {
+        return numberOfGeneratedPeople == 0 ? 0 : (double) numberOfAbandonedPeople / numberOfGeneratedPeople;
+    }
+}
@@ -3,8 +3,17 @@ package org.zadorozhn.util;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.HallCallRegistry;
 import org.zadorozhn.building.state.Direction;
 import org.zadorozhn.util.interrupt.Interruptible;
+import org.zadorozhn.util.latency.LatencyType;
+import org.zadorozhn.util.terminal.TerminalFrame;
+import org.zadorozhn.util.terminal.TerminalRenderer;
+import org.zadorozhn.util.window.WindowedStatistics;
+import java.io.PrintStream;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -22,77 +31,195 @@ public class UserInterface extends Thread implements Interruptible {
     public static final String ANSI_CYAN = "\u001B[1;46m\u001B[97m";
     public static final String ANSI_WHITE = "\u001B[1;47m\u001B[97m";
 
+    public static final int MIN_WIDTH = 160;
+    public static final int CELL_WIDTH = 8;
+    public static final int FLOOR_LABEL_WIDTH = 40;
+    public static final int NUMBER_OF_HEADER_LINES = 10;
+
+    private static final byte STYLE_OPEN_DOOR = 1;
+    private static final byte STYLE_CLOSE_DOOR = 2;
+    private static final byte STYLE_LOAD = 3;
+    private static final byte STYLE_STOP = 4;
+    private static final byte STYLE_MOVE = 5;
+    private static final byte STYLE_END = 6;
+    private static final byte STYLE_OTHER = 7;
+    private static final String[] PALETTE = {"", ANSI_GREEN, ANSI_RED, ANSI_BLUE, ANSI_CYAN, ANSI_PURPLE,
+            ANSI_YELLOW, ANSI_WHITE};
+
     @Getter
     private boolean isRunning;
     private final Building building;
     private final int renderingSpeed;
+    @Getter
+    private final TerminalRenderer renderer;
+
+    private int[] elevatorFloorNumbers;
+    private byte[] elevatorStyles;
+    private String[] elevatorStateNames;
+    private Direction[] elevatorDirections;
+    private int[] elevatorNumbersOfPeople;
+    private int[] elevatorLoads;
+    private long[] elevatorNumbersOfDeliveredPeople;
 
-    private UserInterface(Building building, int renderingSpeed){
+    private UserInterface(Building building, int renderingSpeed, PrintStream out){
         checkNotNull(building);
         checkArgument(renderingSpeed <= MAX_SPEED && renderingSpeed >= MIN_SPEED);
 
         this.building = building;
         this.renderingSpeed = renderingSpeed;
+        this.renderer = TerminalRenderer.of(out, PALETTE);
 
         String threadName = "userInterface";
         this.setName(threadName);
     }
 
     public static UserInterface of(Building building, int renderingSpeed){
-        return new UserInterface(building, renderingSpeed);
+        return new UserInterface(building, renderingSpeed, System.out);
+    }
+
+    public static UserInterface of(Building building, int renderingSpeed, PrintStream out){
+        return new UserInterface(building, renderingSpeed, out);
     }
 
     public void printBuilding() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
-
-        String color;
-        System.out.printf("Delivered: %s\n", StatisticsHolder.getInstance().getNumberOfDeliveredPeople());
-        System.out.printf("Generated: %s\n", StatisticsHolder.getInstance().getNumberOfGeneratedPeople());
-        System.out.printf("Floors passed: %s\n", StatisticsHolder.getInstance().getNumberOfPassedFloors());
-
-        for (int i = building.getNumberOfFloors() - 1; i >= 0; i--) {
-            for (int j = 0; j < building.getElevators().size(); j++) {
-                if (building.getElevators().get(j).getCurrentFloorNumber() == i) {
-                    switch (building.getElevators().get(j).getState()) {
-                        case OPEN_DOOR:
-                            color = ANSI_GREEN;
-                            break;
-                        case CLOSE_DOOR:
-                            color = ANSI_RED;
-                            break;
-                        case LOAD:
-                            color = ANSI_BLUE;
-                            break;
-                        case STOP:
-                            color = ANSI_CYAN;
-                            break;
-                        case MOVE:
-                            color = ANSI_PURPLE;
-                            break;
-                        case END:
-                            color = ANSI_YELLOW;
-                            break;
-                        default:
-                            color = ANSI_WHITE;
-                            break;
-                    }
-                    System.out.printf(color + "|%d%4s|" + ANSI_RESET,
-                            building.getElevators().get(j).getNumberOfPeople(),
-                            building.getElevators().get(j).getDirection());
+        List<Elevator> elevators = building.getElevators();
+        int numberOfElevators = elevators.size();
+        int numberOfFloors = building.getNumberOfFloors();
+
+        takeElevatorSnapshot(elevators);
+
+        int height = NUMBER_OF_HEADER_LINES + numberOfFloors + 1 + numberOfElevators;
+        int width = Math.max(MIN_WIDTH, numberOfElevators * CELL_WIDTH + FLOOR_LABEL_WIDTH);
+        TerminalFrame frame = renderer.beginFrame(height, width);
+
+        int row = printHeader(frame, numberOfElevators);
+
+        for (int i = numberOfFloors - 1; i >= 0; i--, row++) {
+            int column = 0;
+            for (int j = 0; j < numberOfElevators; j++) {
+                if (elevatorFloorNumbers[j] == i) {
+                    byte style = elevatorStyles[j];
+                    column = frame.print(row, column, '|', style);
+                    column = frame.print(row, column, elevatorNumbersOfPeople[j], 2, style);
+                    column = frame.print(row, column, ' ', style);
+                    column = printRightAligned(frame, row, column, elevatorDirections[j].name(), 4, style);
+                    column = frame.print(row, column, '|', style);
                 } else {
-                    System.out.printf("|%5s|", " ");
+                    column = frame.print(row, column, '|', TerminalFrame.PLAIN);
+                    column += CELL_WIDTH - 2;
+                    column = frame.print(row, column, '|', TerminalFrame.PLAIN);
                 }
             }
-            System.out.printf("%s%d UP) %s%s\t", ANSI_PURPLE, (building.getFloor(i).getFloorNumber()),
-                    building.getFloor(i).getNumberOfPeople(Direction.UP), ANSI_RESET);
-            System.out.printf("%s%d DOWN) %s%s\n", ANSI_CYAN, (building.getFloor(i).getFloorNumber()),
-                    building.getFloor(i).getNumberOfPeople(Direction.DOWN), ANSI_RESET);
+
+            Floor floor = building.getFloor(i);
+            column = frame.print(row, column, i, 1, STYLE_MOVE);
+            column = frame.print(row, column, " UP) ", STYLE_MOVE);
+            column = frame.print(row, column, floor.getNumberOfPeople(Direction.UP), 1, STYLE_MOVE);
+            column += 4;
+            column = frame.print(row, column, i, 1, STYLE_STOP);
+            column = frame.print(row, column, " DOWN) ", STYLE_STOP);
+            frame.print(row, column, floor.getNumberOfPeople(Direction.DOWN), 1, STYLE_STOP);
         }
 
-        System.out.println(building.getController().getAllCalls());
-        for (int i = 0; i < building.getElevators().size(); i++) {
-            System.out.println(i + " " + building.getElevators().get(i).toString());
+        frame.print(row++, 0, building.getController().peekAllCalls().toString(), TerminalFrame.PLAIN);
+        for (int j = 0; j < numberOfElevators; j++, row++) {
+            frame.print(row, 0, String.format("%d State: %s; Direction: %s; Floor: %d; Passengers: %d; Load: %d; "
+                            + "Delivered: %d", j, elevatorStateNames[j], elevatorDirections[j], elevatorFloorNumbers[j],
+                    elevatorNumbersOfPeople[j], elevatorLoads[j], elevatorNumbersOfDeliveredPeople[j]),
+                    TerminalFrame.PLAIN);
+        }
+
+        renderer.endFrame();
+    }
+
+    private void takeElevatorSnapshot(List<Elevator> elevators) {
+        int numberOfElevators = elevators.size();
+        if (elevatorFloorNumbers == null || elevatorFloorNumbers.length != numberOfElevators) {
+            elevatorFloorNumbers = new int[numberOfElevators];
+            elevatorStyles = new byte[numberOfElevators];
+            elevatorStateNames = new String[numberOfElevators];
+            elevatorDirections = new Direction[numberOfElevators];
+            elevatorNumbersOfPeople = new int[numberOfElevators];
+            elevatorLoads = new int[numberOfElevators];
+            elevatorNumbersOfDeliveredPeople = new long[numberOfElevators];
+        }
+
+        for (int j = 0; j < numberOfElevators; j++) {
+            Elevator elevator = elevators.get(j);
+            elevatorFloorNumbers[j] = elevator.peekCurrentFloorNumber();
+            org.zadorozhn.building.state.State state = elevator.peekState();
+            elevatorStyles[j] = getStyle(state);
+            elevatorStateNames[j] = state.name();
+            elevatorDirections[j] = elevator.peekDirection();
+            elevatorNumbersOfPeople[j] = elevator.peekNumberOfPeople();
+            elevatorLoads[j] = elevator.getLoad();
+            elevatorNumbersOfDeliveredPeople[j] = elevator.getNumberOfDeliveredPeople();
+        }
+    }
+
+    private int printHeader(TerminalFrame frame, int numberOfElevators) {
+        StatisticsSnapshot statisticsSnapshot = building.getStatisticsSnapshot();
+        HallCallRegistry hallCallRegistry = building.getController().getHallCallRegistry();
+        long now = building.getClock().currentTimeMillis();
+        long window = WindowedStatistics.DEFAULT_WINDOW_DURATION;
+        WindowedStatistics windowedStatistics = building.getWindowedStatistics();
+        int row = 0;
+
+        frame.print(row++, 0, String.format("Delivered: %s", statisticsSnapshot.getNumberOfDeliveredPeople()),
+                TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Generated: %s", statisticsSnapshot.getNumberOfGeneratedPeople()),
+                TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Floors passed: %s", statisticsSnapshot.getNumberOfPassedFloors()),
+                TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Balked: %s; Diverted to stairs: %s",
+                statisticsSnapshot.getNumberOfBalkedPeople(),
+                statisticsSnapshot.getNumberOfDivertedPeople()), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Abandoned: %s (%.1f%%)",
+                statisticsSnapshot.getNumberOfAbandonedPeople(),
+                statisticsSnapshot.getAbandonmentRate() * 100), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Duplicate calls: %s (%.1f%%)",
+                hallCallRegistry.getNumberOfDuplicates(),
+                hallCallRegistry.getDuplicateRate() * 100), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Wait time: %s",
+                building.getLatencyStatistics().getHistogram(LatencyType.WAIT)), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Ride time: %s",
+                building.getLatencyStatistics().getHistogram(LatencyType.RIDE)), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Last minute: delivered %.1f/min; floors %.1f/min; utilisation %.1f%%",
+                windowedStatistics.getDeliveredPerMinute(now, window),
+                windowedStatistics.getPassedFloorsPerMinute(now, window),
+                windowedStatistics.getUtilisation(now, window, numberOfElevators) * 100), TerminalFrame.PLAIN);
+        frame.print(row++, 0, String.format("Queue length: %.2f average; %.2f by Little's law",
+                windowedStatistics.getAverageQueueLength(now, window),
+                windowedStatistics.getLittlesLawQueueLength(now, window)), TerminalFrame.PLAIN);
+
+        return row;
+    }
+
+    private static int printRightAligned(TerminalFrame frame, int row, int column, String text, int fieldWidth,
+                                         byte style) {
+        for (int i = text.length(); i < fieldWidth; i++) {
+            column = frame.print(row, column, TerminalFrame.BLANK, style);
+        }
+
+        return frame.print(row, column, text, style);
+    }
+
+    private static byte getStyle(org.zadorozhn.building.state.State state) {
+        switch (state) {
+            case OPEN_DOOR:
+                return STYLE_OPEN_DOOR;
+            case CLOSE_DOOR:
+                return STYLE_CLOSE_DOOR;
+            case LOAD:
+                return STYLE_LOAD;
+            case STOP:
+                return STYLE_STOP;
+            case MOVE:
+                return STYLE_MOVE;
+            case END:
+                return STYLE_END;
+            default:
+                return STYLE_OTHER;
         }
     }
 
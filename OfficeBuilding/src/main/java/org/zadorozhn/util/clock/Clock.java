@@ -0,0 +1,11 @@
+package org.zadorozhn.util.clock;
+
+public interface Clock {
+    long currentTimeMillis();
+
+    void sleep(long millis) throws InterruptedException;
+
+    static Clock system() {
+        return SystemClock.INSTANCE;
+    }
+}
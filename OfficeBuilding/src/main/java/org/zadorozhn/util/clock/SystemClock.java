@@ -0,0 +1,17 @@
+package org.zadorozhn.util.clock;
+
+import java.util.concurrent.TimeUnit;
+
+enum SystemClock implements Clock {
+    INSTANCE;
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(millis);
+    }
+}
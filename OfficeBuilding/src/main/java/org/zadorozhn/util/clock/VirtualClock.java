@@ -0,0 +1,42 @@
+package org.zadorozhn.util.clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class VirtualClock implements Clock {
+    private final AtomicLong currentTime;
+
+    private VirtualClock(long startTime) {
+        checkArgument(startTime >= 0);
+
+        this.currentTime = new AtomicLong(startTime);
+    }
+
+    public static VirtualClock of(long startTime) {
+        return new VirtualClock(startTime);
+    }
+
+    public static VirtualClock getDefault() {
+        return new VirtualClock(0);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTime.get();
+    }
+
+    @Override
+    public void sleep(long millis) {
+        checkArgument(millis >= 0);
+
+        currentTime.addAndGet(millis);
+    }
+
+    public void setCurrentTimeMillis(long time) {
+        checkArgument(time >= 0);
+
+        long previousTime = currentTime.getAndAccumulate(time, Math::max);
+        checkArgument(time >= previousTime);
+    }
+}
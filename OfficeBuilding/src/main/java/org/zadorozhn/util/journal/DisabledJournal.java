@@ -0,0 +1,14 @@
+package org.zadorozhn.util.journal;
+
+enum DisabledJournal implements EventJournal {
+    INSTANCE;
+
+    @Override
+    public void record(EventType type, long time, long elevatorId, int floorNumber, long passengerId, int value) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
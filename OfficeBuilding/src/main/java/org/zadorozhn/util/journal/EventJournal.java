@@ -0,0 +1,22 @@
+package org.zadorozhn.util.journal;
+
+public interface EventJournal {
+    long NO_ELEVATOR = -1;
+    int NO_FLOOR = -1;
+    long NO_PASSENGER = -1;
+    int NO_VALUE = 0;
+
+    void record(EventType type, long time, long elevatorId, int floorNumber, long passengerId, int value);
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    static EventJournal disabled() {
+        return DisabledJournal.INSTANCE;
+    }
+
+    static int toValue(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+}
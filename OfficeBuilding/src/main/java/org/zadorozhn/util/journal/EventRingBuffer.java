@@ -0,0 +1,93 @@
+package org.zadorozhn.util.journal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.*;
+
+class EventRingBuffer {
+    private static final int LONGS_PER_SLOT = 5;
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] slots;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong claimedSequence;
+    private final AtomicLong consumedSequence;
+
+    private EventRingBuffer(int capacity) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity %s is not a power of two", capacity);
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new long[capacity * LONGS_PER_SLOT];
+        this.publishedSequences = new AtomicLongArray(capacity);
+        this.claimedSequence = new AtomicLong(0);
+        this.consumedSequence = new AtomicLong(0);
+    }
+
+    static EventRingBuffer of(int capacity) {
+        return new EventRingBuffer(capacity);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int size() {
+        return (int) (claimedSequence.get() - consumedSequence.get());
+    }
+
+    boolean offer(EventType type, long time, long elevatorId, int floorNumber, long passengerId, int value) {
+        long sequence;
+        do {
+            sequence = claimedSequence.get();
+            if (sequence - consumedSequence.get() >= capacity) {
+                return false;
+            }
+        } while (!claimedSequence.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        int offset = index * LONGS_PER_SLOT;
+        slots[offset] = time;
+        slots[offset + 1] = passengerId;
+        slots[offset + 2] = elevatorId;
+        slots[offset + 3] = floorNumber;
+        slots[offset + 4] = (long) type.getCode() << Integer.SIZE | value & INT_MASK;
+        publishedSequences.lazySet(index, sequence + 1);
+
+        return true;
+    }
+
+    int drainTo(ByteBuffer buffer) {
+        long sequence = consumedSequence.get();
+        int numberOfDrainedEvents = 0;
+
+        while (buffer.remaining() >= JournalEvent.RECORD_SIZE) {
+            int index = (int) (sequence & mask);
+            if (publishedSequences.get(index) != sequence + 1) {
+                break;
+            }
+
+            int offset = index * LONGS_PER_SLOT;
+            long typeAndValue = slots[offset + 4];
+            buffer.putLong(slots[offset])
+                    .putLong(slots[offset + 1])
+                    .putLong(slots[offset + 2])
+                    .putInt((int) slots[offset + 3])
+                    .putInt((int) (typeAndValue >>> Integer.SIZE))
+                    .putInt((int) typeAndValue);
+
+            sequence++;
+            numberOfDrainedEvents++;
+        }
+
+        if (numberOfDrainedEvents > 0) {
+            consumedSequence.lazySet(sequence);
+        }
+
+        return numberOfDrainedEvents;
+    }
+}
@@ -0,0 +1,40 @@
+package org.zadorozhn.util.journal;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public enum EventType {
+    ARRIVAL(1),
+    BALK(2),
+    DIVERSION(3),
+    ABANDONMENT(4),
+    BOARDING(5),
+    ALIGHTING(6),
+    PASSED_FLOOR(7),
+    DOOR_OPEN(8),
+    DOOR_CLOSE(9);
+
+    public static final int NO_CODE = 0;
+
+    private static final EventType[] BY_CODE = new EventType[values().length + 1];
+
+    static {
+        for (EventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    @Getter
+    private final int code;
+
+    EventType(int code) {
+        this.code = code;
+    }
+
+    public static EventType ofCode(int code) {
+        checkArgument(code > NO_CODE && code < BY_CODE.length, "unknown event type code %s", code);
+
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,117 @@
+package org.zadorozhn.util.journal;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.*;
+
+public class FloorHeatmap {
+    public static final int BAR_WIDTH = 40;
+
+    @Getter
+    private final int numberOfFloors;
+    private final long[][] counts;
+    private final long[][] trips;
+    private final long[] totalWaitTimes;
+
+    @Getter
+    private long numberOfSkippedRecords;
+
+    private FloorHeatmap(int numberOfFloors) {
+        checkArgument(numberOfFloors > 0);
+
+        this.numberOfFloors = numberOfFloors;
+        this.counts = new long[EventType.values().length][numberOfFloors];
+        this.trips = new long[numberOfFloors][numberOfFloors];
+        this.totalWaitTimes = new long[numberOfFloors];
+    }
+
+    public static FloorHeatmap of(int numberOfFloors) {
+        return new FloorHeatmap(numberOfFloors);
+    }
+
+    public void record(EventType type, int floorNumber) {
+        checkNotNull(type);
+
+        if (!isFloorInRange(floorNumber)) {
+            numberOfSkippedRecords++;
+
+            return;
+        }
+
+        counts[type.ordinal()][floorNumber]++;
+    }
+
+    public void recordTrip(int startFloorNumber, int targetFloorNumber) {
+        if (!isFloorInRange(startFloorNumber) || !isFloorInRange(targetFloorNumber)) {
+            numberOfSkippedRecords++;
+
+            return;
+        }
+
+        trips[startFloorNumber][targetFloorNumber]++;
+    }
+
+    public void recordWaitTime(int floorNumber, long waitTime) {
+        checkArgument(waitTime >= 0);
+
+        if (!isFloorInRange(floorNumber)) {
+            numberOfSkippedRecords++;
+
+            return;
+        }
+
+        totalWaitTimes[floorNumber] += waitTime;
+    }
+
+    public boolean isFloorInRange(int floorNumber) {
+        return floorNumber >= 0 && floorNumber < numberOfFloors;
+    }
+
+    public long getCount(EventType type, int floorNumber) {
+        checkNotNull(type);
+        checkElementIndex(floorNumber, numberOfFloors);
+
+        return counts[type.ordinal()][floorNumber];
+    }
+
+    public long[] getCounts(EventType type) {
+        checkNotNull(type);
+
+        return counts[type.ordinal()].clone();
+    }
+
+    public long getNumberOfTrips(int startFloorNumber, int targetFloorNumber) {
+        checkElementIndex(startFloorNumber, numberOfFloors);
+        checkElementIndex(targetFloorNumber, numberOfFloors);
+
+        return trips[startFloorNumber][targetFloorNumber];
+    }
+
+    public double getAverageWaitTime(int floorNumber) {
+        long numberOfBoardings = getCount(EventType.BOARDING, floorNumber);
+
+        return numberOfBoardings == 0 ? 0 : (double) totalWaitTimes[floorNumber] / numberOfBoardings;
+    }
+
+    public String render(EventType type) {
+        checkNotNull(type);
+
+        long[] floorCounts = counts[type.ordinal()];
+        long maxCount = 1;
+        for (long count : floorCounts) {
+            maxCount = Math.max(maxCount, count);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = numberOfFloors - 1; i >= 0; i--) {
+            int width = (int) (floorCounts[i] * BAR_WIDTH / maxCount);
+            builder.append(String.format("%3d | ", i));
+            for (int j = 0; j < width; j++) {
+                builder.append('#');
+            }
+            builder.append(' ').append(floorCounts[i]).append('\n');
+        }
+
+        return builder.toString();
+    }
+}
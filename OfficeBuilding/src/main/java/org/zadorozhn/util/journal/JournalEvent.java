@@ -0,0 +1,37 @@
+package org.zadorozhn.util.journal;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class JournalEvent {
+    public static final int RECORD_SIZE = 3 * Long.BYTES + 3 * Integer.BYTES;
+
+    private final EventType type;
+    private final long time;
+    private final long elevatorId;
+    private final int floorNumber;
+    private final long passengerId;
+    private final int value;
+
+    private JournalEvent(EventType type, long time, long elevatorId, int floorNumber, long passengerId, int value) {
+        checkNotNull(type);
+
+        this.type = type;
+        this.time = time;
+        this.elevatorId = elevatorId;
+        this.floorNumber = floorNumber;
+        this.passengerId = passengerId;
+        this.value = value;
+    }
+
+    public static JournalEvent of(EventType type, long time, long elevatorId, int floorNumber, long passengerId,
+                                  int value) {
+        return new JournalEvent(type, time, elevatorId, floorNumber, passengerId, value);
+    }
+}
@@ -0,0 +1,6 @@
+package org.zadorozhn.util.journal;
+
+@FunctionalInterface
+public interface JournalListener {
+    void onEvent(JournalReader event);
+}
@@ -0,0 +1,118 @@
+package org.zadorozhn.util.journal;
+
+import lombok.Getter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.*;
+
+public class JournalReader implements Iterator<JournalEvent>, Closeable {
+    @Getter
+    private final List<Path> segmentPaths;
+
+    private int nextSegmentIndex;
+    private MappedByteBuffer segment;
+    private boolean isPending;
+
+    @Getter
+    private EventType type;
+    @Getter
+    private long time;
+    @Getter
+    private long elevatorId;
+    @Getter
+    private int floorNumber;
+    @Getter
+    private long passengerId;
+    @Getter
+    private int value;
+
+    private JournalReader(Path directory) throws IOException {
+        checkNotNull(directory);
+        checkArgument(Files.isDirectory(directory), "%s is not a directory", directory);
+
+        this.segmentPaths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                MappedEventJournal.SEGMENT_PREFIX + "*" + MappedEventJournal.SEGMENT_SUFFIX)) {
+            stream.forEach(segmentPaths::add);
+        }
+        Collections.sort(segmentPaths);
+    }
+
+    public static JournalReader of(Path directory) throws IOException {
+        return new JournalReader(directory);
+    }
+
+    public boolean advance() {
+        if (isPending) {
+            isPending = false;
+
+            return true;
+        }
+
+        while (segment == null || segment.remaining() < JournalEvent.RECORD_SIZE
+                || segment.getInt(segment.position() + 3 * Long.BYTES + Integer.BYTES) == EventType.NO_CODE) {
+            if (nextSegmentIndex == segmentPaths.size()) {
+                segment = null;
+
+                return false;
+            }
+            segment = map(segmentPaths.get(nextSegmentIndex++));
+        }
+
+        time = segment.getLong();
+        passengerId = segment.getLong();
+        elevatorId = segment.getLong();
+        floorNumber = segment.getInt();
+        type = EventType.ofCode(segment.getInt());
+        value = segment.getInt();
+
+        return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isPending) {
+            isPending = advance();
+        }
+
+        return isPending;
+    }
+
+    @Override
+    public JournalEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        isPending = false;
+
+        return JournalEvent.of(type, time, elevatorId, floorNumber, passengerId, value);
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+        nextSegmentIndex = segmentPaths.size();
+        isPending = false;
+    }
+
+    private static MappedByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.zadorozhn.util.journal;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.util.StatisticsSnapshot;
+import org.zadorozhn.util.latency.LatencyStatistics;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class JournalReplay {
+    public static final long NOT_BOARDED = -1;
+
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    @Getter
+    private final int numberOfFloors;
+    @Getter
+    private final LatencyStatistics latencyStatistics;
+    @Getter
+    private final FloorHeatmap heatmap;
+    private final long[] numberOfEvents;
+    private final PassengerTable boardedPassengers;
+    private final List<JournalListener> listeners;
+
+    @Getter
+    private long numberOfReplayedEvents;
+    @Getter
+    private long numberOfUnmatchedEvents;
+    @Getter
+    private long startTime;
+    @Getter
+    private long endTime;
+
+    private JournalReplay(int numberOfFloors) {
+        checkArgument(numberOfFloors > 0);
+
+        this.numberOfFloors = numberOfFloors;
+        this.latencyStatistics = LatencyStatistics.of(numberOfFloors);
+        this.heatmap = FloorHeatmap.of(numberOfFloors);
+        this.numberOfEvents = new long[EventType.values().length];
+        this.boardedPassengers = PassengerTable.getEmpty();
+        this.listeners = new ArrayList<>();
+    }
+
+    public static JournalReplay of(int numberOfFloors) {
+        return new JournalReplay(numberOfFloors);
+    }
+
+    public JournalReplay addListener(JournalListener listener) {
+        checkNotNull(listener);
+
+        listeners.add(listener);
+
+        return this;
+    }
+
+    public JournalReplay replay(Path directory) throws IOException {
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            return replay(journalReader);
+        }
+    }
+
+    public JournalReplay replay(JournalReader journalReader) {
+        checkNotNull(journalReader);
+
+        while (journalReader.advance()) {
+            accept(journalReader);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onEvent(journalReader);
+            }
+        }
+
+        log.info("journal replay has processed {} events", numberOfReplayedEvents);
+
+        return this;
+    }
+
+    public long getNumberOfEvents(EventType type) {
+        checkNotNull(type);
+
+        return numberOfEvents[type.ordinal()];
+    }
+
+    public int getNumberOfPassengersInFlight() {
+        return boardedPassengers.size();
+    }
+
+    public StatisticsSnapshot getStatisticsSnapshot() {
+        return StatisticsSnapshot.of(getNumberOfEvents(EventType.ALIGHTING),
+                getNumberOfEvents(EventType.ARRIVAL) + getNumberOfEvents(EventType.BALK)
+                        + getNumberOfEvents(EventType.DIVERSION),
+                getNumberOfEvents(EventType.PASSED_FLOOR), getNumberOfEvents(EventType.BALK),
+                getNumberOfEvents(EventType.DIVERSION), getNumberOfEvents(EventType.ABANDONMENT));
+    }
+
+    private void accept(JournalReader event) {
+        EventType type = event.getType();
+        int floorNumber = event.getFloorNumber();
+
+        switch (type) {
+            case ARRIVAL:
+                heatmap.recordTrip(floorNumber, event.getValue());
+                break;
+            case BOARDING:
+                boardedPassengers.put(event.getPassengerId(), (long) floorNumber << Integer.SIZE
+                        | event.getValue() & INT_MASK);
+                heatmap.recordWaitTime(floorNumber, Math.max(0, event.getValue()));
+                break;
+            case ALIGHTING:
+                recordJourney(event.getPassengerId(), floorNumber, event.getValue());
+                break;
+            default:
+                break;
+        }
+
+        heatmap.record(type, floorNumber);
+        numberOfEvents[type.ordinal()]++;
+
+        if (numberOfReplayedEvents == 0) {
+            startTime = event.getTime();
+            endTime = event.getTime();
+        } else {
+            startTime = Math.min(startTime, event.getTime());
+            endTime = Math.max(endTime, event.getTime());
+        }
+        numberOfReplayedEvents++;
+    }
+
+    private void recordJourney(long passengerId, int targetFloorNumber, int rideTime) {
+        long boarding = boardedPassengers.remove(passengerId, NOT_BOARDED);
+        int startFloorNumber = (int) (boarding >>> Integer.SIZE);
+
+        if (boarding == NOT_BOARDED || startFloorNumber == targetFloorNumber
+                || !heatmap.isFloorInRange(startFloorNumber)) {
+            numberOfUnmatchedEvents++;
+
+            return;
+        }
+
+        latencyStatistics.record(startFloorNumber,
+                targetFloorNumber > startFloorNumber ? Direction.UP : Direction.DOWN,
+                (int) boarding, rideTime);
+    }
+}
@@ -0,0 +1,185 @@
+package org.zadorozhn.util.journal;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.util.interrupt.Interruptible;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class MappedEventJournal implements EventJournal, Runnable, Interruptible, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 2 * 1024 * 1024 * JournalEvent.RECORD_SIZE;
+    public static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+    public static final String SEGMENT_PREFIX = "journal-";
+    public static final String SEGMENT_SUFFIX = ".bin";
+    public static final long IDLE_PARK_NANOS = 100_000;
+
+    @Getter
+    private final Path directory;
+    @Getter
+    private final int segmentSize;
+    private final EventRingBuffer ringBuffer;
+    private final AtomicLong numberOfDroppedEvents;
+
+    @Getter
+    private volatile boolean isRunning;
+    @Getter
+    private volatile boolean isClosed;
+    @Getter
+    private volatile long numberOfWrittenEvents;
+    @Getter
+    private volatile int numberOfSegments;
+
+    private Thread writerThread;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    private MappedEventJournal(Path directory, int segmentSize, int bufferCapacity) throws IOException {
+        checkNotNull(directory);
+        checkArgument(segmentSize >= JournalEvent.RECORD_SIZE && segmentSize % JournalEvent.RECORD_SIZE == 0,
+                "segment size %s is not a positive multiple of %s", segmentSize, JournalEvent.RECORD_SIZE);
+
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.ringBuffer = EventRingBuffer.of(bufferCapacity);
+        this.numberOfDroppedEvents = new AtomicLong(0);
+
+        roll();
+    }
+
+    public static MappedEventJournal of(Path directory) throws IOException {
+        return new MappedEventJournal(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public static MappedEventJournal of(Path directory, int segmentSize, int bufferCapacity) throws IOException {
+        return new MappedEventJournal(directory, segmentSize, bufferCapacity);
+    }
+
+    public static Path getSegmentPath(Path directory, int segmentIndex) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+    }
+
+    public synchronized MappedEventJournal start() {
+        checkState(!isClosed, "journal has already been closed");
+        checkState(writerThread == null, "journal has already been started");
+
+        turnOn();
+        writerThread = new Thread(this, "eventJournal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        return this;
+    }
+
+    @Override
+    public void record(EventType type, long time, long elevatorId, int floorNumber, long passengerId, int value) {
+        checkNotNull(type);
+
+        if (isClosed) {
+            numberOfDroppedEvents.incrementAndGet();
+
+            return;
+        }
+
+        if (!ringBuffer.offer(type, time, elevatorId, floorNumber, passengerId, value)) {
+            numberOfDroppedEvents.incrementAndGet();
+        }
+    }
+
+    public long getNumberOfDroppedEvents() {
+        return numberOfDroppedEvents.get();
+    }
+
+    @Override
+    public void turnOff() {
+        isRunning = false;
+
+        log.info("event journal has been stopped");
+    }
+
+    @Override
+    public void turnOn() {
+        isRunning = true;
+
+        log.info("event journal has been started");
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (isRunning) {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        } catch (IOException exception) {
+            log.error("event journal cannot write a segment");
+            log.error(exception.getMessage());
+
+            turnOff();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        if (isRunning) {
+            turnOff();
+        }
+
+        if (writerThread != null) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int numberOfDrainedEvents;
+        do {
+            numberOfDrainedEvents = drain();
+        } while (numberOfDrainedEvents > 0);
+
+        segment.force();
+        channel.truncate(segment.position());
+        channel.close();
+        numberOfDroppedEvents.addAndGet(ringBuffer.size());
+
+        log.info("event journal has written {} events to {} segments", numberOfWrittenEvents, numberOfSegments);
+    }
+
+    private int drain() throws IOException {
+        if (!segment.hasRemaining() && ringBuffer.size() > 0) {
+            roll();
+        }
+
+        int numberOfDrainedEvents = ringBuffer.drainTo(segment);
+        numberOfWrittenEvents += numberOfDrainedEvents;
+
+        return numberOfDrainedEvents;
+    }
+
+    private void roll() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+
+        channel = FileChannel.open(getSegmentPath(directory, numberOfSegments), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        numberOfSegments++;
+    }
+}
@@ -0,0 +1,125 @@
+package org.zadorozhn.util.journal;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+class PassengerTable {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long HASH_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    private PassengerTable(int capacity) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity %s is not a power of two", capacity);
+
+        allocate(capacity);
+    }
+
+    static PassengerTable getEmpty() {
+        return new PassengerTable(DEFAULT_CAPACITY);
+    }
+
+    static PassengerTable of(int capacity) {
+        return new PassengerTable(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void put(long key, long value) {
+        checkArgument(key != EMPTY);
+
+        int index = slotOf(key);
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+
+        if (keys[index] == EMPTY) {
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+
+        if (size > keys.length / 2) {
+            resize();
+        }
+    }
+
+    long get(long key, long defaultValue) {
+        int index = indexOf(key);
+
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    long remove(long key, long defaultValue) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return defaultValue;
+        }
+
+        long value = values[index];
+        int hole = index;
+        for (int i = (hole + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (((i - slotOf(keys[i])) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+
+        return value;
+    }
+
+    void clear() {
+        allocate(keys.length);
+    }
+
+    private int indexOf(long key) {
+        if (key == EMPTY) {
+            return -1;
+        }
+
+        for (int i = slotOf(key); keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int slotOf(long key) {
+        long hash = key * HASH_MULTIPLIER;
+
+        return (int) (hash ^ (hash >>> Integer.SIZE)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
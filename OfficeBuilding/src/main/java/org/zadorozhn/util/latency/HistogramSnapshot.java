@@ -0,0 +1,52 @@
+package org.zadorozhn.util.latency;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class HistogramSnapshot {
+    @Getter
+    private final long count;
+    @Getter
+    private final long sum;
+    private final long[] counts;
+
+    private HistogramSnapshot(long sum, long[] counts) {
+        this.sum = sum;
+        this.counts = counts;
+
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        this.count = count;
+    }
+
+    static HistogramSnapshot of(long sum, long[] counts) {
+        checkNotNull(counts);
+        checkArgument(counts.length == LatencyHistogram.NUMBER_OF_BUCKETS);
+
+        return new HistogramSnapshot(sum, counts);
+    }
+
+    public long[] getCumulativeCounts(long[] upperBounds) {
+        checkNotNull(upperBounds);
+        for (int i = 0; i < upperBounds.length; i++) {
+            checkArgument(LatencyHistogram.isAligned(upperBounds[i]));
+            checkArgument(i == 0 || upperBounds[i - 1] < upperBounds[i]);
+        }
+
+        long[] cumulativeCounts = new long[upperBounds.length];
+        int boundIndex = 0;
+        long accumulatedCount = 0;
+        for (int i = 0; i < counts.length && boundIndex < upperBounds.length; i++) {
+            accumulatedCount += counts[i];
+            while (boundIndex < upperBounds.length && LatencyHistogram.highestValueOf(i) == upperBounds[boundIndex]) {
+                cumulativeCounts[boundIndex++] = accumulatedCount;
+            }
+        }
+
+        return cumulativeCounts;
+    }
+}
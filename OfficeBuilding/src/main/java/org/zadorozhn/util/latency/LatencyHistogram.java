@@ -0,0 +1,137 @@
+package org.zadorozhn.util.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class LatencyHistogram {
+    public static final int SUB_BUCKET_BITS = 5;
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    public static final int NUMBER_OF_BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong totalValue;
+    private final AtomicLong maxValue;
+
+    private LatencyHistogram() {
+        this.counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        this.totalCount = new AtomicLong(0);
+        this.totalValue = new AtomicLong(0);
+        this.maxValue = new AtomicLong(0);
+    }
+
+    public static LatencyHistogram getEmpty() {
+        return new LatencyHistogram();
+    }
+
+    public void record(long value) {
+        checkArgument(value >= 0);
+
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        if (value > maxValue.get()) {
+            maxValue.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getSum() {
+        return totalValue.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    public HistogramSnapshot getSnapshot() {
+        long sum = totalValue.get();
+        long[] snapshot = new long[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+
+        return HistogramSnapshot.of(sum, snapshot);
+    }
+
+    public long[] getCumulativeCounts(long[] upperBounds) {
+        return getSnapshot().getCumulativeCounts(upperBounds);
+    }
+
+    public static long alignUpperBound(long value) {
+        checkArgument(value >= 0);
+
+        return highestValueOf(indexOf(value));
+    }
+
+    static boolean isAligned(long value) {
+        return value >= 0 && highestValueOf(indexOf(value)) == value;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100);
+
+        long[] snapshot = new long[NUMBER_OF_BUCKETS];
+        long count = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long accumulatedCount = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            accumulatedCount += snapshot[i];
+            if (accumulatedCount >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    public void reset() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count: %d; p50: %d; p90: %d; p99: %d; max: %d", getCount(),
+                getValueAtPercentile(50), getValueAtPercentile(90), getValueAtPercentile(99), getMax());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - shift * SUB_BUCKET_COUNT;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
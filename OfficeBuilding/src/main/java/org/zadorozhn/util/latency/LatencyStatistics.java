@@ -0,0 +1,98 @@
+package org.zadorozhn.util.latency;
+
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.*;
+
+public class LatencyStatistics {
+    private final int numberOfFloors;
+    private final Map<LatencyType, LatencyHistogram> histograms;
+    private final Map<LatencyType, LatencyHistogram[]> histogramsByFloor;
+    private final Map<LatencyType, Map<Direction, LatencyHistogram>> histogramsByDirection;
+
+    private LatencyStatistics(int numberOfFloors) {
+        checkArgument(numberOfFloors > 0);
+
+        this.numberOfFloors = numberOfFloors;
+        this.histograms = new EnumMap<>(LatencyType.class);
+        this.histogramsByFloor = new EnumMap<>(LatencyType.class);
+        this.histogramsByDirection = new EnumMap<>(LatencyType.class);
+
+        for (LatencyType latencyType : LatencyType.values()) {
+            histograms.put(latencyType, LatencyHistogram.getEmpty());
+
+            LatencyHistogram[] floorHistograms = new LatencyHistogram[numberOfFloors];
+            for (int i = 0; i < numberOfFloors; i++) {
+                floorHistograms[i] = LatencyHistogram.getEmpty();
+            }
+            histogramsByFloor.put(latencyType, floorHistograms);
+
+            Map<Direction, LatencyHistogram> directionHistograms = new EnumMap<>(Direction.class);
+            directionHistograms.put(Direction.UP, LatencyHistogram.getEmpty());
+            directionHistograms.put(Direction.DOWN, LatencyHistogram.getEmpty());
+            histogramsByDirection.put(latencyType, directionHistograms);
+        }
+    }
+
+    public static LatencyStatistics of(int numberOfFloors) {
+        return new LatencyStatistics(numberOfFloors);
+    }
+
+    public void record(Human human) {
+        checkNotNull(human);
+        checkArgument(human.isDelivered());
+
+        record(human.getStartFloor().getFloorNumber(), human.getCall().getDirection(), human.getWaitTime(),
+                human.getRideTime());
+    }
+
+    public void record(int floorNumber, Direction direction, long waitTime, long rideTime) {
+        checkElementIndex(floorNumber, numberOfFloors);
+        checkArgument(direction == Direction.UP || direction == Direction.DOWN);
+
+        record(LatencyType.WAIT, floorNumber, direction, waitTime);
+        record(LatencyType.RIDE, floorNumber, direction, rideTime);
+        record(LatencyType.JOURNEY, floorNumber, direction, waitTime + rideTime);
+    }
+
+    public LatencyHistogram getHistogram(LatencyType latencyType) {
+        checkNotNull(latencyType);
+
+        return histograms.get(latencyType);
+    }
+
+    public LatencyHistogram getHistogram(LatencyType latencyType, int floorNumber) {
+        checkNotNull(latencyType);
+        checkElementIndex(floorNumber, numberOfFloors);
+
+        return histogramsByFloor.get(latencyType)[floorNumber];
+    }
+
+    public LatencyHistogram getHistogram(LatencyType latencyType, Direction direction) {
+        checkNotNull(latencyType);
+        checkArgument(direction == Direction.UP || direction == Direction.DOWN);
+
+        return histogramsByDirection.get(latencyType).get(direction);
+    }
+
+    public void reset() {
+        for (LatencyType latencyType : LatencyType.values()) {
+            histograms.get(latencyType).reset();
+            for (LatencyHistogram histogram : histogramsByFloor.get(latencyType)) {
+                histogram.reset();
+            }
+            histogramsByDirection.get(latencyType).values().forEach(LatencyHistogram::reset);
+        }
+    }
+
+    private void record(LatencyType latencyType, int floorNumber, Direction direction, long value) {
+        long latency = Math.max(0, value);
+
+        histograms.get(latencyType).record(latency);
+        histogramsByFloor.get(latencyType)[floorNumber].record(latency);
+        histogramsByDirection.get(latencyType).get(direction).record(latency);
+    }
+}
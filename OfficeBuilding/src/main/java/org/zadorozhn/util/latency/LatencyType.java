@@ -0,0 +1,7 @@
+package org.zadorozhn.util.latency;
+
+public enum LatencyType {
+    WAIT,
+    RIDE,
+    JOURNEY
+}
@@ -0,0 +1,206 @@
+package org.zadorozhn.util.lock;
+
+import lombok.Getter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class InstrumentedLock implements Lock {
+    private final ReentrantLock delegate;
+    @Getter
+    private final LockStatistics lockStatistics;
+    private long holdStartTime;
+    private long suspendedHoldTime;
+
+    private InstrumentedLock(ReentrantLock delegate, LockStatistics lockStatistics) {
+        this.delegate = checkNotNull(delegate);
+        this.lockStatistics = checkNotNull(lockStatistics);
+    }
+
+    public static InstrumentedLock of(boolean fair, LockStatistics lockStatistics) {
+        return new InstrumentedLock(new ReentrantLock(fair), lockStatistics);
+    }
+
+    @Override
+    public void lock() {
+        boolean isContended = isContended();
+        long startTime = System.nanoTime();
+        delegate.lock();
+        onAcquired(System.nanoTime() - startTime, isContended);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        boolean isContended = isContended();
+        long startTime = System.nanoTime();
+        delegate.lockInterruptibly();
+        onAcquired(System.nanoTime() - startTime, isContended);
+    }
+
+    @Override
+    public boolean tryLock() {
+        boolean isAcquired = delegate.tryLock();
+        if (isAcquired) {
+            onAcquired(0, false);
+        }
+
+        return isAcquired;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        boolean isContended = isContended();
+        long startTime = System.nanoTime();
+        boolean isAcquired = delegate.tryLock(time, unit);
+        if (isAcquired) {
+            onAcquired(System.nanoTime() - startTime, isContended);
+        }
+
+        return isAcquired;
+    }
+
+    @Override
+    public void unlock() {
+        if (delegate.getHoldCount() == 1) {
+            lockStatistics.recordRelease(suspendedHoldTime + System.nanoTime() - holdStartTime);
+            suspendedHoldTime = 0;
+        }
+        delegate.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return new InstrumentedCondition(delegate.newCondition());
+    }
+
+    public boolean isHeldByCurrentThread() {
+        return delegate.isHeldByCurrentThread();
+    }
+
+    private boolean isContended() {
+        return delegate.isLocked() && !delegate.isHeldByCurrentThread() || delegate.hasQueuedThreads();
+    }
+
+    private void onAcquired(long waitTime, boolean isContended) {
+        if (delegate.getHoldCount() == 1) {
+            holdStartTime = System.nanoTime();
+            suspendedHoldTime = 0;
+            lockStatistics.recordAcquisition(waitTime, isContended);
+        }
+    }
+
+    private class InstrumentedCondition implements Condition {
+        private final Condition condition;
+        private volatile long lastSignalTime;
+
+        private InstrumentedCondition(Condition condition) {
+            this.condition = condition;
+            this.lastSignalTime = System.nanoTime();
+        }
+
+        @Override
+        public void await() throws InterruptedException {
+            long carriedHoldTime = suspend();
+            long awaitStartTime = System.nanoTime();
+            try {
+                condition.await();
+            } finally {
+                resume(carriedHoldTime, awaitStartTime, Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void awaitUninterruptibly() {
+            long carriedHoldTime = suspend();
+            long awaitStartTime = System.nanoTime();
+            try {
+                condition.awaitUninterruptibly();
+            } finally {
+                resume(carriedHoldTime, awaitStartTime, Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public long awaitNanos(long nanosTimeout) throws InterruptedException {
+            long carriedHoldTime = suspend();
+            long awaitStartTime = System.nanoTime();
+            try {
+                return condition.awaitNanos(nanosTimeout);
+            } finally {
+                resume(carriedHoldTime, awaitStartTime, nanosTimeout);
+            }
+        }
+
+        @Override
+        public boolean await(long time, TimeUnit unit) throws InterruptedException {
+            long carriedHoldTime = suspend();
+            long awaitStartTime = System.nanoTime();
+            try {
+                return condition.await(time, unit);
+            } finally {
+                resume(carriedHoldTime, awaitStartTime, unit.toNanos(time));
+            }
+        }
+
+        @Override
+        public boolean awaitUntil(Date deadline) throws InterruptedException {
+            long carriedHoldTime = suspend();
+            long awaitStartTime = System.nanoTime();
+            long timeout = TimeUnit.MILLISECONDS.toNanos(deadline.getTime() - System.currentTimeMillis());
+            try {
+                return condition.awaitUntil(deadline);
+            } finally {
+                resume(carriedHoldTime, awaitStartTime, timeout);
+            }
+        }
+
+        @Override
+        public void signal() {
+            lastSignalTime = System.nanoTime();
+            condition.signal();
+        }
+
+        @Override
+        public void signalAll() {
+            lastSignalTime = System.nanoTime();
+            condition.signalAll();
+        }
+
+        private long suspend() {
+            long holdTime = suspendedHoldTime + System.nanoTime() - holdStartTime;
+            if (delegate.getHoldCount() > 1) {
+                return holdTime;
+            }
+
+            lockStatistics.recordRelease(holdTime);
+
+            return 0;
+        }
+
+        private void resume(long carriedHoldTime, long awaitStartTime, long timeout) {
+            long currentTime = System.nanoTime();
+            long elapsedTime = currentTime - awaitStartTime;
+            long signalDelay = lastSignalTime - awaitStartTime;
+            boolean isSignalled = signalDelay >= 0 && signalDelay <= Math.max(0, timeout);
+
+            long wakeUpDelay = elapsedTime;
+            if (isSignalled) {
+                wakeUpDelay = signalDelay;
+            } else if (timeout < elapsedTime) {
+                wakeUpDelay = Math.max(0, timeout);
+            }
+
+            holdStartTime = currentTime;
+            if (delegate.getHoldCount() > 1) {
+                suspendedHoldTime = carriedHoldTime;
+            } else {
+                suspendedHoldTime = 0;
+                lockStatistics.recordAcquisition(elapsedTime - wakeUpDelay, isSignalled);
+            }
+        }
+    }
+}
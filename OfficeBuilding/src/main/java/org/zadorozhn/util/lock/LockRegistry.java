@@ -0,0 +1,73 @@
+package org.zadorozhn.util.lock;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class LockRegistry {
+    public static final String INSTRUMENTATION_PROPERTY = "lock.instrumentation";
+
+    private static final LockRegistry DEFAULT = new LockRegistry(Boolean.getBoolean(INSTRUMENTATION_PROPERTY));
+
+    private final Map<String, LockStatistics> lockStatistics;
+    private volatile boolean isEnabled;
+
+    private LockRegistry(boolean isEnabled) {
+        this.lockStatistics = new ConcurrentHashMap<>();
+        this.isEnabled = isEnabled;
+    }
+
+    public static LockRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public static LockRegistry of(boolean isEnabled) {
+        return new LockRegistry(isEnabled);
+    }
+
+    public Lock newLock(String name, boolean fair) {
+        checkNotNull(name);
+
+        if (!isEnabled) {
+            return new ReentrantLock(fair);
+        }
+
+        return InstrumentedLock.of(fair, lockStatistics.computeIfAbsent(name, LockStatistics::of));
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    public List<LockStatistics> getRanking() {
+        return ImmutableList.copyOf(lockStatistics.values().stream()
+                .sorted(Comparator.comparingLong(LockStatistics::getTotalWaitTimeNanos).reversed()
+                        .thenComparing(LockStatistics::getName))
+                .collect(Collectors.toList()));
+    }
+
+    public String getReport() {
+        return getRanking().stream()
+                .map(LockStatistics::toString)
+                .collect(Collectors.joining("\n"));
+    }
+
+    public void reset() {
+        lockStatistics.values().forEach(LockStatistics::reset);
+    }
+
+    public void clear() {
+        lockStatistics.clear();
+    }
+}
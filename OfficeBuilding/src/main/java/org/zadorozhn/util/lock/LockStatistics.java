@@ -0,0 +1,68 @@
+package org.zadorozhn.util.lock;
+
+import lombok.Getter;
+import org.zadorozhn.util.latency.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.*;
+
+@Getter
+public class LockStatistics {
+    private final String name;
+    private final AtomicLong numberOfAcquisitions;
+    private final AtomicLong numberOfContendedAcquisitions;
+    private final LatencyHistogram waitTimeHistogram;
+    private final LatencyHistogram holdTimeHistogram;
+
+    private LockStatistics(String name) {
+        checkNotNull(name);
+
+        this.name = name;
+        this.numberOfAcquisitions = new AtomicLong(0);
+        this.numberOfContendedAcquisitions = new AtomicLong(0);
+        this.waitTimeHistogram = LatencyHistogram.getEmpty();
+        this.holdTimeHistogram = LatencyHistogram.getEmpty();
+    }
+
+    public static LockStatistics of(String name) {
+        return new LockStatistics(name);
+    }
+
+    public void recordAcquisition(long waitTimeNanos, boolean isContended) {
+        numberOfAcquisitions.incrementAndGet();
+        if (isContended) {
+            numberOfContendedAcquisitions.incrementAndGet();
+        }
+        waitTimeHistogram.record(Math.max(0, waitTimeNanos));
+    }
+
+    public void recordRelease(long holdTimeNanos) {
+        holdTimeHistogram.record(Math.max(0, holdTimeNanos));
+    }
+
+    public long getTotalWaitTimeNanos() {
+        return waitTimeHistogram.getSum();
+    }
+
+    public long getTotalHoldTimeNanos() {
+        return holdTimeHistogram.getSum();
+    }
+
+    public void reset() {
+        numberOfAcquisitions.set(0);
+        numberOfContendedAcquisitions.set(0);
+        waitTimeHistogram.reset();
+        holdTimeHistogram.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: acquisitions: %d; contended: %d; blocked: %d ms; wait p99: %d us; "
+                        + "hold p99: %d us; hold max: %d us", name, numberOfAcquisitions.get(),
+                numberOfContendedAcquisitions.get(), TimeUnit.NANOSECONDS.toMillis(getTotalWaitTimeNanos()),
+                TimeUnit.NANOSECONDS.toMicros(waitTimeHistogram.getValueAtPercentile(99)),
+                TimeUnit.NANOSECONDS.toMicros(holdTimeHistogram.getValueAtPercentile(99)),
+                TimeUnit.NANOSECONDS.toMicros(holdTimeHistogram.getMax()));
+    }
+}
@@ -0,0 +1,224 @@
+package org.zadorozhn.util.simulation;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.OverflowPolicy;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.human.PatienceDistribution;
+import org.zadorozhn.util.RenegingTimer;
+import org.zadorozhn.util.clock.VirtualClock;
+import org.zadorozhn.util.traffic.Journey;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class Simulation {
+    public static final long IDLE = Long.MAX_VALUE;
+
+    private final Building building;
+    private final Controller controller;
+    private final List<Elevator> elevators;
+    private final TrafficProfile trafficProfile;
+    private final VirtualClock clock;
+    private final VirtualClock[] elevatorClocks;
+    private final RenegingTimer renegingTimer;
+    private final Random random;
+    private final long[] nextStepTimes;
+    private final int[] lastFloorNumbers;
+    private final String[] lastSnapshots;
+    private final List<String> eventLog;
+
+    @Getter
+    private final long seed;
+    @Getter
+    private long numberOfGeneratedPeople;
+    @Getter
+    private long numberOfPassedFloors;
+    @Getter
+    private long numberOfAbandonedPeople;
+
+    @Setter
+    private PatienceDistribution patienceDistribution;
+
+    private long nextArrivalTime;
+    private long nextRenegingTime;
+    private long endTime;
+
+    private Simulation(Building building, TrafficProfile trafficProfile, long seed) {
+        checkNotNull(building);
+        checkNotNull(building.getController());
+        checkNotNull(trafficProfile);
+        checkArgument(!building.getElevators().isEmpty());
+        checkArgument(building.getElevators().stream().noneMatch(Elevator::isRunning));
+        checkArgument(building.getFloors().stream().noneMatch(Simulation::canBlock));
+
+        this.building = building;
+        this.controller = building.getController();
+        this.elevators = building.getElevators();
+        this.trafficProfile = trafficProfile;
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.clock = VirtualClock.getDefault();
+        this.renegingTimer = building.getRenegingTimer();
+        this.patienceDistribution = PatienceDistribution.infinite();
+        this.elevatorClocks = new VirtualClock[elevators.size()];
+        this.nextStepTimes = new long[elevators.size()];
+        this.lastFloorNumbers = new int[elevators.size()];
+        this.lastSnapshots = new String[elevators.size()];
+        this.eventLog = new ArrayList<>();
+
+        building.setClock(clock);
+        for (int i = 0; i < elevators.size(); i++) {
+            elevatorClocks[i] = VirtualClock.of(clock.currentTimeMillis());
+            elevators.get(i).setClock(elevatorClocks[i]);
+            nextStepTimes[i] = clock.currentTimeMillis();
+            lastFloorNumbers[i] = elevators.get(i).getCurrentFloorNumber();
+        }
+        this.nextArrivalTime = trafficProfile.nextArrivalTime(clock.currentTimeMillis(), random);
+        this.nextRenegingTime = clock.currentTimeMillis() + renegingTimer.getTickDuration();
+        this.endTime = clock.currentTimeMillis();
+    }
+
+    public static Simulation of(Building building, TrafficProfile trafficProfile, long seed) {
+        return new Simulation(building, trafficProfile, seed);
+    }
+
+    public Simulation run(long duration) {
+        checkArgument(duration >= 0);
+
+        endTime += duration;
+
+        while (true) {
+            int elevatorIndex = getNextElevatorIndex();
+            long nextStepTime = nextStepTimes[elevatorIndex];
+
+            if (Math.min(nextRenegingTime, Math.min(nextArrivalTime, nextStepTime)) > endTime) {
+                break;
+            }
+
+            if (nextRenegingTime <= nextArrivalTime && nextRenegingTime <= nextStepTime) {
+                advanceClockTo(nextRenegingTime);
+                renege();
+                nextRenegingTime += renegingTimer.getTickDuration();
+
+                continue;
+            }
+
+            if (nextArrivalTime <= nextStepTime) {
+                advanceClockTo(nextArrivalTime);
+                arrive();
+                nextArrivalTime = trafficProfile.nextArrivalTime(nextArrivalTime, random);
+            } else {
+                advanceClockTo(nextStepTime);
+                step(elevatorIndex);
+            }
+
+            dispatch();
+        }
+
+        advanceClockTo(endTime);
+
+        log.info("simulation with seed {} has reached {}", seed, endTime);
+
+        return this;
+    }
+
+    public long getCurrentTime() {
+        return clock.currentTimeMillis();
+    }
+
+    public long getNumberOfDeliveredPeople() {
+        return elevators.stream().mapToLong(Elevator::getNumberOfDeliveredPeople).sum();
+    }
+
+    public List<String> getEventLog() {
+        return ImmutableList.copyOf(eventLog);
+    }
+
+    private int getNextElevatorIndex() {
+        int nextElevatorIndex = 0;
+        for (int i = 1; i < nextStepTimes.length; i++) {
+            if (nextStepTimes[i] < nextStepTimes[nextElevatorIndex]) {
+                nextElevatorIndex = i;
+            }
+        }
+
+        return nextElevatorIndex;
+    }
+
+    private void advanceClockTo(long time) {
+        clock.setCurrentTimeMillis(Math.max(clock.currentTimeMillis(), time));
+    }
+
+    private static boolean canBlock(Floor floor) {
+        return floor.getOverflowPolicy() == OverflowPolicy.BLOCK && floor.getCapacity() != Floor.UNLIMITED_CAPACITY;
+    }
+
+    private void renege() {
+        int numberOfAbandonedPeople = renegingTimer.advance(clock.currentTimeMillis());
+        if (numberOfAbandonedPeople > 0) {
+            this.numberOfAbandonedPeople += numberOfAbandonedPeople;
+            eventLog.add(String.format("%d abandonment %d", clock.currentTimeMillis(), numberOfAbandonedPeople));
+        }
+    }
+
+    private void arrive() {
+        Journey journey = trafficProfile.nextJourney(clock.currentTimeMillis(), building.getNumberOfFloors(),
+                random);
+        int weight = Human.MIN_WEIGHT + random.nextInt(Human.MAX_WEIGHT - Human.MIN_WEIGHT + 1);
+        Floor startFloor = building.getFloor(journey.getStartFloorNumber());
+        checkState(!canBlock(startFloor));
+
+        building.addHuman(Human.of(weight, journey.getTargetFloorNumber(), startFloor,
+                patienceDistribution.nextPatience()));
+        numberOfGeneratedPeople++;
+
+        eventLog.add(String.format("%d arrival %d->%d weight %d", clock.currentTimeMillis(),
+                journey.getStartFloorNumber(), journey.getTargetFloorNumber(), weight));
+    }
+
+    private void step(int elevatorIndex) {
+        Elevator elevator = elevators.get(elevatorIndex);
+        long stepTime = clock.currentTimeMillis();
+
+        elevatorClocks[elevatorIndex].setCurrentTimeMillis(stepTime);
+        long duration = elevator.step();
+
+        int floorNumber = elevator.getCurrentFloorNumber();
+        numberOfPassedFloors += Math.abs(floorNumber - lastFloorNumbers[elevatorIndex]);
+        lastFloorNumbers[elevatorIndex] = floorNumber;
+
+        String snapshot = String.format("%s floor %d %s passengers %d delivered %d", elevator.getState(),
+                floorNumber, elevator.getDirection(), elevator.getNumberOfPeople(),
+                elevator.getNumberOfDeliveredPeople());
+        if (!snapshot.equals(lastSnapshots[elevatorIndex])) {
+            eventLog.add(String.format("%d elevator %d %s", stepTime, elevatorIndex, snapshot));
+            lastSnapshots[elevatorIndex] = snapshot;
+        }
+
+        nextStepTimes[elevatorIndex] = duration == Elevator.NO_OPERATION ? IDLE : stepTime + Math.max(duration, 1);
+    }
+
+    private void dispatch() {
+        int numberOfPendingCalls = controller.getAllCalls().size() + controller.getAllDestinationCalls().size();
+        for (int i = 0; i < numberOfPendingCalls; i++) {
+            controller.dispatchCall();
+        }
+
+        for (int i = 0; i < elevators.size(); i++) {
+            if (nextStepTimes[i] == IDLE && !elevators.get(i).getCalls().isEmpty()) {
+                nextStepTimes[i] = clock.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.zadorozhn.util.terminal;
+
+import lombok.Getter;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.*;
+
+public class TerminalFrame {
+    public static final char BLANK = ' ';
+    public static final byte PLAIN = 0;
+
+    @Getter
+    private int height;
+    @Getter
+    private int width;
+    private char[] characters;
+    private byte[] styles;
+
+    private TerminalFrame(int height, int width) {
+        resize(height, width);
+    }
+
+    public static TerminalFrame of(int height, int width) {
+        return new TerminalFrame(height, width);
+    }
+
+    public void resize(int height, int width) {
+        checkArgument(height > 0);
+        checkArgument(width > 0);
+
+        this.height = height;
+        this.width = width;
+        if (characters == null || characters.length < height * width) {
+            this.characters = new char[height * width];
+            this.styles = new byte[height * width];
+        }
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(characters, 0, height * width, BLANK);
+        Arrays.fill(styles, 0, height * width, PLAIN);
+    }
+
+    public char getCharacter(int row, int column) {
+        return characters[indexOf(row, column)];
+    }
+
+    public byte getStyle(int row, int column) {
+        return styles[indexOf(row, column)];
+    }
+
+    public int print(int row, int column, char character, byte style) {
+        checkElementIndex(row, height);
+
+        if (column >= 0 && column < width) {
+            characters[row * width + column] = character;
+            styles[row * width + column] = style;
+        }
+
+        return column + 1;
+    }
+
+    public int print(int row, int column, CharSequence text, byte style) {
+        checkNotNull(text);
+
+        for (int i = 0; i < text.length(); i++) {
+            column = print(row, column, text.charAt(i), style);
+        }
+
+        return column;
+    }
+
+    public int print(int row, int column, long value, int fieldWidth, byte style) {
+        int numberOfDigits = 1;
+        for (long rest = Math.abs(value / 10); rest > 0; rest /= 10) {
+            numberOfDigits++;
+        }
+        if (value < 0) {
+            numberOfDigits++;
+        }
+
+        for (int i = numberOfDigits; i < fieldWidth; i++) {
+            column = print(row, column, BLANK, style);
+        }
+
+        int end = column + numberOfDigits;
+        long rest = value;
+        for (int i = end - 1; i >= column + (value < 0 ? 1 : 0); i--) {
+            print(row, i, (char) ('0' + Math.abs(rest % 10)), style);
+            rest /= 10;
+        }
+        if (value < 0) {
+            print(row, column, '-', style);
+        }
+
+        return end;
+    }
+
+    public boolean hasSameSize(TerminalFrame frame) {
+        checkNotNull(frame);
+
+        return height == frame.height && width == frame.width;
+    }
+
+    boolean isSameCell(TerminalFrame frame, int index) {
+        return characters[index] == frame.characters[index] && styles[index] == frame.styles[index];
+    }
+
+    boolean isBlank(int index) {
+        return characters[index] == BLANK && styles[index] == PLAIN;
+    }
+
+    char getCharacter(int index) {
+        return characters[index];
+    }
+
+    byte getStyle(int index) {
+        return styles[index];
+    }
+
+    private int indexOf(int row, int column) {
+        checkElementIndex(row, height);
+        checkElementIndex(column, width);
+
+        return row * width + column;
+    }
+}
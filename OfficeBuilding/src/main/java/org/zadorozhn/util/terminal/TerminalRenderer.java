@@ -0,0 +1,116 @@
+package org.zadorozhn.util.terminal;
+
+import lombok.Getter;
+import java.io.PrintStream;
+
+import static com.google.common.base.Preconditions.*;
+
+public class TerminalRenderer {
+    public static final String ANSI_RESET = "\u001B[0m";
+    public static final String ANSI_CLEAR_SCREEN = "\u001B[H\u001B[2J";
+
+    private final PrintStream out;
+    private final String[] palette;
+    private final StringBuilder output;
+
+    private TerminalFrame frontFrame;
+    private TerminalFrame backFrame;
+    private boolean isRedrawRequired;
+
+    @Getter
+    private long numberOfFrames;
+    @Getter
+    private long numberOfChangedCells;
+
+    private TerminalRenderer(PrintStream out, String[] palette) {
+        checkNotNull(out);
+        checkNotNull(palette);
+        checkArgument(palette.length > 0 && palette.length <= Byte.MAX_VALUE);
+
+        this.out = out;
+        this.palette = palette.clone();
+        this.output = new StringBuilder();
+        this.frontFrame = TerminalFrame.of(1, 1);
+        this.backFrame = TerminalFrame.of(1, 1);
+        this.isRedrawRequired = true;
+    }
+
+    public static TerminalRenderer of(PrintStream out, String... palette) {
+        return new TerminalRenderer(out, palette);
+    }
+
+    public TerminalFrame beginFrame(int height, int width) {
+        if (backFrame.getHeight() != height || backFrame.getWidth() != width) {
+            backFrame.resize(height, width);
+        } else {
+            backFrame.clear();
+        }
+
+        return backFrame;
+    }
+
+    public void requestRedraw() {
+        isRedrawRequired = true;
+    }
+
+    public void endFrame() {
+        output.setLength(0);
+
+        boolean isRedraw = isRedrawRequired || !backFrame.hasSameSize(frontFrame);
+        if (isRedraw) {
+            output.append(ANSI_CLEAR_SCREEN);
+        }
+
+        int width = backFrame.getWidth();
+        int cursorIndex = -1;
+        byte currentStyle = TerminalFrame.PLAIN;
+
+        for (int row = 0; row < backFrame.getHeight(); row++) {
+            int rowStart = row * width;
+            int rowEnd = rowStart + width;
+            if (isRedraw) {
+                while (rowEnd > rowStart && backFrame.isBlank(rowEnd - 1)) {
+                    rowEnd--;
+                }
+            }
+
+            for (int index = rowStart; index < rowEnd; index++) {
+                boolean isSkipped = isRedraw
+                        ? index != cursorIndex && backFrame.isBlank(index)
+                        : backFrame.isSameCell(frontFrame, index);
+                if (isSkipped) {
+                    continue;
+                }
+
+                if (index != cursorIndex) {
+                    output.append("\u001B[").append(row + 1).append(';').append(index - rowStart + 1).append('H');
+                }
+
+                byte style = backFrame.getStyle(index);
+                if (style != currentStyle) {
+                    output.append(ANSI_RESET).append(palette[style]);
+                    currentStyle = style;
+                }
+
+                output.append(backFrame.getCharacter(index));
+                cursorIndex = index + 1 == rowStart + width ? -1 : index + 1;
+                numberOfChangedCells++;
+            }
+        }
+
+        if (currentStyle != TerminalFrame.PLAIN) {
+            output.append(ANSI_RESET);
+        }
+
+        if (output.length() > 0) {
+            out.append(output);
+            out.flush();
+        }
+
+        TerminalFrame frame = frontFrame;
+        frontFrame = backFrame;
+        backFrame = frame;
+        isRedrawRequired = false;
+        numberOfFrames++;
+    }
+}
@@ -0,0 +1,26 @@
+package org.zadorozhn.util.trace;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Arrival {
+    private final long timestamp;
+    private final int startFloorNumber;
+    private final int targetFloorNumber;
+    private final int weight;
+
+    private Arrival(long timestamp, int startFloorNumber, int targetFloorNumber, int weight) {
+        this.timestamp = timestamp;
+        this.startFloorNumber = startFloorNumber;
+        this.targetFloorNumber = targetFloorNumber;
+        this.weight = weight;
+    }
+
+    public static Arrival of(long timestamp, int startFloorNumber, int targetFloorNumber, int weight) {
+        return new Arrival(timestamp, startFloorNumber, targetFloorNumber, weight);
+    }
+}
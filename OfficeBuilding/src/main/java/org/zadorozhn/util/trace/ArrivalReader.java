@@ -0,0 +1,16 @@
+package org.zadorozhn.util.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+public interface ArrivalReader extends Iterator<Arrival>, Closeable {
+    static ArrivalReader csv(Path path) throws IOException {
+        return new CsvArrivalReader(path, MappedArrivalReader.DEFAULT_WINDOW_SIZE);
+    }
+
+    static ArrivalReader binary(Path path) throws IOException {
+        return new BinaryArrivalReader(path, MappedArrivalReader.DEFAULT_WINDOW_SIZE);
+    }
+}
@@ -0,0 +1,28 @@
+package org.zadorozhn.util.trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+class BinaryArrivalReader extends MappedArrivalReader {
+    public static final int RECORD_SIZE = Long.BYTES + 3 * Integer.BYTES;
+
+    BinaryArrivalReader(Path path, int windowSize) throws IOException {
+        super(path, windowSize - windowSize % RECORD_SIZE);
+
+        checkArgument(size % RECORD_SIZE == 0, "trace is not a sequence of %s-byte records", RECORD_SIZE);
+    }
+
+    @Override
+    protected Arrival readArrival() {
+        if (!window.hasRemaining()) {
+            if (isWindowLast()) {
+                return null;
+            }
+            map(windowPosition + window.limit());
+        }
+
+        return Arrival.of(window.getLong(), window.getInt(), window.getInt(), window.getInt());
+    }
+}
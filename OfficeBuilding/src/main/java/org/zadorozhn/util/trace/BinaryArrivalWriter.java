@@ -0,0 +1,56 @@
+package org.zadorozhn.util.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class BinaryArrivalWriter implements Closeable {
+    public static final int BUFFER_SIZE = BinaryArrivalReader.RECORD_SIZE * 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    private BinaryArrivalWriter(Path path) throws IOException {
+        checkNotNull(path);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    public static BinaryArrivalWriter of(Path path) throws IOException {
+        return new BinaryArrivalWriter(path);
+    }
+
+    public void write(Arrival arrival) throws IOException {
+        checkNotNull(arrival);
+
+        if (buffer.remaining() < BinaryArrivalReader.RECORD_SIZE) {
+            flush();
+        }
+
+        buffer.putLong(arrival.getTimestamp())
+                .putInt(arrival.getStartFloorNumber())
+                .putInt(arrival.getTargetFloorNumber())
+                .putInt(arrival.getWeight());
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
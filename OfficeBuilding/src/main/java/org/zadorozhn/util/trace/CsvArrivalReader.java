@@ -0,0 +1,90 @@
+package org.zadorozhn.util.trace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+class CsvArrivalReader extends MappedArrivalReader {
+    public static final byte SEPARATOR = ',';
+    public static final byte LINE_FEED = '\n';
+    public static final byte CARRIAGE_RETURN = '\r';
+    public static final int NUMBER_OF_COLUMNS = 4;
+
+    private final long[] columns;
+
+    CsvArrivalReader(Path path, int windowSize) throws IOException {
+        super(path, windowSize);
+
+        this.columns = new long[NUMBER_OF_COLUMNS];
+    }
+
+    @Override
+    protected Arrival readArrival() {
+        while (true) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0) {
+                return null;
+            }
+
+            int lineStart = window.position();
+            window.position(Math.min(lineEnd + 1, window.limit()));
+
+            if (parseLine(lineStart, lineEnd)) {
+                return Arrival.of(columns[0], (int) columns[1], (int) columns[2], (int) columns[3]);
+            }
+        }
+    }
+
+    private int findLineEnd() {
+        while (true) {
+            for (int i = window.position(); i < window.limit(); i++) {
+                if (window.get(i) == LINE_FEED) {
+                    return i;
+                }
+            }
+
+            if (isWindowLast()) {
+                return window.hasRemaining() ? window.limit() : -1;
+            }
+
+            if (window.position() == 0) {
+                throw new IllegalStateException("trace line is longer than the mapping window");
+            }
+            map(windowPosition + window.position());
+        }
+    }
+
+    private boolean parseLine(int lineStart, int lineEnd) {
+        int column = 0;
+        boolean hasDigits = false;
+        boolean isNegative = false;
+        long value = 0;
+
+        for (int i = lineStart; i < lineEnd; i++) {
+            byte symbol = window.get(i);
+
+            if (symbol >= '0' && symbol <= '9') {
+                value = value * 10 + (symbol - '0');
+                hasDigits = true;
+            } else if (symbol == '-' && !hasDigits) {
+                isNegative = true;
+            } else if (symbol == SEPARATOR) {
+                if (!hasDigits || column == NUMBER_OF_COLUMNS - 1) {
+                    return false;
+                }
+                columns[column++] = isNegative ? -value : value;
+                hasDigits = false;
+                isNegative = false;
+                value = 0;
+            } else if (symbol != ' ' && symbol != CARRIAGE_RETURN) {
+                return false;
+            }
+        }
+
+        if (!hasDigits || column != NUMBER_OF_COLUMNS - 1) {
+            return false;
+        }
+        columns[column] = isNegative ? -value : value;
+
+        return true;
+    }
+}
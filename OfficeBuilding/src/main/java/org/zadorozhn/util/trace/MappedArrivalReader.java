@@ -0,0 +1,75 @@
+package org.zadorozhn.util.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.*;
+
+abstract class MappedArrivalReader implements ArrivalReader {
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int windowSize;
+
+    protected final long size;
+    protected MappedByteBuffer window;
+    protected long windowPosition;
+
+    private Arrival nextArrival;
+
+    protected MappedArrivalReader(Path path, int windowSize) throws IOException {
+        checkNotNull(path);
+        checkArgument(windowSize > 0);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    protected void map(long position) {
+        try {
+            windowPosition = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    protected boolean isWindowLast() {
+        return windowPosition + window.limit() >= size;
+    }
+
+    protected abstract Arrival readArrival();
+
+    @Override
+    public boolean hasNext() {
+        if (nextArrival == null) {
+            nextArrival = readArrival();
+        }
+
+        return nextArrival != null;
+    }
+
+    @Override
+    public Arrival next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Arrival arrival = nextArrival;
+        nextArrival = null;
+
+        return arrival;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,153 @@
+package org.zadorozhn.util.trace;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.Clock;
+import org.zadorozhn.util.interrupt.Interruptible;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.*;
+
+@Slf4j
+public class TraceReplayer extends Thread implements Interruptible {
+    public static final double REAL_TIME = 1;
+
+    private final Building building;
+    private final ArrivalReader arrivalReader;
+    private final double timeScale;
+    private final AtomicLong numberOfAdmittedArrivals;
+    private final AtomicLong numberOfBalkedArrivals;
+    private final AtomicLong numberOfSkippedArrivals;
+
+    @Getter
+    private volatile boolean isRunning;
+
+    private TraceReplayer(Building building, ArrivalReader arrivalReader, double timeScale) {
+        checkNotNull(building);
+        checkNotNull(arrivalReader);
+        checkArgument(timeScale > 0);
+
+        this.building = building;
+        this.arrivalReader = arrivalReader;
+        this.timeScale = timeScale;
+        this.numberOfAdmittedArrivals = new AtomicLong(0);
+        this.numberOfBalkedArrivals = new AtomicLong(0);
+        this.numberOfSkippedArrivals = new AtomicLong(0);
+
+        String threadName = "traceReplayer";
+        this.setName(threadName);
+    }
+
+    public static TraceReplayer of(Building building, ArrivalReader arrivalReader, double timeScale) {
+        return new TraceReplayer(building, arrivalReader, timeScale);
+    }
+
+    public static TraceReplayer of(Building building, ArrivalReader arrivalReader) {
+        return new TraceReplayer(building, arrivalReader, REAL_TIME);
+    }
+
+    public long getNumberOfAdmittedArrivals() {
+        return numberOfAdmittedArrivals.get();
+    }
+
+    public long getNumberOfBalkedArrivals() {
+        return numberOfBalkedArrivals.get();
+    }
+
+    public long getNumberOfSkippedArrivals() {
+        return numberOfSkippedArrivals.get();
+    }
+
+    public boolean replay(Arrival arrival) {
+        checkNotNull(arrival);
+
+        if (!isValid(arrival)) {
+            numberOfSkippedArrivals.incrementAndGet();
+            log.warn("arrival {} does not fit the building and has been skipped", arrival);
+
+            return false;
+        }
+
+        Floor startFloor = building.getFloor(arrival.getStartFloorNumber());
+        boolean isAdmitted = startFloor.addHuman(Human.of(arrival.getWeight(), arrival.getTargetFloorNumber(),
+                startFloor));
+        building.getStatisticsHolder().incrementNumberOfGeneratedPeople();
+
+        if (isAdmitted) {
+            numberOfAdmittedArrivals.incrementAndGet();
+        } else {
+            numberOfBalkedArrivals.incrementAndGet();
+        }
+
+        return isAdmitted;
+    }
+
+    @Override
+    public void turnOff() {
+        isRunning = false;
+    }
+
+    @Override
+    public void turnOn() {
+        isRunning = true;
+    }
+
+    @Override
+    public void run() {
+        turnOn();
+
+        Clock clock = building.getClock();
+        long firstTimestamp = Long.MIN_VALUE;
+        long startTime = clock.currentTimeMillis();
+
+        try {
+            while (isRunning && !isInterrupted() && arrivalReader.hasNext()) {
+                Arrival arrival = arrivalReader.next();
+                if (firstTimestamp == Long.MIN_VALUE) {
+                    firstTimestamp = arrival.getTimestamp();
+                }
+
+                long replayTime = startTime + (long) ((arrival.getTimestamp() - firstTimestamp) / timeScale);
+                long delay = replayTime - clock.currentTimeMillis();
+                if (delay > 0) {
+                    clock.sleep(delay);
+                }
+
+                replay(arrival);
+            }
+        } catch (InterruptedException exception) {
+            log.error("trace replayer has been interrupted");
+            log.error(exception.getMessage());
+
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+
+        log.info("trace replayer has finished: {} arrivals admitted, {} balked, {} skipped",
+                numberOfAdmittedArrivals.get(), numberOfBalkedArrivals.get(), numberOfSkippedArrivals.get());
+    }
+
+    private boolean isValid(Arrival arrival) {
+        int numberOfFloors = building.getNumberOfFloors();
+
+        return arrival.getStartFloorNumber() >= Floor.GROUND_FLOOR && arrival.getStartFloorNumber() < numberOfFloors
+                && arrival.getTargetFloorNumber() >= Floor.GROUND_FLOOR
+                && arrival.getTargetFloorNumber() < numberOfFloors
+                && arrival.getStartFloorNumber() != arrival.getTargetFloorNumber()
+                && arrival.getWeight() >= Human.MIN_WEIGHT && arrival.getWeight() <= Human.MAX_WEIGHT;
+    }
+
+    private void close() {
+        try {
+            arrivalReader.close();
+        } catch (IOException exception) {
+            log.error("trace has not been closed");
+            log.error(exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.zadorozhn.util.traffic;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.zadorozhn.building.Floor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Journey {
+    private final int startFloorNumber;
+    private final int targetFloorNumber;
+
+    private Journey(int startFloorNumber, int targetFloorNumber) {
+        checkArgument(startFloorNumber >= Floor.GROUND_FLOOR);
+        checkArgument(targetFloorNumber >= Floor.GROUND_FLOOR);
+        checkArgument(startFloorNumber != targetFloorNumber);
+
+        this.startFloorNumber = startFloorNumber;
+        this.targetFloorNumber = targetFloorNumber;
+    }
+
+    public static Journey of(int startFloorNumber, int targetFloorNumber) {
+        return new Journey(startFloorNumber, targetFloorNumber);
+    }
+
+    public boolean isIncoming() {
+        return startFloorNumber == Floor.GROUND_FLOOR;
+    }
+
+    public boolean isOutgoing() {
+        return targetFloorNumber == Floor.GROUND_FLOOR;
+    }
+}
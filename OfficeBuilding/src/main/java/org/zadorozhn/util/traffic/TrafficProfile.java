@@ -0,0 +1,155 @@
+package org.zadorozhn.util.traffic;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.zadorozhn.building.Floor;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+
+import static com.google.common.base.Preconditions.*;
+
+@Getter
+public class TrafficProfile {
+    public static final long DEFAULT_PERIOD = TimeUnit.HOURS.toMillis(1);
+    public static final double MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final double peakArrivalRate;
+    private final LongToDoubleFunction arrivalRateShape;
+    private final double incomingShare;
+    private final double outgoingShare;
+    private final double interfloorShare;
+    @Getter(AccessLevel.NONE)
+    private final LongPredicate isReturning;
+
+    private TrafficProfile(double peakArrivalRate, LongToDoubleFunction arrivalRateShape,
+                           double incomingShare, double outgoingShare, double interfloorShare,
+                           LongPredicate isReturning) {
+        checkArgument(peakArrivalRate > 0);
+        checkNotNull(arrivalRateShape);
+        checkNotNull(isReturning);
+        checkArgument(incomingShare >= 0 && outgoingShare >= 0 && interfloorShare >= 0);
+        checkArgument(incomingShare + outgoingShare + interfloorShare > 0);
+
+        double sumOfShares = incomingShare + outgoingShare + interfloorShare;
+
+        this.peakArrivalRate = peakArrivalRate;
+        this.arrivalRateShape = arrivalRateShape;
+        this.incomingShare = incomingShare / sumOfShares;
+        this.outgoingShare = outgoingShare / sumOfShares;
+        this.interfloorShare = interfloorShare / sumOfShares;
+        this.isReturning = isReturning;
+    }
+
+    public static TrafficProfile of(double peakArrivalRate, LongToDoubleFunction arrivalRateShape,
+                                    double incomingShare, double outgoingShare, double interfloorShare) {
+        return new TrafficProfile(peakArrivalRate, arrivalRateShape, incomingShare, outgoingShare, interfloorShare,
+                elapsedTime -> false);
+    }
+
+    public static TrafficProfile upPeak(double peakArrivalRate, long period) {
+        return new TrafficProfile(peakArrivalRate, halfSine(period), 0.85, 0.05, 0.10, elapsedTime -> false);
+    }
+
+    public static TrafficProfile upPeak(double peakArrivalRate) {
+        return upPeak(peakArrivalRate, DEFAULT_PERIOD);
+    }
+
+    public static TrafficProfile downPeak(double peakArrivalRate, long period) {
+        return new TrafficProfile(peakArrivalRate, halfSine(period), 0.05, 0.85, 0.10, elapsedTime -> false);
+    }
+
+    public static TrafficProfile downPeak(double peakArrivalRate) {
+        return downPeak(peakArrivalRate, DEFAULT_PERIOD);
+    }
+
+    public static TrafficProfile lunch(double peakArrivalRate, long period) {
+        return new TrafficProfile(peakArrivalRate, twoPeaks(period), 0.05, 0.80, 0.15,
+                elapsedTime -> elapsedTime % period >= period / 2);
+    }
+
+    public static TrafficProfile lunch(double peakArrivalRate) {
+        return lunch(peakArrivalRate, DEFAULT_PERIOD);
+    }
+
+    public static TrafficProfile interfloor(double arrivalRate) {
+        return new TrafficProfile(arrivalRate, elapsedTime -> 1, 0.05, 0.05, 0.90, elapsedTime -> false);
+    }
+
+    public double getArrivalRate(long elapsedTime) {
+        checkArgument(elapsedTime >= 0);
+
+        return peakArrivalRate * Math.min(1, Math.max(0, arrivalRateShape.applyAsDouble(elapsedTime)));
+    }
+
+    public double getIncomingShare(long elapsedTime) {
+        checkArgument(elapsedTime >= 0);
+
+        return isReturning.test(elapsedTime) ? outgoingShare : incomingShare;
+    }
+
+    public double getOutgoingShare(long elapsedTime) {
+        checkArgument(elapsedTime >= 0);
+
+        return isReturning.test(elapsedTime) ? incomingShare : outgoingShare;
+    }
+
+    public long nextArrivalTime(long elapsedTime, Random random) {
+        checkArgument(elapsedTime >= 0);
+        checkNotNull(random);
+
+        double arrivalTime = elapsedTime;
+        double meanInterArrivalTime = MILLIS_PER_MINUTE / peakArrivalRate;
+
+        do {
+            arrivalTime -= meanInterArrivalTime * Math.log(1 - random.nextDouble());
+        } while (random.nextDouble() * peakArrivalRate > getArrivalRate((long) arrivalTime));
+
+        return (long) arrivalTime;
+    }
+
+    public Journey nextJourney(long elapsedTime, int numberOfFloors, Random random) {
+        checkArgument(numberOfFloors > 1);
+        checkNotNull(random);
+
+        double incomingShare = getIncomingShare(elapsedTime);
+        double outgoingShare = getOutgoingShare(elapsedTime);
+        double share = random.nextDouble();
+        if (numberOfFloors == Floor.GROUND_FLOOR + 2) {
+            return share * (incomingShare + outgoingShare) < incomingShare
+                    ? Journey.of(Floor.GROUND_FLOOR, Floor.GROUND_FLOOR + 1)
+                    : Journey.of(Floor.GROUND_FLOOR + 1, Floor.GROUND_FLOOR);
+        }
+
+        if (share < incomingShare) {
+            return Journey.of(Floor.GROUND_FLOOR, nextUpperFloorNumber(numberOfFloors, random));
+        } else if (share < incomingShare + outgoingShare) {
+            return Journey.of(nextUpperFloorNumber(numberOfFloors, random), Floor.GROUND_FLOOR);
+        }
+
+        int startFloorNumber = nextUpperFloorNumber(numberOfFloors, random);
+        int targetFloorNumber;
+        do {
+            targetFloorNumber = nextUpperFloorNumber(numberOfFloors, random);
+        } while (targetFloorNumber == startFloorNumber);
+
+        return Journey.of(startFloorNumber, targetFloorNumber);
+    }
+
+    private static int nextUpperFloorNumber(int numberOfFloors, Random random) {
+        return Floor.GROUND_FLOOR + 1 + random.nextInt(numberOfFloors - 1);
+    }
+
+    private static LongToDoubleFunction halfSine(long period) {
+        checkArgument(period > 0);
+
+        return elapsedTime -> Math.sin(Math.PI * (elapsedTime % period) / period);
+    }
+
+    private static LongToDoubleFunction twoPeaks(long period) {
+        checkArgument(period > 0);
+
+        return elapsedTime -> Math.abs(Math.sin(2 * Math.PI * (elapsedTime % period) / period));
+    }
+}
@@ -0,0 +1,80 @@
+package org.zadorozhn.util.window;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class TimeWeightedGauge {
+    private final WindowedCounter integral;
+    private final AtomicReference<Sample> lastSample;
+
+    private TimeWeightedGauge(WindowedCounter integral) {
+        this.integral = integral;
+        this.lastSample = new AtomicReference<>(new Sample(0, 0));
+    }
+
+    public static TimeWeightedGauge of(long bucketDuration, int numberOfBuckets) {
+        return new TimeWeightedGauge(WindowedCounter.of(bucketDuration, numberOfBuckets));
+    }
+
+    public static TimeWeightedGauge getDefault() {
+        return new TimeWeightedGauge(WindowedCounter.getDefault());
+    }
+
+    public void add(long time, long delta) {
+        checkArgument(time >= 0);
+
+        while (true) {
+            Sample sample = lastSample.get();
+            long sampleTime = Math.max(time, sample.time);
+            if (lastSample.compareAndSet(sample, new Sample(sample.value + delta, sampleTime))) {
+                integrate(sample.value, sample.time, sampleTime);
+
+                return;
+            }
+        }
+    }
+
+    public long getValue() {
+        return lastSample.get().value;
+    }
+
+    public long getIntegral(long time, long windowDuration) {
+        Sample sample = lastSample.get();
+        long windowStart = integral.getWindowStart(time, windowDuration);
+        long pendingDuration = time - Math.max(sample.time, windowStart);
+
+        return integral.getSum(time, windowDuration) + (pendingDuration > 0 ? sample.value * pendingDuration : 0);
+    }
+
+    public double getAverage(long time, long windowDuration) {
+        long windowStart = Math.max(0, integral.getWindowStart(time, windowDuration));
+
+        return (double) getIntegral(time, windowDuration) / Math.max(1, time - windowStart);
+    }
+
+    public void reset() {
+        integral.reset();
+    }
+
+    private void integrate(long value, long from, long to) {
+        long bucketDuration = integral.getBucketDuration();
+        from = Math.max(from, to - integral.getHistoryDuration());
+
+        while (value != 0 && from < to) {
+            long bucketEnd = Math.min(to, (from / bucketDuration + 1) * bucketDuration);
+            integral.add(from, value * (bucketEnd - from));
+            from = bucketEnd;
+        }
+    }
+
+    private static class Sample {
+        private final long value;
+        private final long time;
+
+        private Sample(long value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.zadorozhn.util.window;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class WindowedCounter {
+    public static final long DEFAULT_BUCKET_DURATION = 1000;
+    public static final int DEFAULT_NUMBER_OF_BUCKETS = 600;
+
+    private final long bucketDuration;
+    private final int numberOfBuckets;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private WindowedCounter(long bucketDuration, int numberOfBuckets) {
+        checkArgument(bucketDuration > 0);
+        checkArgument(numberOfBuckets > 0);
+
+        this.bucketDuration = bucketDuration;
+        this.numberOfBuckets = numberOfBuckets;
+        this.buckets = new AtomicReferenceArray<>(numberOfBuckets);
+    }
+
+    public static WindowedCounter of(long bucketDuration, int numberOfBuckets) {
+        return new WindowedCounter(bucketDuration, numberOfBuckets);
+    }
+
+    public static WindowedCounter getDefault() {
+        return new WindowedCounter(DEFAULT_BUCKET_DURATION, DEFAULT_NUMBER_OF_BUCKETS);
+    }
+
+    public void add(long time, long amount) {
+        checkArgument(time >= 0);
+
+        Bucket bucket = getBucket(time / bucketDuration);
+        if (bucket != null) {
+            bucket.value.addAndGet(amount);
+        }
+    }
+
+    public long getSum(long time, long windowDuration) {
+        checkArgument(time >= 0);
+        checkArgument(windowDuration > 0 && windowDuration <= getHistoryDuration());
+
+        long lastEpoch = time / bucketDuration;
+        long firstEpoch = Math.max(0, getWindowStart(time, windowDuration) / bucketDuration);
+
+        long sum = 0;
+        for (long epoch = firstEpoch; epoch <= lastEpoch; epoch++) {
+            Bucket bucket = buckets.get(indexOf(epoch));
+            if (bucket != null && bucket.epoch == epoch) {
+                sum += bucket.value.get();
+            }
+        }
+
+        return sum;
+    }
+
+    public long getWindowStart(long time, long windowDuration) {
+        long numberOfWindowBuckets = (windowDuration + bucketDuration - 1) / bucketDuration;
+
+        return (time / bucketDuration - numberOfWindowBuckets + 1) * bucketDuration;
+    }
+
+    public long getBucketDuration() {
+        return bucketDuration;
+    }
+
+    public long getHistoryDuration() {
+        return bucketDuration * numberOfBuckets;
+    }
+
+    public void reset() {
+        for (int i = 0; i < numberOfBuckets; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private Bucket getBucket(long epoch) {
+        int index = indexOf(epoch);
+
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+            if (bucket != null && bucket.epoch > epoch) {
+                return null;
+            }
+
+            Bucket freshBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, freshBucket)) {
+                return freshBucket;
+            }
+        }
+    }
+
+    private int indexOf(long epoch) {
+        return (int) (epoch % numberOfBuckets);
+    }
+
+    private static class Bucket {
+        private final long epoch;
+        private final AtomicLong value;
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+            this.value = new AtomicLong(0);
+        }
+    }
+}
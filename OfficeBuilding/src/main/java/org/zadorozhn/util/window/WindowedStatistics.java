@@ -0,0 +1,127 @@
+package org.zadorozhn.util.window;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+public class WindowedStatistics {
+    public static final long DEFAULT_WINDOW_DURATION = TimeUnit.MINUTES.toMillis(1);
+
+    private final WindowedCounter deliveredPeople;
+    private final WindowedCounter passedFloors;
+    private final WindowedCounter arrivedPeople;
+    private final WindowedCounter boardedPeople;
+    private final WindowedCounter waitTime;
+    private final TimeWeightedGauge queueLength;
+    private final TimeWeightedGauge busyElevators;
+
+    private WindowedStatistics(long bucketDuration, int numberOfBuckets) {
+        this.deliveredPeople = WindowedCounter.of(bucketDuration, numberOfBuckets);
+        this.passedFloors = WindowedCounter.of(bucketDuration, numberOfBuckets);
+        this.arrivedPeople = WindowedCounter.of(bucketDuration, numberOfBuckets);
+        this.boardedPeople = WindowedCounter.of(bucketDuration, numberOfBuckets);
+        this.waitTime = WindowedCounter.of(bucketDuration, numberOfBuckets);
+        this.queueLength = TimeWeightedGauge.of(bucketDuration, numberOfBuckets);
+        this.busyElevators = TimeWeightedGauge.of(bucketDuration, numberOfBuckets);
+    }
+
+    public static WindowedStatistics of(long bucketDuration, int numberOfBuckets) {
+        return new WindowedStatistics(bucketDuration, numberOfBuckets);
+    }
+
+    public static WindowedStatistics getDefault() {
+        return new WindowedStatistics(WindowedCounter.DEFAULT_BUCKET_DURATION,
+                WindowedCounter.DEFAULT_NUMBER_OF_BUCKETS);
+    }
+
+    public void recordArrivals(long time, int numberOfPeople) {
+        arrivedPeople.add(time, numberOfPeople);
+        queueLength.add(time, numberOfPeople);
+    }
+
+    public void recordDepartures(long time, int numberOfPeople) {
+        queueLength.add(time, -numberOfPeople);
+    }
+
+    public void recordBoarding(long time, long waitTime) {
+        checkArgument(waitTime >= 0);
+
+        boardedPeople.add(time, 1);
+        this.waitTime.add(time, waitTime);
+    }
+
+    public void recordDelivery(long time) {
+        deliveredPeople.add(time, 1);
+    }
+
+    public void recordPassedFloor(long time) {
+        passedFloors.add(time, 1);
+    }
+
+    public void recordBusyElevators(long time, int delta) {
+        busyElevators.add(time, delta);
+    }
+
+    public double getDeliveredPerMinute(long time, long windowDuration) {
+        return perMinute(deliveredPeople, time, windowDuration);
+    }
+
+    public double getPassedFloorsPerMinute(long time, long windowDuration) {
+        return perMinute(passedFloors, time, windowDuration);
+    }
+
+    public double getArrivalsPerMinute(long time, long windowDuration) {
+        return perMinute(arrivedPeople, time, windowDuration);
+    }
+
+    public double getUtilisation(long time, long windowDuration, int numberOfElevators) {
+        checkArgument(numberOfElevators >= 0);
+
+        return numberOfElevators == 0 ? 0 : busyElevators.getAverage(time, windowDuration) / numberOfElevators;
+    }
+
+    public double getAverageQueueLength(long time, long windowDuration) {
+        return queueLength.getAverage(time, windowDuration);
+    }
+
+    public long getQueueLength() {
+        return queueLength.getValue();
+    }
+
+    public double getAverageWaitTime(long time, long windowDuration) {
+        long numberOfBoardedPeople = boardedPeople.getSum(time, windowDuration);
+
+        return numberOfBoardedPeople == 0 ? 0 : (double) waitTime.getSum(time, windowDuration) / numberOfBoardedPeople;
+    }
+
+    public double getLittlesLawQueueLength(long time, long windowDuration) {
+        double boardingRate = (double) boardedPeople.getSum(time, windowDuration) / getSpan(time, windowDuration);
+
+        return boardingRate * getAverageWaitTime(time, windowDuration);
+    }
+
+    public double getLittlesLawRatio(long time, long windowDuration) {
+        double predictedQueueLength = getLittlesLawQueueLength(time, windowDuration);
+
+        return predictedQueueLength == 0 ? 0 : getAverageQueueLength(time, windowDuration) / predictedQueueLength;
+    }
+
+    public void reset() {
+        deliveredPeople.reset();
+        passedFloors.reset();
+        arrivedPeople.reset();
+        boardedPeople.reset();
+        waitTime.reset();
+        queueLength.reset();
+        busyElevators.reset();
+    }
+
+    private double perMinute(WindowedCounter counter, long time, long windowDuration) {
+        return (double) counter.getSum(time, windowDuration) * TimeUnit.MINUTES.toMillis(1)
+                / getSpan(time, windowDuration);
+    }
+
+    private long getSpan(long time, long windowDuration) {
+        return Math.max(1, time - Math.max(0, deliveredPeople.getWindowStart(time, windowDuration)));
+    }
+}
@@ -5,8 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
+import org.zadorozhn.building.state.OverflowPolicy;
 import org.zadorozhn.human.Human;
 import org.zadorozhn.util.HumanGenerator;
+import org.zadorozhn.util.StatisticsSnapshot;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -17,6 +22,7 @@ import static org.hamcrest.Matchers.*;
 class BuildingTest {
     public static final int VALID_NUMBER_OF_FLOORS = 5;
     public static final int VALID_ELEVATOR_CAPACITY = 500;
+    public static final int VALID_WEIGHT = 60;
     public static final int INVALID_NEGATIVE_NUMBER_OF_FLOORS = -1;
     public static final int INVALID_SMALL_NUMBER_FLOORS = 1;
     public static final int INVALID_ZERO_FLOORS = 0;
@@ -41,6 +47,14 @@ class BuildingTest {
         assertDoesNotThrow(() -> Building.of(VALID_NUMBER_OF_FLOORS));
     }
 
+    @Test
+    void buildingsHaveDistinctIdsTest() {
+        Building firstBuilding = Building.of(VALID_NUMBER_OF_FLOORS);
+        Building secondBuilding = Building.of(VALID_NUMBER_OF_FLOORS);
+
+        assertThat(secondBuilding.getId(), not(equalTo(firstBuilding.getId())));
+    }
+
     @Test
     void getValidFloorTest() {
         Building building = Building.of(VALID_NUMBER_OF_FLOORS);
@@ -74,6 +88,54 @@ class BuildingTest {
         assertThat(building.getFloors().size(), equalTo(VALID_NUMBER_OF_FLOORS));
     }
 
+    @Test
+    void setFloorCapacityTest() {
+        int capacity = 20;
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS);
+
+        building.setFloorCapacity(capacity, OverflowPolicy.BALK);
+
+        assertThat(building.getFloors(), everyItem(hasProperty("capacity", equalTo(capacity))));
+        assertThat(building.getFloors(), everyItem(hasProperty("overflowPolicy", equalTo(OverflowPolicy.BALK))));
+    }
+
+    @Test
+    void addHumanFromAnotherBuildingTest() {
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Building anotherBuilding = Building.of(VALID_NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Human human = Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, anotherBuilding.getFloor(Floor.GROUND_FLOOR + 1));
+
+        assertThrows(IllegalArgumentException.class, () -> building.addHuman(human));
+    }
+
+    @Test
+    void addHumansTest() {
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Floor groundFloor = building.getFloor(Floor.GROUND_FLOOR);
+        Floor upperFloor = building.getFloor(Floor.GROUND_FLOOR + 1);
+
+        building.addHumans(Arrays.asList(Human.of(VALID_WEIGHT, upperFloor, groundFloor),
+                Human.of(VALID_WEIGHT, upperFloor, groundFloor),
+                Human.of(VALID_WEIGHT, groundFloor, upperFloor),
+                Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR + 2, upperFloor)));
+
+        assertThat(groundFloor.getNumberOfPeople(Direction.UP), equalTo(2));
+        assertThat(upperFloor.getNumberOfPeople(Direction.DOWN), equalTo(1));
+        assertThat(upperFloor.getNumberOfPeople(Direction.UP), equalTo(1));
+        assertThat(building.getController().getAllCalls(), containsInAnyOrder(Call.of(groundFloor, Direction.UP),
+                Call.of(upperFloor, Direction.UP), Call.of(upperFloor, Direction.DOWN)));
+        assertThat(building.getController().getHallCallRegistry().getNumberOfPresses(), equalTo(3L));
+    }
+
+    @Test
+    void addHumansFromAnotherBuildingTest() {
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Building anotherBuilding = Building.of(VALID_NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Human human = Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, anotherBuilding.getFloor(Floor.GROUND_FLOOR + 1));
+
+        assertThrows(IllegalArgumentException.class, () -> building.addHumans(Collections.singletonList(human)));
+    }
+
     @Test
     void addElevatorTest() {
         Building building = Building.of(VALID_NUMBER_OF_FLOORS);
@@ -121,6 +183,26 @@ class BuildingTest {
         assertThat(building.getElevators(), contains(firstElevator, secondElevator));
     }
 
+    @Test
+    void getStatisticsSnapshotTest() {
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS);
+        Elevator firstElevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
+        Elevator secondElevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
+        building.addElevator(firstElevator).addElevator(secondElevator);
+
+        building.getStatisticsHolder().addNumberOfGeneratedPeople(3);
+        firstElevator.getStatisticsHolder().incrementNumberOfDeliveredPeople();
+        secondElevator.getStatisticsHolder().incrementNumberOfDeliveredPeople();
+        secondElevator.getStatisticsHolder().incrementNumberOfPassedFloors();
+
+        StatisticsSnapshot statisticsSnapshot = building.getStatisticsSnapshot();
+
+        assertThat(statisticsSnapshot.getNumberOfGeneratedPeople(), equalTo(3L));
+        assertThat(statisticsSnapshot.getNumberOfDeliveredPeople(), equalTo(2L));
+        assertThat(statisticsSnapshot.getNumberOfPassedFloors(), equalTo(1L));
+        assertThat(firstElevator.getNumberOfDeliveredPeople(), equalTo(1L));
+    }
+
     @Test
     void startElevatorsAndControllerTest() {
         Elevator elevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
@@ -220,4 +302,26 @@ class BuildingTest {
 
         assertThat(numberOfPeople, equalTo(0));
     }
-}
\ No newline at end of file
+
+    @SneakyThrows
+    @Test
+    void deliverPeopleInDestinationModeTest() {
+        int numberOfGeneratedHuman = 10;
+        Building building = Building.of(VALID_NUMBER_OF_FLOORS);
+        building.setController(Controller.getEmpty(DispatchMode.DESTINATION))
+                .addElevator(Elevator.of(VALID_ELEVATOR_CAPACITY, Floor.GROUND_FLOOR, Elevator.MAX_SPEED))
+                .addElevator(Elevator.of(VALID_ELEVATOR_CAPACITY, Floor.GROUND_FLOOR, Elevator.MAX_SPEED));
+        HumanGenerator humanGenerator = HumanGenerator.of(building,
+                Human.MIN_WEIGHT, Human.MAX_WEIGHT, HumanGenerator.MAX_SPEED);
+
+        IntStream.range(0, numberOfGeneratedHuman).forEach(i -> humanGenerator.generate());
+
+        building.start();
+
+        TimeUnit.SECONDS.sleep(20);
+
+        int numberOfPeople = building.getFloors().stream().mapToInt(Floor::getNumberOfPeopleByDestination).sum();
+
+        assertThat(numberOfPeople, equalTo(0));
+    }
+}
@@ -0,0 +1,45 @@
+package org.zadorozhn.building;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.human.Human;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BulkInsertionBenchmark {
+    public static final int NUMBER_OF_FLOORS = 20;
+    public static final int NUMBER_OF_HUMANS = 100_000;
+    public static final int WEIGHT = 60;
+
+    private Building building;
+    private List<Human> humans;
+
+    @Setup(Level.Invocation)
+    public void init() {
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        humans = new ArrayList<>(NUMBER_OF_HUMANS);
+
+        for (int i = 0; i < NUMBER_OF_HUMANS; i++) {
+            Floor startFloor = building.getFloor(i % NUMBER_OF_FLOORS);
+            humans.add(Human.of(WEIGHT, (i + 1) % NUMBER_OF_FLOORS, startFloor));
+        }
+    }
+
+    @Benchmark
+    public Building addHumanOneByOne() {
+        humans.forEach(building::addHuman);
+
+        return building;
+    }
+
+    @Benchmark
+    public Building addHumans() {
+        return building.addHumans(humans);
+    }
+}
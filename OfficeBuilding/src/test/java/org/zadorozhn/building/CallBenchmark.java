@@ -0,0 +1,59 @@
+package org.zadorozhn.building;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.zadorozhn.building.state.Direction;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallBenchmark {
+    public static final int NUMBER_OF_FLOORS = 20;
+    public static final int START_FLOOR_NUMBER = 0;
+
+    private Floor startFloor;
+    private Floor targetFloor;
+    private HallCallRegistry hallCallRegistry;
+    private int targetFloorNumber;
+
+    @Setup
+    public void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        startFloor = building.getFloor(START_FLOOR_NUMBER);
+        targetFloor = building.getFloor(NUMBER_OF_FLOORS - 1);
+        hallCallRegistry = HallCallRegistry.getEmpty();
+    }
+
+    @Benchmark
+    public Call callFromFloorNumberAndDirection() {
+        targetFloorNumber = (targetFloorNumber + 1) % NUMBER_OF_FLOORS;
+
+        return Call.of(targetFloorNumber, Direction.UP);
+    }
+
+    @Benchmark
+    public Call callFromFloors() {
+        return Call.of(targetFloor, startFloor);
+    }
+
+    @Benchmark
+    public boolean latchAndClearHallCall() {
+        Call call = Call.of(targetFloor, Direction.DOWN);
+
+        return hallCallRegistry.latch(call) && hallCallRegistry.clear(call);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CallBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
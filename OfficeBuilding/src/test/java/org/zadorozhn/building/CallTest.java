@@ -12,6 +12,7 @@ class CallTest {
     public static final int VALID_SECOND_TARGET_FLOOR_NUMBER = 6;
     public static final int INVALID_TARGET_FLOOR_NUMBER = -1;
     public static final int NUMBER_OF_FLOORS = 10;
+    public static final int GROWN_TARGET_FLOOR_NUMBER = 1000;
 
     static Object[][] directionData() {
         return new Object[][]{
@@ -90,4 +91,38 @@ class CallTest {
         assertThrows(IllegalArgumentException.class,
                 () -> Call.of(VALID_SECOND_TARGET_FLOOR_NUMBER, secondFloor));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("directionData")
+    void reuseInternedCall(Direction direction) {
+        assertSame(Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, direction),
+                Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, direction));
+    }
+
+    @Test
+    void reuseInternedCallFromFloors() {
+        Building building = Building.of(NUMBER_OF_FLOORS);
+        Floor firstFloor = building.getFloor(VALID_FIRST_TARGET_FLOOR_NUMBER);
+        Floor secondFloor = building.getFloor(VALID_SECOND_TARGET_FLOOR_NUMBER);
+
+        assertSame(Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, Direction.DOWN), Call.of(firstFloor, secondFloor));
+        assertSame(Call.of(VALID_SECOND_TARGET_FLOOR_NUMBER, Direction.UP), Call.of(secondFloor, firstFloor));
+    }
+
+    @Test
+    void reuseInternedCallAfterGrowth() {
+        Call call = Call.of(GROWN_TARGET_FLOOR_NUMBER, Direction.UP);
+
+        assertSame(call, Call.of(GROWN_TARGET_FLOOR_NUMBER, Direction.UP));
+        assertSame(Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, Direction.UP),
+                Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, Direction.UP));
+    }
+
+    @Test
+    void createCallBeyondInternedRange() {
+        Call call = Call.of(Call.MAX_INTERNED_FLOOR_NUMBER, Direction.UP);
+
+        assertNotSame(call, Call.of(Call.MAX_INTERNED_FLOOR_NUMBER, Direction.UP));
+        assertEquals(call, Call.of(Call.MAX_INTERNED_FLOOR_NUMBER, Direction.UP));
+    }
+}
@@ -3,6 +3,7 @@ package org.zadorozhn.building;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
 import org.zadorozhn.human.Human;
 
 import static org.hamcrest.MatcherAssert.*;
@@ -22,6 +23,11 @@ public class ControllerTest {
         building = Building.of(NUMBER_OF_FLOORS);
     }
 
+    @Test
+    void controllersHaveDistinctIdsTest() {
+        assertThat(Controller.getEmpty().getId(), not(equalTo(Controller.getEmpty().getId())));
+    }
+
     @Test
     void getAllCallsTest() {
         Controller controller = Controller.getEmpty();
@@ -55,6 +61,24 @@ public class ControllerTest {
         assertThat(controller.getAllCalls(), hasItem(firstHuman.getCall()));
     }
 
+    @Test
+    void peekAllCallsTest() {
+        Controller controller = Controller.getEmpty();
+        building.addElevator(Elevator.of(VALID_ELEVATOR_CAPACITY)).setController(controller);
+        Call firstCall = Call.of(VALID_FIRST_TARGET_FLOOR_NUMBER, Direction.UP);
+        Call secondCall = Call.of(VALID_SECOND_TARGET_FLOOR_NUMBER, Direction.DOWN);
+
+        controller.addCall(firstCall);
+        controller.addCall(secondCall);
+        assertThat(controller.peekAllCalls(), contains(firstCall, secondCall));
+
+        controller.removeCall(secondCall);
+        assertThat(controller.peekAllCalls(), contains(firstCall));
+
+        controller.dispatchCall();
+        assertThat(controller.peekAllCalls(), is(empty()));
+    }
+
     @Test
     void removeCallTest() {
         Controller controller = Controller.getEmpty();
@@ -68,6 +92,34 @@ public class ControllerTest {
         assertThat(controller.getAllCalls(), not(hasItem(firstHuman.getCall())));
     }
 
+    @Test
+    void addDuplicateCallTest() {
+        Controller controller = Controller.getEmpty();
+        building.addElevator(Elevator.of(VALID_ELEVATOR_CAPACITY)).setController(controller);
+        Call call = Call.of(VALID_START_FLOOR_NUMBER, Direction.UP);
+
+        controller.addCall(call);
+        controller.addCall(call);
+        controller.addCall(call);
+
+        assertThat(controller.getAllCalls(), contains(call));
+        assertThat(controller.getHallCallRegistry().getNumberOfDuplicates(), equalTo(2L));
+    }
+
+    @Test
+    void addCallAfterRemovingTest() {
+        Controller controller = Controller.getEmpty();
+        building.addElevator(Elevator.of(VALID_ELEVATOR_CAPACITY)).setController(controller);
+        Call call = Call.of(VALID_START_FLOOR_NUMBER, Direction.UP);
+
+        controller.addCall(call);
+        controller.removeCall(call);
+        controller.addCall(call);
+
+        assertThat(controller.getAllCalls(), contains(call));
+        assertThat(controller.getHallCallRegistry().getNumberOfDuplicates(), equalTo(0L));
+    }
+
     @Test
     void dispatchCallTest() {
         Controller controller = Controller.getEmpty();
@@ -156,6 +208,48 @@ public class ControllerTest {
         assertThat(secondElevator.getCalls(), not(hasItem(call)));
     }
 
+    @Test
+    void dispatchDestinationCallTest() {
+        Controller controller = Controller.getEmpty(DispatchMode.DESTINATION);
+        Elevator elevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
+        Human firstHuman = Human.of(VALID_WEIGHT,
+                VALID_FIRST_TARGET_FLOOR_NUMBER, building.getFloor(VALID_START_FLOOR_NUMBER));
+        DestinationCall destinationCall = DestinationCall.of(VALID_START_FLOOR_NUMBER,
+                VALID_FIRST_TARGET_FLOOR_NUMBER);
+
+        building.addElevator(elevator).setController(controller);
+        building.addHuman(firstHuman);
+
+        assertThat(controller.getAllDestinationCalls(), contains(destinationCall));
+
+        controller.dispatchCall();
+
+        assertThat(controller.getAllDestinationCalls(), is(empty()));
+        assertThat(elevator.getDestinationCalls(), contains(destinationCall));
+        assertThat(elevator.getCalls(), hasItem(destinationCall.getStartCall()));
+    }
+
+    @Test
+    void dispatchDestinationGroupsToDifferentElevatorsTest() {
+        Controller controller = Controller.getEmpty(DispatchMode.DESTINATION);
+        Elevator firstElevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
+        Elevator secondElevator = Elevator.of(VALID_ELEVATOR_CAPACITY);
+        DestinationCall firstDestinationCall = DestinationCall.of(VALID_START_FLOOR_NUMBER,
+                VALID_FIRST_TARGET_FLOOR_NUMBER);
+        DestinationCall secondDestinationCall = DestinationCall.of(VALID_START_FLOOR_NUMBER,
+                VALID_SECOND_TARGET_FLOOR_NUMBER);
+
+        building.addElevator(firstElevator).addElevator(secondElevator).setController(controller);
+
+        controller.addDestinationCall(firstDestinationCall);
+        controller.addDestinationCall(secondDestinationCall);
+        controller.dispatchCall();
+        controller.dispatchCall();
+
+        assertThat(firstElevator.getDestinationCalls(), contains(firstDestinationCall));
+        assertThat(secondElevator.getDestinationCalls(), contains(secondDestinationCall));
+    }
+
     @Test
     void turnOnTest() {
         Controller controller = Controller.getEmpty();
@@ -0,0 +1,59 @@
+package org.zadorozhn.building;
+
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.state.Direction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class DestinationCallTest {
+    public static final int VALID_START_FLOOR_NUMBER = 3;
+    public static final int VALID_TARGET_FLOOR_NUMBER = 6;
+    public static final int INVALID_FLOOR_NUMBER = -1;
+    public static final int NUMBER_OF_FLOORS = 10;
+
+    @Test
+    void createValidDestinationCall() {
+        assertDoesNotThrow(() -> DestinationCall.of(VALID_START_FLOOR_NUMBER, VALID_TARGET_FLOOR_NUMBER));
+    }
+
+    @Test
+    void createInvalidDestinationCall() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DestinationCall.of(INVALID_FLOOR_NUMBER, VALID_TARGET_FLOOR_NUMBER));
+        assertThrows(IllegalArgumentException.class,
+                () -> DestinationCall.of(VALID_START_FLOOR_NUMBER, INVALID_FLOOR_NUMBER));
+    }
+
+    @Test
+    void createDestinationCallWithSameFloors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DestinationCall.of(VALID_START_FLOOR_NUMBER, VALID_START_FLOOR_NUMBER));
+    }
+
+    @Test
+    void createDestinationCallFromFloors() {
+        Building building = Building.of(NUMBER_OF_FLOORS);
+        Floor startFloor = building.getFloor(VALID_START_FLOOR_NUMBER);
+        Floor targetFloor = building.getFloor(VALID_TARGET_FLOOR_NUMBER);
+
+        assertThat(DestinationCall.of(startFloor, targetFloor),
+                equalTo(DestinationCall.of(VALID_START_FLOOR_NUMBER, VALID_TARGET_FLOOR_NUMBER)));
+    }
+
+    @Test
+    void resolveDirectionTest() {
+        assertThat(DestinationCall.of(VALID_START_FLOOR_NUMBER, VALID_TARGET_FLOOR_NUMBER).getDirection(),
+                equalTo(Direction.UP));
+        assertThat(DestinationCall.of(VALID_TARGET_FLOOR_NUMBER, VALID_START_FLOOR_NUMBER).getDirection(),
+                equalTo(Direction.DOWN));
+    }
+
+    @Test
+    void getStartCallTest() {
+        DestinationCall destinationCall = DestinationCall.of(VALID_START_FLOOR_NUMBER, VALID_TARGET_FLOOR_NUMBER);
+
+        assertThat(destinationCall.getStartCall(), equalTo(Call.of(VALID_START_FLOOR_NUMBER, Direction.UP)));
+    }
+}
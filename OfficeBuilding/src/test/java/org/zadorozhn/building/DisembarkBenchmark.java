@@ -0,0 +1,63 @@
+package org.zadorozhn.building;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.human.Human;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisembarkBenchmark {
+    public static final int NUMBER_OF_FLOORS = 60;
+    public static final int WEIGHT = 60;
+
+    @Param({"10", "25", "100"})
+    private int numberOfPassengers;
+
+    private List<Human> passengerList;
+    private Set<Human> passengerSet;
+    private List<Floor> floors;
+    private Human lastPassenger;
+    private Floor lastFloor;
+
+    @Setup
+    public void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Floor startFloor = building.getFloor(Floor.GROUND_FLOOR);
+
+        passengerList = new ArrayList<>();
+        passengerSet = new LinkedHashSet<>();
+        floors = building.getFloors();
+        lastFloor = building.getFloor(NUMBER_OF_FLOORS - 1);
+
+        IntStream.range(0, numberOfPassengers).forEach(i -> {
+            Human human = Human.of(WEIGHT, NUMBER_OF_FLOORS - 1, startFloor);
+            passengerList.add(human);
+            passengerSet.add(human);
+        });
+        lastPassenger = passengerList.get(numberOfPassengers - 1);
+    }
+
+    @Benchmark
+    public boolean disembarkLookupInList() {
+        return passengerList.contains(lastPassenger);
+    }
+
+    @Benchmark
+    public boolean disembarkLookupInSet() {
+        return passengerSet.contains(lastPassenger);
+    }
+
+    @Benchmark
+    public boolean floorLookup() {
+        return floors.contains(lastFloor);
+    }
+}
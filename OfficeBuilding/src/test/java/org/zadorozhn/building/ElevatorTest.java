@@ -5,8 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
 import org.zadorozhn.building.state.State;
 import org.zadorozhn.human.Human;
+import org.zadorozhn.util.IdAllocator;
+import org.zadorozhn.util.clock.VirtualClock;
+import org.zadorozhn.util.latency.LatencyType;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
@@ -133,6 +137,62 @@ public class ElevatorTest {
         };
     }
 
+    @Test
+    void stepWithoutCallsTest() {
+        Elevator elevator = Elevator.of(VALID_CAPACITY);
+        building.addElevator(elevator);
+
+        assertThat(elevator.step(), equalTo(Elevator.NO_OPERATION));
+        assertThat(elevator.getState(), equalTo(State.STOP));
+        assertThat(elevator.getDirection(), equalTo(Direction.NONE));
+    }
+
+    @Test
+    void stepOnVirtualClockTest() {
+        VirtualClock virtualClock = VirtualClock.getDefault();
+        Elevator elevator = Elevator.of(VALID_CAPACITY, Floor.GROUND_FLOOR, VALID_MOVE_SPEED);
+        building.setClock(virtualClock).addElevator(elevator);
+        elevator.addCall(Call.of(VALID_FLOOR_NUMBER, Direction.UP));
+
+        assertThat(elevator.step(), equalTo((long) Elevator.DEFAULT_OPERATION_TIME - VALID_MOVE_SPEED));
+        assertThat(elevator.getCurrentFloorNumber(), equalTo(VALID_FLOOR_NUMBER));
+        assertThat(virtualClock.currentTimeMillis(),
+                equalTo((long) Elevator.DEFAULT_OPERATION_TIME - VALID_MOVE_SPEED));
+    }
+
+    @Test
+    void stepOnOwnClockTest() {
+        VirtualClock virtualClock = VirtualClock.getDefault();
+        VirtualClock elevatorClock = VirtualClock.getDefault();
+        Elevator elevator = Elevator.of(VALID_CAPACITY, Floor.GROUND_FLOOR, VALID_MOVE_SPEED);
+        building.setClock(virtualClock).addElevator(elevator);
+        elevator.setClock(elevatorClock);
+        elevator.addCall(Call.of(VALID_FLOOR_NUMBER, Direction.UP));
+
+        assertThat(elevator.step(), equalTo((long) Elevator.DEFAULT_OPERATION_TIME - VALID_MOVE_SPEED));
+        assertThat(elevatorClock.currentTimeMillis(),
+                equalTo((long) Elevator.DEFAULT_OPERATION_TIME - VALID_MOVE_SPEED));
+        assertThat(virtualClock.currentTimeMillis(), equalTo(0L));
+    }
+
+    @Test
+    void allocateIdFromBuildingTest() {
+        Building anotherBuilding = Building.of(NUMBER_OF_FLOORS);
+        Elevator firstElevator = Elevator.of(VALID_CAPACITY);
+        Elevator secondElevator = Elevator.of(VALID_CAPACITY);
+        Elevator anotherElevator = Elevator.of(VALID_CAPACITY);
+
+        assertThat(firstElevator.getId(), equalTo(Elevator.UNASSIGNED_ID));
+
+        building.addElevator(firstElevator).addElevator(secondElevator);
+        anotherBuilding.addElevator(anotherElevator);
+
+        assertThat(firstElevator.getId(), equalTo(IdAllocator.FIRST_ID));
+        assertThat(secondElevator.getId(), equalTo(IdAllocator.FIRST_ID + 1));
+        assertThat(anotherElevator.getId(), equalTo(IdAllocator.FIRST_ID));
+        assertThrows(IllegalStateException.class, () -> anotherBuilding.addElevator(firstElevator));
+    }
+
     @Test
     void createValidElevatorTest() {
         Elevator elevator = Elevator.of(VALID_CAPACITY);
@@ -297,6 +357,20 @@ public class ElevatorTest {
         assertThat(elevator.getDirection(), equalTo(human.getCall().getDirection()));
     }
 
+    @Test
+    void peekNumberOfPeopleTest() {
+        Elevator elevator = Elevator.of(VALID_CAPACITY, VALID_FLOOR_NUMBER);
+        building.addElevator(elevator);
+        Human human = Human.of(VALID_WEIGHT, NUMBER_OF_FLOORS - 1, building.getFloor(VALID_FLOOR_NUMBER));
+        building.addHuman(human);
+
+        elevator.pickUpHuman(human);
+        assertThat(elevator.peekNumberOfPeople(), equalTo(1));
+
+        elevator.disembark(human);
+        assertThat(elevator.peekNumberOfPeople(), equalTo(0));
+    }
+
     @Test
     void pickUpNullHumanTest() {
         Elevator elevator = Elevator.of(VALID_CAPACITY, VALID_FLOOR_NUMBER);
@@ -318,6 +392,8 @@ public class ElevatorTest {
         elevator.disembark(human);
 
         assertThat(elevator.getPassengers(), not(contains(human)));
+        assertTrue(human.isDelivered());
+        assertThat(building.getLatencyStatistics().getHistogram(LatencyType.JOURNEY).getCount(), equalTo(1L));
     }
 
     @Test
@@ -654,7 +730,52 @@ public class ElevatorTest {
         elevator.load();
 
         assertThat(elevator.getPassengers(), is(empty()));
-        assertThat(elevator.getNumberOfDeliveredPeople(), equalTo(3));
+        assertThat(elevator.getNumberOfDeliveredPeople(), equalTo(3L));
+    }
+
+    @Test
+    void loadDestinationGroupTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor firstUpperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Floor secondUpperFloor = building.getFloor(VALID_FLOOR_NUMBER + 2);
+        Elevator elevator = Elevator.of(VALID_LARGE_CAPACITY, floor);
+        building.setController(Controller.getEmpty(DispatchMode.DESTINATION)).addElevator(elevator);
+        Human firstHuman = Human.of(VALID_WEIGHT, firstUpperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, secondUpperFloor, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, firstUpperFloor, floor);
+
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+        floor.addHuman(thirdHuman);
+
+        elevator.addDestinationCall(DestinationCall.of(floor, firstUpperFloor));
+        elevator.load();
+
+        assertThat(elevator.getPassengers(), contains(firstHuman, thirdHuman));
+        assertThat(elevator.getDestinationCalls(), is(empty()));
+        assertThat(floor.getHumanQueueByDestination(secondUpperFloor.getFloorNumber()), contains(secondHuman));
+    }
+
+    @Test
+    void loadDestinationGroupWithNoSpaceTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Elevator elevator = Elevator.of(VALID_CAPACITY, floor);
+        building.setController(Controller.getEmpty(DispatchMode.DESTINATION)).addElevator(elevator);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        DestinationCall destinationCall = DestinationCall.of(floor, upperFloor);
+
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+        floor.addHuman(thirdHuman);
+
+        elevator.addDestinationCall(destinationCall);
+        elevator.load();
+
+        assertThat(elevator.getPassengers(), contains(firstHuman, secondHuman));
+        assertThat(building.getController().getAllDestinationCalls(), hasItem(destinationCall));
     }
 
     @Test
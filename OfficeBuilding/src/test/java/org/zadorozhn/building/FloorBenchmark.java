@@ -0,0 +1,53 @@
+package org.zadorozhn.building;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloorBenchmark {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int NUMBER_OF_QUEUED_HUMANS = 10_000;
+    public static final int START_FLOOR_NUMBER = 5;
+    public static final int WEIGHT = 60;
+
+    private Floor floor;
+    private Queue<Human> traversedQueue;
+
+    @Setup
+    public void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        floor = building.getFloor(START_FLOOR_NUMBER);
+        traversedQueue = new ConcurrentLinkedQueue<>();
+
+        IntStream.range(0, NUMBER_OF_QUEUED_HUMANS).forEach(i -> {
+            Human human = Human.of(WEIGHT, i % 2 == 0 ? NUMBER_OF_FLOORS - 1 : Floor.GROUND_FLOOR, floor);
+            floor.addHuman(human);
+            traversedQueue.add(human);
+        });
+    }
+
+    @Benchmark
+    public int getNumberOfPeopleUp() {
+        return floor.getNumberOfPeople(Direction.UP);
+    }
+
+    @Benchmark
+    public int getNumberOfPeopleFromTheLongestQueue() {
+        return floor.getNumberOfPeople(Direction.NONE);
+    }
+
+    @Benchmark
+    public int traverseQueueSize() {
+        return traversedQueue.size();
+    }
+}
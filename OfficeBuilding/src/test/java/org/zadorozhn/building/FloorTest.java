@@ -3,7 +3,11 @@ package org.zadorozhn.building;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.DispatchMode;
+import org.zadorozhn.building.state.OverflowPolicy;
 import org.zadorozhn.human.Human;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
@@ -15,6 +19,8 @@ class FloorTest {
     public static final int VALID_WEIGHT = 60;
     public static final int INVALID_FLOOR_NUMBER = -1;
     public static final int NUMBER_OF_FLOORS = 10;
+    public static final int VALID_CAPACITY = 2;
+    public static final int WAITING_TIME = 5;
     public static Building building;
 
     @BeforeEach
@@ -35,6 +41,26 @@ class FloorTest {
                 () -> Floor.of(INVALID_FLOOR_NUMBER, building));
     }
 
+    @Test
+    void equalsByFloorNumberAndBuildingTest() {
+        Building anotherBuilding = Building.of(NUMBER_OF_FLOORS);
+
+        assertThat(Floor.of(VALID_FLOOR_NUMBER, building), equalTo(building.getFloor(VALID_FLOOR_NUMBER)));
+        assertThat(building.getFloor(VALID_FLOOR_NUMBER), not(equalTo(building.getFloor(VALID_FLOOR_NUMBER + 1))));
+        assertThat(building.getFloor(VALID_FLOOR_NUMBER), not(equalTo(anotherBuilding.getFloor(VALID_FLOOR_NUMBER))));
+    }
+
+    @Test
+    void equalsDoesNotDependOnQueuesTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor sameFloor = Floor.of(VALID_FLOOR_NUMBER, building);
+
+        floor.addHuman(Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor));
+
+        assertThat(floor, equalTo(sameFloor));
+        assertThat(floor.hashCode(), equalTo(sameFloor.hashCode()));
+    }
+
     @Test
     void pollFirstHumanTest() {
         Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
@@ -86,6 +112,103 @@ class FloorTest {
                 hasItem(Call.of(floor, firstHuman.getCall().getDirection())));
     }
 
+    @Test
+    void addHumansTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human firstHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 2, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, floor);
+
+        int numberOfAddedPeople = floor.addHumans(Arrays.asList(firstHuman, secondHuman, thirdHuman));
+
+        assertThat(numberOfAddedPeople, equalTo(3));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(firstHuman, secondHuman));
+        assertThat(floor.getHumanQueue(Direction.DOWN), contains(thirdHuman));
+        assertThat(building.getController().getAllCalls(),
+                containsInAnyOrder(Call.of(floor, Direction.UP), Call.of(floor, Direction.DOWN)));
+    }
+
+    @Test
+    void addHumansRaisesOneCallPerDirectionTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+
+        floor.addHumans(Arrays.asList(Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor),
+                Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 2, floor),
+                Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 3, floor)));
+
+        assertThat(building.getController().getHallCallRegistry().getNumberOfPresses(), equalTo(1L));
+        assertThat(floor.getNumberOfPeople(Direction.UP), equalTo(3));
+        assertThat(floor.getPeakQueueDepth(), equalTo(3));
+    }
+
+    @Test
+    void countOnlyFloorPressesTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Controller controller = building.getController();
+        HallCallRegistry hallCallRegistry = controller.getHallCallRegistry();
+        Human firstHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 2, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 3, floor);
+
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+        floor.addHuman(thirdHuman);
+        secondHuman.pushButton();
+        controller.removeCall(Call.of(floor, Direction.UP));
+        floor.pollFirstHuman(Direction.UP);
+        floor.pollFirstHuman(Direction.UP);
+
+        assertThat(hallCallRegistry.getNumberOfPresses(), equalTo(2L));
+        assertThat(hallCallRegistry.getNumberOfDuplicates(), equalTo(1L));
+        assertThat(hallCallRegistry.getNumberOfLatchedCalls(), equalTo(1));
+        assertThat(controller.getAllCalls(), contains(Call.of(floor, Direction.UP)));
+    }
+
+    @Test
+    void addHumansByDestinationTest() {
+        building.getController().setDispatchMode(DispatchMode.DESTINATION);
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human firstHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, floor);
+
+        int numberOfAddedPeople = floor.addHumans(Arrays.asList(firstHuman, secondHuman, thirdHuman));
+
+        assertThat(numberOfAddedPeople, equalTo(3));
+        assertThat(floor.getHumanQueueByDestination(VALID_FLOOR_NUMBER + 1), contains(firstHuman, secondHuman));
+        assertThat(floor.getNumberOfPeopleByDestination(), equalTo(3));
+        assertThat(building.getController().getAllDestinationCalls(), containsInAnyOrder(
+                DestinationCall.of(VALID_FLOOR_NUMBER, VALID_FLOOR_NUMBER + 1),
+                DestinationCall.of(VALID_FLOOR_NUMBER, Floor.GROUND_FLOOR)));
+    }
+
+    @Test
+    void addHumansOverCapacityTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        floor.setCapacity(VALID_CAPACITY, OverflowPolicy.BALK);
+
+        int numberOfAddedPeople = floor.addHumans(Arrays.asList(Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, floor),
+                Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, floor), Human.of(VALID_WEIGHT, Floor.GROUND_FLOOR, floor)));
+
+        assertThat(numberOfAddedPeople, equalTo(VALID_CAPACITY));
+        assertThat(floor.getNumberOfBalkedPeople(), equalTo(1));
+    }
+
+    @Test
+    void pollFirstHumanDoesNotDuplicateCallTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+
+        floor.pollFirstHuman(Direction.UP);
+        floor.pollFirstHuman(Direction.UP);
+
+        assertThat(building.getController().getAllCalls(), contains(Call.of(floor, Direction.UP)));
+    }
+
     @Test
     void addNullHumanTest() {
         Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
@@ -302,6 +425,28 @@ class FloorTest {
         assertThat(floor.getNumberOfPeople(Direction.DOWN), equalTo(1));
     }
 
+    @Test
+    void getNumberOfPeopleAfterPollTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Floor lowerFloor = building.getFloor(VALID_FLOOR_NUMBER - 1);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, lowerFloor, floor);
+
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+        floor.addHuman(thirdHuman);
+
+        floor.pollFirstHuman(Direction.UP);
+        floor.pollFirstHuman(Direction.DOWN);
+        floor.pollFirstHuman(Direction.DOWN);
+
+        assertThat(floor.getNumberOfPeople(Direction.UP), equalTo(1));
+        assertThat(floor.getNumberOfPeople(Direction.DOWN), equalTo(0));
+        assertThat(floor.getNumberOfPeople(Direction.NONE), equalTo(1));
+    }
+
     @Test
     void getHumanQueueTest() {
         Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
@@ -327,4 +472,173 @@ class FloorTest {
         assertThat(building.getController().getAllCalls(),
                 hasItem(Call.of(floor.getFloorNumber(), direction)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addHumanByDestinationTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor firstUpperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Floor secondUpperFloor = building.getFloor(VALID_FLOOR_NUMBER + 2);
+        Human firstHuman = Human.of(VALID_WEIGHT, firstUpperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, secondUpperFloor, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, firstUpperFloor, floor);
+
+        floor.addHumanByDestination(firstHuman);
+        floor.addHumanByDestination(secondHuman);
+        floor.addHumanByDestination(thirdHuman);
+
+        assertThat(floor.getHumanQueueByDestination(firstUpperFloor.getFloorNumber()),
+                contains(firstHuman, thirdHuman));
+        assertThat(floor.getHumanQueueByDestination(secondUpperFloor.getFloorNumber()), contains(secondHuman));
+        assertThat(floor.getNumberOfPeopleByDestination(), equalTo(3));
+        assertThat(floor.getNumberOfPeople(Direction.UP), equalTo(0));
+        assertThat(building.getController().getAllDestinationCalls(),
+                contains(DestinationCall.of(floor, firstUpperFloor), DestinationCall.of(floor, secondUpperFloor)));
+    }
+
+    @Test
+    void addHumanInDestinationModeTest() {
+        building.setController(Controller.getEmpty(DispatchMode.DESTINATION));
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Human human = Human.of(VALID_WEIGHT, upperFloor, floor);
+
+        floor.addHuman(human);
+
+        assertThat(floor.getHumanQueueByDestination(upperFloor.getFloorNumber()), contains(human));
+        assertThat(floor.getHumanQueue(Direction.UP), is(empty()));
+        assertThat(building.getController().getAllCalls(), is(empty()));
+    }
+
+    @Test
+    void pollHumanByDestinationTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Floor lowerFloor = building.getFloor(VALID_FLOOR_NUMBER - 1);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, lowerFloor, floor);
+
+        floor.addHumanByDestination(firstHuman);
+        floor.addHumanByDestination(secondHuman);
+
+        assertThat(floor.pollHumanByDestination(lowerFloor.getFloorNumber()), equalTo(secondHuman));
+        assertThat(floor.pollHumanByDestination(lowerFloor.getFloorNumber()), is(nullValue()));
+        assertThat(floor.getFirstHumanByDestination(upperFloor.getFloorNumber()), equalTo(firstHuman));
+        assertThat(floor.getNumberOfPeopleByDestination(), equalTo(1));
+    }
+
+    @Test
+    void setInvalidCapacityTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+
+        assertThrows(IllegalArgumentException.class, () -> floor.setCapacity(0, OverflowPolicy.BALK));
+        assertThrows(NullPointerException.class, () -> floor.setCapacity(VALID_CAPACITY, null));
+    }
+
+    @Test
+    void addHumanToFullFloorWithBalkPolicyTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Floor lowerFloor = building.getFloor(VALID_FLOOR_NUMBER - 1);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, lowerFloor, floor);
+        Human thirdHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+
+        floor.setCapacity(VALID_CAPACITY, OverflowPolicy.BALK);
+
+        assertThat(floor.addHuman(firstHuman), equalTo(true));
+        assertThat(floor.addHuman(secondHuman), equalTo(true));
+        assertThat(floor.addHuman(thirdHuman), equalTo(false));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(firstHuman));
+        assertThat(floor.getQueueDepth(), equalTo(VALID_CAPACITY));
+        assertThat(floor.getNumberOfBalkedPeople(), equalTo(1));
+        assertThat(floor.getNumberOfDivertedPeople(), equalTo(0));
+    }
+
+    @Test
+    void addHumanToFullFloorWithStairsPolicyTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+
+        floor.setCapacity(VALID_CAPACITY, OverflowPolicy.STAIRS);
+
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+
+        assertThat(floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor)), equalTo(false));
+        assertThat(floor.getNumberOfDivertedPeople(), equalTo(1));
+        assertThat(floor.getNumberOfBalkedPeople(), equalTo(0));
+    }
+
+    @Test
+    void addHumanToFullFloorWithBlockPolicyTest() throws InterruptedException {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human blockedHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+
+        floor.setCapacity(VALID_CAPACITY, OverflowPolicy.BLOCK);
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+
+        Thread generator = new Thread(() -> floor.addHuman(blockedHuman));
+        generator.start();
+        generator.join(TimeUnit.SECONDS.toMillis(1));
+
+        assertThat(generator.isAlive(), equalTo(true));
+        assertThat(floor.getHumanQueue(Direction.UP), not(hasItem(blockedHuman)));
+
+        floor.pollFirstHuman(Direction.UP);
+        generator.join(TimeUnit.SECONDS.toMillis(WAITING_TIME));
+
+        assertThat(generator.isAlive(), equalTo(false));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(secondHuman, blockedHuman));
+    }
+
+    @Test
+    void getPeakQueueDepthTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+        floor.addHuman(Human.of(VALID_WEIGHT, upperFloor, floor));
+        floor.pollFirstHuman(Direction.UP);
+        floor.pollFirstHuman(Direction.UP);
+
+        assertThat(floor.getQueueDepth(), equalTo(0));
+        assertThat(floor.getPeakQueueDepth(), equalTo(2));
+    }
+
+    @Test
+    void removeHumanTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Human firstHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+        Human secondHuman = Human.of(VALID_WEIGHT, upperFloor, floor);
+
+        floor.addHuman(firstHuman);
+        floor.addHuman(secondHuman);
+
+        assertThat(floor.removeHuman(firstHuman), equalTo(true));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(secondHuman));
+        assertThat(floor.getNumberOfPeople(Direction.UP), equalTo(1));
+        assertThat(building.getController().getAllCalls(), hasItem(Call.of(floor, Direction.UP)));
+
+        assertThat(floor.removeHuman(secondHuman), equalTo(true));
+        assertThat(building.getController().getAllCalls(), not(hasItem(Call.of(floor, Direction.UP))));
+        assertThat(floor.removeHuman(secondHuman), equalTo(false));
+    }
+
+    @Test
+    void removeHumanByDestinationTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Floor upperFloor = building.getFloor(VALID_FLOOR_NUMBER + 1);
+        Human human = Human.of(VALID_WEIGHT, upperFloor, floor);
+
+        floor.addHumanByDestination(human);
+
+        assertThat(floor.removeHuman(human), equalTo(true));
+        assertThat(floor.getNumberOfPeopleByDestination(), equalTo(0));
+        assertThat(building.getController().getAllDestinationCalls(), is(empty()));
+    }
+}
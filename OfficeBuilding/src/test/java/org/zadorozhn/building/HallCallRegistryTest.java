@@ -0,0 +1,70 @@
+package org.zadorozhn.building;
+
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.state.Direction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class HallCallRegistryTest {
+    public static final int VALID_FLOOR_NUMBER = 3;
+
+    @Test
+    void latchTest() {
+        HallCallRegistry hallCallRegistry = HallCallRegistry.getEmpty();
+        Call call = Call.of(VALID_FLOOR_NUMBER, Direction.UP);
+
+        assertThat(hallCallRegistry.latch(call), equalTo(true));
+        assertThat(hallCallRegistry.isLatched(call), equalTo(true));
+        assertThat(hallCallRegistry.isLatched(Call.of(VALID_FLOOR_NUMBER, Direction.DOWN)), equalTo(false));
+    }
+
+    @Test
+    void latchDuplicateTest() {
+        HallCallRegistry hallCallRegistry = HallCallRegistry.getEmpty();
+
+        hallCallRegistry.latch(Call.of(VALID_FLOOR_NUMBER, Direction.UP));
+
+        assertThat(hallCallRegistry.latch(Call.of(VALID_FLOOR_NUMBER, Direction.UP)), equalTo(false));
+        assertThat(hallCallRegistry.getNumberOfLatchedCalls(), equalTo(1));
+        assertThat(hallCallRegistry.getNumberOfPresses(), equalTo(2L));
+        assertThat(hallCallRegistry.getNumberOfDuplicates(), equalTo(1L));
+        assertThat(hallCallRegistry.getDuplicateRate(), closeTo(0.5, 1e-9));
+    }
+
+    @Test
+    void clearTest() {
+        HallCallRegistry hallCallRegistry = HallCallRegistry.getEmpty();
+        Call call = Call.of(VALID_FLOOR_NUMBER, Direction.UP);
+
+        hallCallRegistry.latch(call);
+
+        assertThat(hallCallRegistry.clear(call), equalTo(true));
+        assertThat(hallCallRegistry.clear(call), equalTo(false));
+        assertThat(hallCallRegistry.latch(call), equalTo(true));
+    }
+
+    @Test
+    void relatchDoesNotCountPressesTest() {
+        HallCallRegistry hallCallRegistry = HallCallRegistry.getEmpty();
+        Call call = Call.of(VALID_FLOOR_NUMBER, Direction.UP);
+
+        assertThat(hallCallRegistry.relatch(call), equalTo(true));
+        assertThat(hallCallRegistry.relatch(call), equalTo(false));
+        assertThat(hallCallRegistry.isLatched(call), equalTo(true));
+        assertThat(hallCallRegistry.getNumberOfLatchedCalls(), equalTo(1));
+        assertThat(hallCallRegistry.getNumberOfPresses(), equalTo(0L));
+        assertThat(hallCallRegistry.getNumberOfDuplicates(), equalTo(0L));
+    }
+
+    @Test
+    void getDuplicateRateWithoutPressesTest() {
+        assertThat(HallCallRegistry.getEmpty().getDuplicateRate(), equalTo(0.0));
+    }
+
+    @Test
+    void latchNullCallTest() {
+        assertThrows(NullPointerException.class, () -> HallCallRegistry.getEmpty().latch(null));
+    }
+}
@@ -0,0 +1,145 @@
+package org.zadorozhn.building.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Call;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class FlightRecorderEventsTest {
+    public static final int NUMBER_OF_FLOORS = 5;
+    public static final int ELEVATOR_CAPACITY = 500;
+    public static final int WEIGHT = 60;
+    public static final int NUMBER_OF_SPINS = 10;
+
+    private Recording recording;
+    private Building building;
+    private Elevator elevator;
+
+    @BeforeEach
+    void init() {
+        elevator = Elevator.of(ELEVATOR_CAPACITY);
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).addElevator(elevator)
+                .setClock(VirtualClock.getDefault());
+
+        recording = new Recording();
+        recording.enable(ElevatorMoveEvent.class);
+        recording.enable(DoorCycleEvent.class);
+        recording.enable(BoardingEvent.class);
+        recording.enable(DispatchDecisionEvent.class);
+        recording.enable(HallCallEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void release() {
+        recording.close();
+    }
+
+    @Test
+    void recordElevatorMoveTest() {
+        elevator.goUp();
+        elevator.goDown();
+
+        List<RecordedEvent> events = getEvents("org.zadorozhn.ElevatorMove");
+
+        assertThat(events.size(), equalTo(2));
+        assertThat(events.get(0).getLong("elevatorId"), equalTo(elevator.getId()));
+        assertThat(events.get(0).getInt("fromFloor"), equalTo(Floor.GROUND_FLOOR));
+        assertThat(events.get(0).getInt("toFloor"), equalTo(Floor.GROUND_FLOOR + 1));
+        assertThat(events.get(1).getString("direction"), equalTo(Direction.DOWN.name()));
+    }
+
+    @Test
+    void recordDoorCycleAndBoardingTest() {
+        Floor floor = building.getFloor(Floor.GROUND_FLOOR);
+        floor.addHuman(Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor));
+
+        elevator.openDoor();
+        elevator.load();
+        elevator.closeDoor();
+
+        List<RecordedEvent> doorCycleEvents = getEvents("org.zadorozhn.DoorCycle");
+        List<RecordedEvent> boardingEvents = getEvents("org.zadorozhn.Boarding");
+
+        assertThat(doorCycleEvents.size(), equalTo(2));
+        assertThat(doorCycleEvents.get(0).getString("action"), equalTo("OPEN_DOOR"));
+        assertThat(doorCycleEvents.get(1).getString("action"), equalTo("CLOSE_DOOR"));
+        assertThat(boardingEvents.size(), equalTo(1));
+        assertThat(boardingEvents.get(0).getInt("boarded"), equalTo(1));
+        assertThat(boardingEvents.get(0).getInt("alighted"), equalTo(0));
+        assertThat(boardingEvents.get(0).getInt("load"), equalTo(WEIGHT));
+    }
+
+    @Test
+    void recordDispatchDecisionAndHallCallTest() {
+        Controller controller = building.getController();
+        Call call = Call.of(Floor.GROUND_FLOOR + 2, Direction.DOWN);
+
+        controller.addCall(call);
+        controller.dispatchCall();
+        controller.removeCall(call);
+
+        List<RecordedEvent> dispatchDecisionEvents = getEvents("org.zadorozhn.DispatchDecision");
+        List<RecordedEvent> hallCallEvents = getEvents("org.zadorozhn.HallCall");
+
+        assertThat(dispatchDecisionEvents.size(), equalTo(1));
+        assertThat(dispatchDecisionEvents.get(0).getString("callType"), equalTo("HALL"));
+        assertThat(dispatchDecisionEvents.get(0).getInt("candidates"), equalTo(1));
+        assertThat(dispatchDecisionEvents.get(0).getLong("chosenElevatorId"), equalTo(elevator.getId()));
+        assertThat(hallCallEvents.size(), equalTo(1));
+        assertThat(hallCallEvents.get(0).getInt("floor"), equalTo(Floor.GROUND_FLOOR + 2));
+        assertThat(hallCallEvents.get(0).getString("direction"), equalTo(Direction.DOWN.name()));
+    }
+
+    @Test
+    void skipDispatchDecisionWithoutSuitableElevatorTest() {
+        Controller controller = building.getController();
+        Call call = Call.of(Floor.GROUND_FLOOR + 2, Direction.DOWN);
+
+        elevator.goUp();
+        controller.addCall(call);
+        for (int i = 0; i < NUMBER_OF_SPINS; i++) {
+            controller.dispatchCall();
+        }
+        controller.removeCall(call);
+
+        assertThat(controller.getNumberOfDispatchedCalls(), equalTo(0L));
+        assertThat(getEvents("org.zadorozhn.DispatchDecision"), empty());
+    }
+
+    @SneakyThrows
+    private List<RecordedEvent> getEvents(String name) {
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Path path = Files.createTempFile("building", ".jfr");
+        try {
+            recording.dump(path);
+
+            return RecordingFile.readAllEvents(path).stream()
+                    .filter(i -> i.getEventType().getName().equals(name))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.zadorozhn.building.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderSupportTest {
+    @Test
+    void isAvailableOnFlightRecorderRuntimeTest() {
+        assertTrue(FlightRecorderSupport.isAvailable());
+    }
+}
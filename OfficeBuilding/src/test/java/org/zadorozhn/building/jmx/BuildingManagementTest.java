@@ -0,0 +1,99 @@
+package org.zadorozhn.building.jmx;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.human.Human;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class BuildingManagementTest {
+    public static final int NUMBER_OF_FLOORS = 4;
+    public static final int ELEVATOR_CAPACITY = 500;
+    public static final int WEIGHT = 60;
+    public static final String NAME = "office";
+
+    private MBeanServer mBeanServer;
+    private Building building;
+    private Elevator elevator;
+
+    @BeforeEach
+    void init() {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+        elevator = Elevator.of(ELEVATOR_CAPACITY);
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).addElevator(elevator);
+    }
+
+    @Test
+    void registerTest() {
+        BuildingManagement buildingManagement = BuildingManagement.of(building, NAME, mBeanServer).register();
+
+        assertTrue(buildingManagement.isRegistered());
+        assertThat(buildingManagement.getObjectNames().size(), equalTo(NUMBER_OF_FLOORS + 3));
+        assertThat(buildingManagement.getObjectNames(), everyItem(hasProperty("domain",
+                equalTo(BuildingManagement.DOMAIN))));
+    }
+
+    @Test
+    void registerTwiceTest() {
+        BuildingManagement buildingManagement = BuildingManagement.of(building, NAME, mBeanServer).register();
+
+        assertThrows(IllegalStateException.class, buildingManagement::register);
+    }
+
+    @Test
+    void registerWithTheSameNameTest() {
+        BuildingManagement.of(building, NAME, mBeanServer).register();
+        BuildingManagement buildingManagement = BuildingManagement.of(building, NAME, mBeanServer);
+
+        assertThrows(IllegalStateException.class, buildingManagement::register);
+        assertFalse(buildingManagement.isRegistered());
+    }
+
+    @Test
+    void unregisterTest() {
+        BuildingManagement buildingManagement = BuildingManagement.of(building, NAME, mBeanServer).register();
+        ObjectName objectName = buildingManagement.getObjectNames().get(0);
+
+        buildingManagement.unregister();
+
+        assertFalse(buildingManagement.isRegistered());
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @SneakyThrows
+    @Test
+    void readAttributesTest() {
+        BuildingManagement.of(building, NAME, mBeanServer).register();
+        Floor floor = building.getFloor(Floor.GROUND_FLOOR);
+        floor.addHuman(Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor));
+        elevator.getStatisticsHolder().incrementNumberOfDeliveredPeople();
+
+        String building = ObjectName.quote(NAME);
+        ObjectName buildingName = new ObjectName(BuildingManagement.DOMAIN + ":type=Building,building=" + building);
+        ObjectName controllerName = new ObjectName(BuildingManagement.DOMAIN
+                + ":type=Controller,building=" + building);
+        ObjectName elevatorName = new ObjectName(BuildingManagement.DOMAIN
+                + ":type=Elevator,building=" + building + ",id=" + elevator.getId());
+        ObjectName floorName = new ObjectName(BuildingManagement.DOMAIN
+                + ":type=Floor,building=" + building + ",number=" + Floor.GROUND_FLOOR);
+
+        assertThat(mBeanServer.getAttribute(buildingName, "NumberOfElevators"), equalTo(1));
+        assertThat(mBeanServer.getAttribute(buildingName, "NumberOfDeliveredPeople"), equalTo(1L));
+        assertThat(mBeanServer.getAttribute(buildingName, "QueueLength"), equalTo(1L));
+        assertThat(mBeanServer.getAttribute(controllerName, "NumberOfPendingCalls"), equalTo(1));
+        assertThat(mBeanServer.getAttribute(elevatorName, "State"), equalTo("STOP"));
+        assertThat(mBeanServer.getAttribute(elevatorName, "Load"), equalTo(0));
+        assertThat(mBeanServer.getAttribute(floorName, "NumberOfPeopleUp"), equalTo(1));
+        assertThat(mBeanServer.getAttribute(floorName, "QueueDepth"), equalTo(1));
+    }
+}
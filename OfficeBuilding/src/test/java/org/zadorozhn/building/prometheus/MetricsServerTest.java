@@ -0,0 +1,92 @@
+package org.zadorozhn.building.prometheus;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class MetricsServerTest {
+    public static final int NUMBER_OF_FLOORS = 4;
+    public static final int ELEVATOR_CAPACITY = 500;
+
+    private MetricsServer metricsServer;
+
+    @BeforeEach
+    void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty())
+                .addElevator(Elevator.of(ELEVATOR_CAPACITY));
+        metricsServer = MetricsServer.of(PrometheusRenderer.of(building, "office"), MetricsServer.EPHEMERAL_PORT);
+    }
+
+    @AfterEach
+    void release() {
+        metricsServer.stop();
+    }
+
+    @Test
+    void createInvalidMetricsServerTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        PrometheusRenderer prometheusRenderer = PrometheusRenderer.of(building, "office");
+
+        assertThrows(IllegalArgumentException.class, () -> MetricsServer.of(prometheusRenderer, -1));
+        assertThrows(NullPointerException.class, () -> MetricsServer.of(null, MetricsServer.EPHEMERAL_PORT));
+    }
+
+    @Test
+    void getPortBeforeStartTest() {
+        assertThrows(IllegalStateException.class, metricsServer::getPort);
+    }
+
+    @Test
+    void startTwiceTest() {
+        metricsServer.start();
+
+        assertThrows(IllegalStateException.class, metricsServer::start);
+    }
+
+    @SneakyThrows
+    @Test
+    void scrapeTest() {
+        metricsServer.start();
+        URL url = new URL("http://localhost:" + metricsServer.getPort() + MetricsServer.PATH);
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream inputStream = connection.getInputStream()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+            }
+        }
+
+        assertThat(connection.getResponseCode(), equalTo(200));
+        assertThat(connection.getContentType(), equalTo(MetricsServer.CONTENT_TYPE));
+        assertThat(new String(body.toByteArray(), StandardCharsets.UTF_8),
+                containsString("office_building_elevators{building=\"office\"} 1\n"));
+    }
+
+    @SneakyThrows
+    @Test
+    void rejectPostTest() {
+        metricsServer.start();
+        URL url = new URL("http://localhost:" + metricsServer.getPort() + MetricsServer.PATH);
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+
+        assertThat(connection.getResponseCode(), equalTo(405));
+    }
+}
@@ -0,0 +1,87 @@
+package org.zadorozhn.building.prometheus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class PrometheusRendererTest {
+    public static final int NUMBER_OF_FLOORS = 4;
+    public static final int ELEVATOR_CAPACITY = 500;
+    public static final int WEIGHT = 60;
+    public static final String NAME = "office";
+
+    private Building building;
+    private Elevator elevator;
+
+    @BeforeEach
+    void init() {
+        elevator = Elevator.of(ELEVATOR_CAPACITY);
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).addElevator(elevator)
+                .setClock(VirtualClock.getDefault());
+    }
+
+    @Test
+    void createInvalidPrometheusRendererTest() {
+        assertThrows(IllegalArgumentException.class, () -> PrometheusRenderer.of(building, ""));
+        assertThrows(NullPointerException.class, () -> PrometheusRenderer.of(Building.of(NUMBER_OF_FLOORS), NAME));
+    }
+
+    @Test
+    void renderCountersAndGaugesTest() {
+        Floor floor = building.getFloor(Floor.GROUND_FLOOR);
+        floor.addHuman(Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor));
+        elevator.getStatisticsHolder().incrementNumberOfDeliveredPeople();
+
+        String metrics = PrometheusRenderer.of(building, NAME).render();
+
+        assertThat(metrics, containsString("# TYPE office_building_delivered_people_total counter\n"));
+        assertThat(metrics, containsString("office_building_delivered_people_total{building=\"office\"} 1\n"));
+        assertThat(metrics, containsString("office_building_elevators{building=\"office\"} 1\n"));
+        assertThat(metrics, containsString("office_building_floor_queue_depth{building=\"office\",floor=\"0\","
+                + "direction=\"up\"} 1\n"));
+        assertThat(metrics, containsString("office_building_elevator_load{building=\"office\",elevator=\""
+                + elevator.getId() + "\"} 0\n"));
+        assertThat(metrics, containsString("office_building_controller_pending_calls{building=\"office\"} 1\n"));
+    }
+
+    @Test
+    void renderHistogramTest() {
+        Floor floor = building.getFloor(Floor.GROUND_FLOOR);
+        Human firstHuman = Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor);
+        Human secondHuman = Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor);
+        firstHuman.board(firstHuman.getArrivalTime() + 100);
+        firstHuman.alight(firstHuman.getArrivalTime() + 150);
+        secondHuman.board(secondHuman.getArrivalTime() + 2_000);
+        secondHuman.alight(secondHuman.getArrivalTime() + 3_000);
+        building.getLatencyStatistics().record(firstHuman);
+        building.getLatencyStatistics().record(secondHuman);
+
+        String metrics = PrometheusRenderer.of(building, NAME).render();
+
+        assertThat(metrics, containsString("# TYPE office_building_wait_time_milliseconds histogram\n"));
+        assertThat(metrics, containsString(
+                "office_building_wait_time_milliseconds_bucket{building=\"office\",le=\"101\"} 1\n"));
+        assertThat(metrics, containsString(
+                "office_building_wait_time_milliseconds_bucket{building=\"office\",le=\"2559\"} 2\n"));
+        assertThat(metrics, containsString(
+                "office_building_wait_time_milliseconds_bucket{building=\"office\",le=\"+Inf\"} 2\n"));
+        assertThat(metrics, containsString("office_building_wait_time_milliseconds_sum{building=\"office\"} 2100\n"));
+        assertThat(metrics, containsString("office_building_wait_time_milliseconds_count{building=\"office\"} 2\n"));
+    }
+
+    @Test
+    void escapeBuildingNameTest() {
+        String metrics = PrometheusRenderer.of(building, "a\"b").render();
+
+        assertThat(metrics, containsString("office_building_floors{building=\"a\\\"b\"} 4\n"));
+    }
+}
@@ -0,0 +1,47 @@
+package org.zadorozhn.human;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.util.IdAllocator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class HumanCreationBenchmark {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int TARGET_FLOOR_NUMBER = 5;
+    public static final int WEIGHT = 60;
+
+    private Floor startFloor;
+    private IdAllocator idAllocator;
+
+    @Setup
+    public void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        startFloor = building.getFloor(Floor.GROUND_FLOOR);
+        idAllocator = IdAllocator.getDefault();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public long sequentialId() {
+        return idAllocator.next();
+    }
+
+    @Benchmark
+    public Human createHuman() {
+        return Human.of(WEIGHT, TARGET_FLOOR_NUMBER, startFloor);
+    }
+}
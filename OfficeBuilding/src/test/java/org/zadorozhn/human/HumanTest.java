@@ -8,6 +8,8 @@ import org.zadorozhn.building.Building;
 import org.zadorozhn.building.Call;
 import org.zadorozhn.building.Controller;
 import org.zadorozhn.building.Floor;
+import org.zadorozhn.util.IdAllocator;
+import org.zadorozhn.util.clock.VirtualClock;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -102,6 +104,69 @@ class HumanTest {
         assertThat(human.getSsn(), notNullValue());
     }
 
+    @Test
+    void equalsBySsnTest() {
+        Human firstHuman = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER));
+        Human secondHuman = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        assertThat(firstHuman, equalTo(firstHuman));
+        assertThat(firstHuman, not(equalTo(secondHuman)));
+    }
+
+    @Test
+    void getUniqueSsnTest() {
+        Human firstHuman = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER));
+        Human secondHuman = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        assertThat(secondHuman.getSsn(), greaterThan(firstHuman.getSsn()));
+    }
+
+    @Test
+    void createWithSsnTest() {
+        long ssn = 1_000;
+        Floor startFloor = building.getFloor(VALID_START_FLOOR_NUMBER);
+
+        assertThat(Human.of(ssn, VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, startFloor).getSsn(), equalTo(ssn));
+        assertThrows(IllegalArgumentException.class,
+                () -> Human.of(IdAllocator.FIRST_ID - 1, VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, startFloor));
+    }
+
+    @Test
+    void getAbandonmentTimeTest() {
+        long patience = 1000;
+        Human human = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER), patience);
+
+        assertThat(human.hasInfinitePatience(), equalTo(false));
+        assertThat(human.getAbandonmentTime(), equalTo(human.getArrivalTime() + patience));
+    }
+
+    @Test
+    void getAbandonmentTimeWithInfinitePatienceTest() {
+        Human human = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        assertThat(human.hasInfinitePatience(), equalTo(true));
+        assertThat(human.getAbandonmentTime(), equalTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    void toStringRendersStartFloorNumberTest() {
+        Human human = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        assertThat(human.toString(), containsString("startFloorNumber=" + VALID_START_FLOOR_NUMBER));
+        assertThat(human.toString(), not(containsString("startFloor=")));
+    }
+
+    @Test
+    void createHumanWithInvalidPatienceTest() {
+        assertThrows(IllegalArgumentException.class, () -> Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER,
+                building.getFloor(VALID_START_FLOOR_NUMBER), 0));
+    }
+
     @Test
     void pushUpButtonTest() {
         Floor lowerFloor = building.getFloor(0);
@@ -125,4 +190,33 @@ class HumanTest {
         assertThat(building.getController().getAllCalls(),
                 hasItem(Call.of(human.getStartFloor(), human.getCall().getDirection())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void stampBoardingAndAlightingTest() {
+        VirtualClock virtualClock = VirtualClock.of(1_000);
+        building.setClock(virtualClock);
+        Human human = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        human.board(1_500);
+        human.alight(4_000);
+
+        assertTrue(human.isBoarded());
+        assertTrue(human.isDelivered());
+        assertThat(human.getWaitTime(), equalTo(500L));
+        assertThat(human.getRideTime(), equalTo(2_500L));
+        assertThat(human.getJourneyTime(), equalTo(3_000L));
+    }
+
+    @Test
+    void stampOutOfOrderTest() {
+        Human human = Human.of(VALID_WEIGHT, VALID_TARGET_FLOOR_NUMBER, building.getFloor(VALID_START_FLOOR_NUMBER));
+
+        assertThrows(IllegalStateException.class, () -> human.alight(System.currentTimeMillis()));
+        assertThrows(IllegalStateException.class, human::getWaitTime);
+
+        human.board(System.currentTimeMillis());
+
+        assertThrows(IllegalStateException.class, () -> human.board(System.currentTimeMillis()));
+        assertThrows(IllegalStateException.class, human::getJourneyTime);
+    }
+}
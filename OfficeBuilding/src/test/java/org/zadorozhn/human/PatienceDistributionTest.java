@@ -0,0 +1,55 @@
+package org.zadorozhn.human;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class PatienceDistributionTest {
+    public static final long VALID_PATIENCE = 1000;
+    public static final long VALID_MAX_PATIENCE = 2000;
+    public static final int NUMBER_OF_SAMPLES = 10_000;
+    public static final long SEED = 42;
+
+    @Test
+    void infinitePatienceTest() {
+        assertThat(PatienceDistribution.infinite().nextPatience(), equalTo(Human.INFINITE_PATIENCE));
+    }
+
+    @Test
+    void fixedPatienceTest() {
+        assertThat(PatienceDistribution.fixed(VALID_PATIENCE).nextPatience(), equalTo(VALID_PATIENCE));
+    }
+
+    @Test
+    void uniformPatienceTest() {
+        PatienceDistribution patienceDistribution = PatienceDistribution.uniform(VALID_PATIENCE,
+                VALID_MAX_PATIENCE, new Random(SEED));
+
+        LongStream.range(0, NUMBER_OF_SAMPLES).map(i -> patienceDistribution.nextPatience())
+                .forEach(i -> assertThat(i, both(greaterThanOrEqualTo(VALID_PATIENCE))
+                        .and(lessThanOrEqualTo(VALID_MAX_PATIENCE))));
+    }
+
+    @Test
+    void exponentialPatienceTest() {
+        PatienceDistribution patienceDistribution = PatienceDistribution.exponential(VALID_PATIENCE,
+                new Random(SEED));
+
+        double mean = LongStream.range(0, NUMBER_OF_SAMPLES)
+                .map(i -> patienceDistribution.nextPatience()).average().orElse(0);
+
+        assertThat(mean, closeTo(VALID_PATIENCE, VALID_PATIENCE * 0.05));
+    }
+
+    @Test
+    void createInvalidPatienceDistributionTest() {
+        assertThrows(IllegalArgumentException.class, () -> PatienceDistribution.fixed(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> PatienceDistribution.uniform(VALID_MAX_PATIENCE, VALID_PATIENCE, new Random()));
+        assertThrows(NullPointerException.class, () -> PatienceDistribution.exponential(VALID_PATIENCE, null));
+    }
+}
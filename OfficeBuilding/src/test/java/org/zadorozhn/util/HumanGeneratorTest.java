@@ -1,13 +1,20 @@
 package org.zadorozhn.util;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.zadorozhn.building.Building;
 import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Floor;
 import org.zadorozhn.building.state.Direction;
 import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -20,6 +27,11 @@ class HumanGeneratorTest {
     public static final int INVALID_FAST_SPEED = 2000;
     public static final int INVALID_SLOW_SPEED = 50;
     public static final int NUMBER_OF_FLOORS = 10;
+    public static final double FAST_ARRIVAL_RATE = 60_000;
+    public static final int NUMBER_OF_GENERATED_PEOPLE = 100;
+    public static final long SEED = 42;
+    public static final double SLOW_ARRIVAL_RATE = 60;
+    public static final long PERIOD = 3_600_000;
 
     static Object[][] getInvalidSpeedsData() {
         return new Object[][]{
@@ -105,6 +117,58 @@ class HumanGeneratorTest {
         assertThat(actualNumberOfHuman, equalTo(numberOfGeneratedHuman));
     }
 
+    @Test
+    void generateByTrafficProfileTest() {
+        int numberOfGeneratedHuman = 10;
+        Building building = Building.of(NUMBER_OF_FLOORS)
+                .setController(Controller.getEmpty());
+
+        HumanGenerator humanGenerator = HumanGenerator.of(building, TrafficProfile.interfloor(FAST_ARRIVAL_RATE));
+
+        IntStream.range(0, numberOfGeneratedHuman).forEach(i -> humanGenerator.generate());
+        int actualNumberOfHuman = building.getFloors().stream()
+                .mapToInt(i -> i.getNumberOfPeople(Direction.UP) + i.getNumberOfPeople(Direction.DOWN)).sum();
+
+        assertThat(actualNumberOfHuman, equalTo(numberOfGeneratedHuman));
+    }
+
+    @Test
+    void sameSeedGeneratesSameProfileTest() {
+        Building firstBuilding = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Building secondBuilding = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        HumanGenerator firstGenerator = HumanGenerator.of(firstBuilding, TrafficProfile.interfloor(FAST_ARRIVAL_RATE),
+                SEED);
+        HumanGenerator secondGenerator = HumanGenerator.of(secondBuilding,
+                TrafficProfile.interfloor(FAST_ARRIVAL_RATE), SEED);
+
+        IntStream.range(0, NUMBER_OF_GENERATED_PEOPLE).forEach(i -> {
+            firstGenerator.generate();
+            secondGenerator.generate();
+        });
+
+        for (int i = 0; i < NUMBER_OF_FLOORS; i++) {
+            assertThat(describeQueues(secondBuilding.getFloor(i)), equalTo(describeQueues(firstBuilding.getFloor(i))));
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void generateByTrafficProfileOnBuildingClockTest() {
+        VirtualClock clock = VirtualClock.getDefault();
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).setClock(clock);
+        HumanGenerator humanGenerator = HumanGenerator.of(building, TrafficProfile.lunch(SLOW_ARRIVAL_RATE, PERIOD),
+                SEED);
+
+        clock.setCurrentTimeMillis(3 * PERIOD / 4);
+        IntStream.range(0, NUMBER_OF_GENERATED_PEOPLE).forEach(i -> humanGenerator.generate());
+
+        Floor groundFloor = building.getFloor(Floor.GROUND_FLOOR);
+        int numberOfIncomingPeople = groundFloor.getNumberOfPeople(Direction.UP);
+
+        assertThat(clock.currentTimeMillis(), greaterThan(3 * PERIOD / 4));
+        assertThat(numberOfIncomingPeople, greaterThan(NUMBER_OF_GENERATED_PEOPLE / 2));
+    }
+
     @Test
     void turnOnTest() {
         Building building = Building.of(NUMBER_OF_FLOORS);
@@ -125,4 +189,10 @@ class HumanGeneratorTest {
 
         assertThat(humanGenerator.isRunning(), equalTo(false));
     }
-}
\ No newline at end of file
+
+    private static List<String> describeQueues(Floor floor) {
+        return Stream.concat(floor.getHumanQueue(Direction.UP).stream(), floor.getHumanQueue(Direction.DOWN).stream())
+                .map(human -> human.getWeight() + "->" + human.getCall().getTargetFloorNumber())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package org.zadorozhn.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class IdAllocatorTest {
+    public static final int VALID_BLOCK_SIZE = 4;
+    public static final int INVALID_BLOCK_SIZE = 0;
+    public static final int NUMBER_OF_IDS = 100_000;
+
+    @Test
+    void createInvalidIdAllocatorTest() {
+        assertThrows(IllegalArgumentException.class, () -> IdAllocator.of(INVALID_BLOCK_SIZE));
+    }
+
+    @Test
+    void nextTest() {
+        IdAllocator idAllocator = IdAllocator.of(VALID_BLOCK_SIZE);
+
+        IntStream.range(0, VALID_BLOCK_SIZE * 3)
+                .forEach(i -> assertThat(idAllocator.next(), equalTo(IdAllocator.FIRST_ID + i)));
+    }
+
+    @Test
+    void nextFromDifferentThreadsTest() {
+        IdAllocator idAllocator = IdAllocator.of(VALID_BLOCK_SIZE);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, NUMBER_OF_IDS).parallel().forEach(i -> ids.add(idAllocator.next()));
+
+        assertThat(ids.size(), equalTo(NUMBER_OF_IDS));
+    }
+
+    @Test
+    void reserveTest() {
+        IdAllocator idAllocator = IdAllocator.of(VALID_BLOCK_SIZE);
+
+        assertThat(idAllocator.next(), equalTo(IdAllocator.FIRST_ID));
+        assertThat(idAllocator.reserve(10), equalTo(IdAllocator.FIRST_ID + VALID_BLOCK_SIZE));
+        assertThat(idAllocator.reserve(10), equalTo(IdAllocator.FIRST_ID + VALID_BLOCK_SIZE + 10));
+        assertThat(idAllocator.next(), equalTo(IdAllocator.FIRST_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> idAllocator.reserve(-1));
+    }
+
+    @Test
+    void resetTest() {
+        IdAllocator idAllocator = IdAllocator.getDefault();
+
+        idAllocator.next();
+        idAllocator.next();
+        idAllocator.reset();
+
+        assertThat(idAllocator.next(), equalTo(IdAllocator.FIRST_ID));
+    }
+
+    @Test
+    void toUuidTest() {
+        UUID uuid = IdAllocator.toUuid(IdAllocator.FIRST_ID);
+
+        assertThat(uuid.getLeastSignificantBits(), equalTo(IdAllocator.FIRST_ID));
+        assertThat(IdAllocator.toUuid(IdAllocator.FIRST_ID), equalTo(uuid));
+    }
+}
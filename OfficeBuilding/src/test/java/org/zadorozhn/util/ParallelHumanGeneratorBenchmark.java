@@ -0,0 +1,35 @@
+package org.zadorozhn.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelHumanGeneratorBenchmark {
+    public static final int NUMBER_OF_FLOORS = 20;
+    public static final int NUMBER_OF_PEOPLE_PER_FLOOR = 10_000;
+    public static final long SEED = 42;
+
+    @Param({"1", "1024"})
+    private int batchSize;
+
+    private ParallelHumanGenerator parallelHumanGenerator;
+
+    @Setup(Level.Invocation)
+    public void init() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        parallelHumanGenerator = ParallelHumanGenerator.of(building, SEED, 60, 80, batchSize);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_FLOORS * NUMBER_OF_PEOPLE_PER_FLOOR)
+    public long generate() {
+        return parallelHumanGenerator.generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+    }
+}
@@ -0,0 +1,115 @@
+package org.zadorozhn.util;
+
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.OverflowPolicy;
+import org.zadorozhn.human.Human;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class ParallelHumanGeneratorTest {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int NUMBER_OF_PEOPLE_PER_FLOOR = 2_500;
+    public static final int BATCH_SIZE = 100;
+    public static final long SEED = 42;
+
+    @Test
+    void createInvalidParallelHumanGeneratorTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS);
+
+        assertThrows(NullPointerException.class, () -> ParallelHumanGenerator.of(null, SEED));
+        assertThrows(IllegalArgumentException.class, () -> ParallelHumanGenerator.of(building, SEED,
+                Human.MAX_WEIGHT, Human.MIN_WEIGHT, BATCH_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> ParallelHumanGenerator.of(building, SEED,
+                Human.MIN_WEIGHT, Human.MAX_WEIGHT, 0));
+    }
+
+    @Test
+    void generateTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        ParallelHumanGenerator parallelHumanGenerator = ParallelHumanGenerator.of(building, SEED,
+                Human.MIN_WEIGHT, Human.MAX_WEIGHT, BATCH_SIZE);
+
+        long numberOfAddedPeople = parallelHumanGenerator.generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+
+        assertThat(numberOfAddedPeople, equalTo((long) NUMBER_OF_FLOORS * NUMBER_OF_PEOPLE_PER_FLOOR));
+        building.getFloors().forEach(floor -> assertThat(floor.getQueueDepth(), equalTo(NUMBER_OF_PEOPLE_PER_FLOOR)));
+        assertThat(building.getFloor(Floor.GROUND_FLOOR).getNumberOfPeople(Direction.DOWN), equalTo(0));
+    }
+
+    @Test
+    void generateIsReproducibleTest() {
+        Building firstBuilding = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        Building secondBuilding = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+
+        ParallelHumanGenerator.of(firstBuilding, SEED, Human.MIN_WEIGHT, Human.MAX_WEIGHT, BATCH_SIZE)
+                .generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+        ParallelHumanGenerator.of(secondBuilding, SEED, Human.MIN_WEIGHT, Human.MAX_WEIGHT, BATCH_SIZE)
+                .generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+
+        for (int i = 0; i < NUMBER_OF_FLOORS; i++) {
+            assertThat(describeQueues(secondBuilding.getFloor(i)), equalTo(describeQueues(firstBuilding.getFloor(i))));
+        }
+    }
+
+    @Test
+    void generateReservesSsnRangePerFloorTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        ParallelHumanGenerator parallelHumanGenerator = ParallelHumanGenerator.of(building, SEED,
+                Human.MIN_WEIGHT, Human.MAX_WEIGHT, BATCH_SIZE);
+
+        parallelHumanGenerator.generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+        parallelHumanGenerator.generate(NUMBER_OF_PEOPLE_PER_FLOOR);
+
+        for (Floor floor : building.getFloors()) {
+            long firstSsn = IdAllocator.FIRST_ID + (long) floor.getFloorNumber() * NUMBER_OF_PEOPLE_PER_FLOOR;
+            long secondFirstSsn = firstSsn + (long) NUMBER_OF_FLOORS * NUMBER_OF_PEOPLE_PER_FLOOR;
+            List<Long> ssns = Stream.concat(floor.getHumanQueue(Direction.UP).stream(),
+                            floor.getHumanQueue(Direction.DOWN).stream())
+                    .map(Human::getSsn)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            assertThat(ssns, hasSize(2 * NUMBER_OF_PEOPLE_PER_FLOOR));
+            assertThat(ssns.get(0), equalTo(firstSsn));
+            assertThat(ssns.get(NUMBER_OF_PEOPLE_PER_FLOOR - 1), equalTo(firstSsn + NUMBER_OF_PEOPLE_PER_FLOOR - 1));
+            assertThat(ssns.get(NUMBER_OF_PEOPLE_PER_FLOOR), equalTo(secondFirstSsn));
+        }
+    }
+
+    @Test
+    void blockedGenerationDoesNotStallCommonPoolTest() throws Exception {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        building.getFloors().forEach(floor -> floor.setCapacity(1, OverflowPolicy.BLOCK));
+        ParallelHumanGenerator parallelHumanGenerator = ParallelHumanGenerator.of(building, SEED,
+                Human.MIN_WEIGHT, Human.MAX_WEIGHT, 1);
+
+        Thread generatorThread = new Thread(() -> parallelHumanGenerator.generate(2));
+        generatorThread.start();
+
+        assertThat(ForkJoinPool.commonPool().submit(() -> true).get(5, TimeUnit.SECONDS), equalTo(true));
+
+        building.getFloors().forEach(floor -> floor.setCapacity(Floor.UNLIMITED_CAPACITY, OverflowPolicy.BLOCK));
+        generatorThread.join(TimeUnit.SECONDS.toMillis(5));
+        parallelHumanGenerator.shutdown();
+
+        assertThat(generatorThread.isAlive(), equalTo(false));
+        building.getFloors().forEach(floor -> assertThat(floor.getQueueDepth(), equalTo(2)));
+    }
+
+    private static List<String> describeQueues(Floor floor) {
+        return Stream.concat(floor.getHumanQueue(Direction.UP).stream(), floor.getHumanQueue(Direction.DOWN).stream())
+                .map(human -> human.getSsn() + ":" + human.getWeight() + "->" + human.getCall().getTargetFloorNumber())
+                .collect(Collectors.toList());
+    }
+}
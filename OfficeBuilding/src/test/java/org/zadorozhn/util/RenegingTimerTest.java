@@ -0,0 +1,182 @@
+package org.zadorozhn.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Call;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class RenegingTimerTest {
+    public static final int VALID_TICK_DURATION = 10;
+    public static final int VALID_NUMBER_OF_SLOTS = 8;
+    public static final int VALID_FLOOR_NUMBER = 3;
+    public static final int VALID_WEIGHT = 60;
+    public static final long VALID_PATIENCE = 50;
+    public static final long LONG_PATIENCE = 10_000;
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static Building building;
+
+    @BeforeEach
+    void init() {
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+    }
+
+    @Test
+    void createInvalidRenegingTimerTest() {
+        assertThrows(IllegalArgumentException.class, () -> RenegingTimer.of(0, VALID_NUMBER_OF_SLOTS));
+        assertThrows(IllegalArgumentException.class, () -> RenegingTimer.of(VALID_TICK_DURATION, 0));
+    }
+
+    @Test
+    void scheduleHumanWithInfinitePatienceTest() {
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, building.getFloor(VALID_FLOOR_NUMBER));
+
+        assertThrows(IllegalArgumentException.class, () -> renegingTimer.schedule(human));
+    }
+
+    @Test
+    void advanceBeforeAbandonmentTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                human.getArrivalTime());
+
+        floor.addHuman(human);
+        renegingTimer.schedule(human);
+
+        assertThat(renegingTimer.advance(human.getAbandonmentTime() - 1), equalTo(0));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(human));
+    }
+
+    @Test
+    void advanceAfterAbandonmentTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                human.getArrivalTime());
+
+        floor.addHuman(human);
+        renegingTimer.schedule(human);
+
+        assertThat(renegingTimer.advance(human.getAbandonmentTime()), equalTo(1));
+        assertThat(floor.getHumanQueue(Direction.UP), is(empty()));
+        assertThat(building.getController().getAllCalls(), not(hasItem(Call.of(floor, Direction.UP))));
+        assertThat(renegingTimer.getNumberOfScheduledPeople(), equalTo(0));
+        assertThat(building.getStatisticsHolder().getNumberOfAbandonedPeople(), equalTo(1L));
+    }
+
+    @Test
+    void advanceAfterSeveralRevolutionsTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human patientHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, LONG_PATIENCE);
+        Human impatientHuman = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                patientHuman.getArrivalTime());
+
+        floor.addHuman(patientHuman);
+        floor.addHuman(impatientHuman);
+        renegingTimer.schedule(patientHuman);
+        renegingTimer.schedule(impatientHuman);
+
+        assertThat(renegingTimer.advance(impatientHuman.getAbandonmentTime()), equalTo(1));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(patientHuman));
+        assertThat(building.getController().getAllCalls(), hasItem(Call.of(floor, Direction.UP)));
+        assertThat(renegingTimer.getNumberOfScheduledPeople(), equalTo(1));
+    }
+
+    @Test
+    void advanceAfterBoardingTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                human.getArrivalTime());
+
+        floor.addHuman(human);
+        renegingTimer.schedule(human);
+        floor.pollFirstHuman(Direction.UP);
+
+        assertThat(renegingTimer.advance(human.getAbandonmentTime()), equalTo(0));
+        assertThat(building.getStatisticsHolder().getNumberOfAbandonedPeople(), equalTo(0L));
+    }
+
+    @Test
+    void advanceDropsBoardedHumanWithoutTouchingFloorTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                human.getArrivalTime());
+
+        floor.addHuman(human);
+        renegingTimer.schedule(human);
+        human.board(human.getArrivalTime());
+
+        assertThat(renegingTimer.advance(human.getAbandonmentTime()), equalTo(0));
+        assertThat(renegingTimer.getNumberOfScheduledPeople(), equalTo(0));
+        assertThat(floor.getHumanQueue(Direction.UP), contains(human));
+    }
+
+    @Test
+    void scheduleAfterDeadlineHasPassedTest() {
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+        Human human = Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, VALID_PATIENCE);
+        RenegingTimer renegingTimer = RenegingTimer.of(VALID_TICK_DURATION, VALID_NUMBER_OF_SLOTS,
+                human.getArrivalTime());
+
+        renegingTimer.advance(human.getAbandonmentTime() + VALID_TICK_DURATION);
+        floor.addHuman(human);
+        renegingTimer.schedule(human);
+
+        assertThat(renegingTimer.advance(human.getAbandonmentTime() + 2 * VALID_TICK_DURATION), equalTo(1));
+    }
+
+    @Test
+    void runTicksFromBuildingClockTest() throws InterruptedException {
+        VirtualClock clock = VirtualClock.getDefault();
+        building.setClock(clock);
+        RenegingTimer renegingTimer = building.getRenegingTimer();
+        Floor floor = building.getFloor(VALID_FLOOR_NUMBER);
+
+        floor.addHuman(Human.of(VALID_WEIGHT, VALID_FLOOR_NUMBER + 1, floor, LONG_PATIENCE));
+        building.startRenegingTimer();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (floor.getQueueDepth() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        building.stopRenegingTimer();
+
+        assertThat(renegingTimer.getClock(), sameInstance(clock));
+        assertThat(floor.getQueueDepth(), equalTo(0));
+        assertThat(clock.currentTimeMillis(), greaterThanOrEqualTo(LONG_PATIENCE));
+        assertThat(building.getStatisticsHolder().getNumberOfAbandonedPeople(), equalTo(1L));
+    }
+
+    @Test
+    void turnOnTest() {
+        RenegingTimer renegingTimer = RenegingTimer.getDefault();
+
+        renegingTimer.turnOn();
+
+        assertThat(renegingTimer.isRunning(), equalTo(true));
+    }
+
+    @Test
+    void turnOffTest() {
+        RenegingTimer renegingTimer = RenegingTimer.getDefault();
+
+        renegingTimer.turnOn();
+        renegingTimer.turnOff();
+
+        assertThat(renegingTimer.isRunning(), equalTo(false));
+    }
+}
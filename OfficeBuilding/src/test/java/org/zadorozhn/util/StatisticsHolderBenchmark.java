@@ -0,0 +1,32 @@
+package org.zadorozhn.util;
+
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class StatisticsHolderBenchmark {
+    private final AtomicLong sharedCounter = new AtomicLong();
+    private final StatisticsHolder statisticsHolder = StatisticsHolder.getEmpty();
+
+    @Benchmark
+    public long sharedAtomicCounter() {
+        return sharedCounter.incrementAndGet();
+    }
+
+    @Benchmark
+    public void stripedCounter() {
+        statisticsHolder.incrementNumberOfPassedFloors();
+    }
+
+    @Benchmark
+    public StatisticsSnapshot snapshot() {
+        return statisticsHolder.getSnapshot();
+    }
+}
@@ -8,77 +8,142 @@ import static org.hamcrest.Matchers.*;
 
 class StatisticsHolderTest {
 
+    private StatisticsHolder statisticsHolder;
+
     @BeforeEach
     void init() {
-        StatisticsHolder.getInstance().restart();
+        statisticsHolder = StatisticsHolder.getEmpty();
     }
 
     @Test
     void restartTest() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
-
         statisticsHolder.incrementNumberOfDeliveredPeople();
         statisticsHolder.incrementNumberOfGeneratedPeople();
         statisticsHolder.incrementNumberOfPassedFloors();
+        statisticsHolder.incrementNumberOfBalkedPeople();
+        statisticsHolder.incrementNumberOfDivertedPeople();
 
         statisticsHolder.restart();
 
-        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(0));
-        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(0));
-        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(0));
+        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(0L));
+        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(0L));
+        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(0L));
+        assertThat(statisticsHolder.getNumberOfBalkedPeople(), equalTo(0L));
+        assertThat(statisticsHolder.getNumberOfDivertedPeople(), equalTo(0L));
     }
 
     @Test
     void incrementNumberOfDeliveredPeople() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
-
         statisticsHolder.incrementNumberOfDeliveredPeople();
         statisticsHolder.incrementNumberOfDeliveredPeople();
         statisticsHolder.incrementNumberOfDeliveredPeople();
 
-        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(3));
+        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(3L));
     }
 
     @Test
     void incrementNumberOfGeneratedPeople() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
-
         statisticsHolder.incrementNumberOfGeneratedPeople();
         statisticsHolder.incrementNumberOfGeneratedPeople();
         statisticsHolder.incrementNumberOfGeneratedPeople();
 
-        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(3));
+        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(3L));
     }
 
     @Test
-    void incrementNumberOfPassedFloors() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
+    void addNumberOfGeneratedPeople() {
+        statisticsHolder.addNumberOfGeneratedPeople(5);
+        statisticsHolder.incrementNumberOfGeneratedPeople();
+
+        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(6L));
+    }
 
+    @Test
+    void incrementNumberOfPassedFloors() {
         statisticsHolder.incrementNumberOfPassedFloors();
         statisticsHolder.incrementNumberOfPassedFloors();
         statisticsHolder.incrementNumberOfPassedFloors();
 
-        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(3));
+        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(3L));
     }
 
     @Test
-    void getNumberOfDeliveredPeople() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
+    void incrementNumberOfBalkedPeople() {
+        statisticsHolder.incrementNumberOfBalkedPeople();
+        statisticsHolder.incrementNumberOfBalkedPeople();
 
-        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(0));
+        assertThat(statisticsHolder.getNumberOfBalkedPeople(), equalTo(2L));
     }
 
     @Test
-    void getNumberOfGeneratedPeople() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
+    void incrementNumberOfDivertedPeople() {
+        statisticsHolder.incrementNumberOfDivertedPeople();
+        statisticsHolder.incrementNumberOfDivertedPeople();
+
+        assertThat(statisticsHolder.getNumberOfDivertedPeople(), equalTo(2L));
+    }
+
+    @Test
+    void getAbandonmentRate() {
+        statisticsHolder.incrementNumberOfGeneratedPeople();
+        statisticsHolder.incrementNumberOfGeneratedPeople();
+        statisticsHolder.incrementNumberOfAbandonedPeople();
+
+        assertThat(statisticsHolder.getNumberOfAbandonedPeople(), equalTo(1L));
+        assertThat(statisticsHolder.getAbandonmentRate(), closeTo(0.5, 1e-9));
+    }
 
-        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(0));
+    @Test
+    void getNumberOfDeliveredPeople() {
+        assertThat(statisticsHolder.getNumberOfDeliveredPeople(), equalTo(0L));
+    }
+
+    @Test
+    void getNumberOfGeneratedPeople() {
+        assertThat(statisticsHolder.getNumberOfGeneratedPeople(), equalTo(0L));
     }
 
     @Test
     void getNumberOfPassedFloors() {
-        StatisticsHolder statisticsHolder = StatisticsHolder.getInstance();
+        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(0L));
+    }
+
+    @Test
+    void getSnapshotTest() {
+        statisticsHolder.incrementNumberOfDeliveredPeople();
+        statisticsHolder.addNumberOfGeneratedPeople(4);
+        statisticsHolder.incrementNumberOfPassedFloors();
+        statisticsHolder.incrementNumberOfAbandonedPeople();
+
+        assertThat(statisticsHolder.getSnapshot(), equalTo(StatisticsSnapshot.of(1, 4, 1, 0, 0, 1)));
+    }
+
+    @Test
+    void separateHoldersTest() {
+        StatisticsHolder anotherStatisticsHolder = StatisticsHolder.getEmpty();
 
-        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo(0));
+        statisticsHolder.incrementNumberOfDeliveredPeople();
+
+        assertThat(anotherStatisticsHolder.getNumberOfDeliveredPeople(), equalTo(0L));
+    }
+
+    @Test
+    void concurrentIncrementTest() throws InterruptedException {
+        int numberOfThreads = 8;
+        int numberOfIncrements = 10_000;
+        Thread[] threads = new Thread[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < numberOfIncrements; j++) {
+                    statisticsHolder.incrementNumberOfPassedFloors();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(statisticsHolder.getNumberOfPassedFloors(), equalTo((long) numberOfThreads * numberOfIncrements));
     }
-}
\ No newline at end of file
+}
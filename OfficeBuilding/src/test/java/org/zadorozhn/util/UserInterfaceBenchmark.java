@@ -0,0 +1,63 @@
+package org.zadorozhn.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.human.Human;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserInterfaceBenchmark {
+    public static final int NUMBER_OF_FLOORS = 60;
+    public static final int NUMBER_OF_ELEVATORS = 20;
+    public static final int ELEVATOR_CAPACITY = 800;
+    public static final int RENDERING_SPEED = 1000;
+
+    private UserInterface userInterface;
+    private Building building;
+    private int step;
+
+    @Setup
+    public void init() {
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        for (int i = 0; i < NUMBER_OF_ELEVATORS; i++) {
+            building.addElevator(Elevator.of(ELEVATOR_CAPACITY, i * NUMBER_OF_FLOORS / NUMBER_OF_ELEVATORS));
+        }
+
+        PrintStream out = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+        userInterface = UserInterface.of(building, RENDERING_SPEED, out);
+    }
+
+    @Benchmark
+    public long renderUnchangedFrame() {
+        userInterface.printBuilding();
+
+        return userInterface.getRenderer().getNumberOfChangedCells();
+    }
+
+    @Benchmark
+    public long renderChangingFrame() {
+        int floorNumber = step++ % (NUMBER_OF_FLOORS - 1);
+        building.getFloor(floorNumber).addHuman(Human.of(Human.MIN_WEIGHT, NUMBER_OF_FLOORS - 1,
+                building.getFloor(floorNumber)));
+        userInterface.printBuilding();
+
+        return userInterface.getRenderer().getNumberOfChangedCells();
+    }
+}
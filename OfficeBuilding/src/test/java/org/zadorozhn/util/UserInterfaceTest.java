@@ -2,6 +2,12 @@ package org.zadorozhn.util;
 
 import org.junit.jupiter.api.Test;
 import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.human.Human;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -60,4 +66,32 @@ class UserInterfaceTest {
 
         assertThat(userInterface.isRunning(), equalTo(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    void printBuildingTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty())
+                .addElevator(Elevator.of(Human.MAX_WEIGHT)).addElevator(Elevator.of(Human.MAX_WEIGHT));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        UserInterface userInterface = UserInterface.of(building, VALID_SPEED_OF_RENDERING, new PrintStream(output));
+
+        userInterface.printBuilding();
+        String firstFrame = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        output.reset();
+
+        assertThat(firstFrame, containsString("Delivered: 0"));
+        assertThat(firstFrame, containsString("9 UP) 0"));
+        assertThat(firstFrame, containsString("0 State: STOP; Direction: NONE; Floor: 0"));
+
+        userInterface.printBuilding();
+
+        assertThat(output.size(), equalTo(0));
+        assertThat(userInterface.getRenderer().getNumberOfFrames(), equalTo(2L));
+
+        building.getFloor(3).addHuman(Human.of(Human.MIN_WEIGHT, 5, building.getFloor(3)));
+        userInterface.printBuilding();
+        String thirdFrame = new String(output.toByteArray(), StandardCharsets.UTF_8);
+
+        assertThat(thirdFrame, not(startsWith("\u001B[H")));
+        assertThat(thirdFrame.length(), lessThan(firstFrame.length() / 4));
+    }
+}
@@ -0,0 +1,51 @@
+package org.zadorozhn.util.clock;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class VirtualClockTest {
+    public static final long START_TIME = 1_000;
+    public static final long SLEEP_TIME = 500;
+
+    @Test
+    void createInvalidVirtualClockTest() {
+        assertThrows(IllegalArgumentException.class, () -> VirtualClock.of(-1));
+    }
+
+    @Test
+    void sleepAdvancesTimeTest() {
+        VirtualClock virtualClock = VirtualClock.of(START_TIME);
+
+        virtualClock.sleep(SLEEP_TIME);
+
+        assertThat(virtualClock.currentTimeMillis(), equalTo(START_TIME + SLEEP_TIME));
+    }
+
+    @Test
+    void setCurrentTimeTest() {
+        VirtualClock virtualClock = VirtualClock.getDefault();
+
+        virtualClock.setCurrentTimeMillis(START_TIME);
+
+        assertThat(virtualClock.currentTimeMillis(), equalTo(START_TIME));
+        assertThrows(IllegalArgumentException.class, () -> virtualClock.setCurrentTimeMillis(-1));
+    }
+
+    @Test
+    void setCurrentTimeBackwardsTest() {
+        VirtualClock virtualClock = VirtualClock.of(START_TIME);
+
+        assertThrows(IllegalArgumentException.class, () -> virtualClock.setCurrentTimeMillis(START_TIME - 1));
+        assertThat(virtualClock.currentTimeMillis(), equalTo(START_TIME));
+    }
+
+    @Test
+    void systemClockTest() {
+        long timeBefore = System.currentTimeMillis();
+
+        assertThat(Clock.system().currentTimeMillis(), greaterThanOrEqualTo(timeBefore));
+    }
+}
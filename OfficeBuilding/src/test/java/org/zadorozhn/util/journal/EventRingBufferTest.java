@@ -0,0 +1,113 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class EventRingBufferTest {
+    public static final int CAPACITY = 8;
+    public static final int CONCURRENT_CAPACITY = 1024;
+    public static final int NUMBER_OF_THREADS = 4;
+    public static final int NUMBER_OF_EVENTS_PER_THREAD = 2_000;
+
+    @Test
+    void createInvalidRingBufferTest() {
+        assertThrows(IllegalArgumentException.class, () -> EventRingBuffer.of(0));
+        assertThrows(IllegalArgumentException.class, () -> EventRingBuffer.of(6));
+    }
+
+    @Test
+    void offerAndDrainTest() {
+        EventRingBuffer ringBuffer = EventRingBuffer.of(CAPACITY);
+        ByteBuffer buffer = ByteBuffer.allocate(CAPACITY * JournalEvent.RECORD_SIZE);
+
+        assertTrue(ringBuffer.offer(EventType.BOARDING, 1_000, 2, 3, 42, -5));
+        assertThat(ringBuffer.size(), equalTo(1));
+        assertThat(ringBuffer.drainTo(buffer), equalTo(1));
+        assertThat(ringBuffer.size(), equalTo(0));
+
+        buffer.flip();
+        assertThat(buffer.getLong(), equalTo(1_000L));
+        assertThat(buffer.getLong(), equalTo(42L));
+        assertThat(buffer.getLong(), equalTo(2L));
+        assertThat(buffer.getInt(), equalTo(3));
+        assertThat(buffer.getInt(), equalTo(EventType.BOARDING.getCode()));
+        assertThat(buffer.getInt(), equalTo(-5));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void offerToFullRingBufferTest() {
+        EventRingBuffer ringBuffer = EventRingBuffer.of(CAPACITY);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(ringBuffer.offer(EventType.ARRIVAL, i, EventJournal.NO_ELEVATOR, 0, i, 1));
+        }
+
+        assertFalse(ringBuffer.offer(EventType.ARRIVAL, CAPACITY, EventJournal.NO_ELEVATOR, 0, CAPACITY, 1));
+        assertThat(ringBuffer.drainTo(ByteBuffer.allocate(JournalEvent.RECORD_SIZE)), equalTo(1));
+        assertTrue(ringBuffer.offer(EventType.ARRIVAL, CAPACITY, EventJournal.NO_ELEVATOR, 0, CAPACITY, 1));
+    }
+
+    @Test
+    void drainIntoSmallBufferTest() {
+        EventRingBuffer ringBuffer = EventRingBuffer.of(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            ringBuffer.offer(EventType.PASSED_FLOOR, i, 1, i, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 * JournalEvent.RECORD_SIZE + 1);
+
+        assertThat(ringBuffer.drainTo(buffer), equalTo(3));
+        assertThat(buffer.remaining(), equalTo(1));
+        assertThat(ringBuffer.size(), equalTo(CAPACITY - 3));
+    }
+
+    @Test
+    @Timeout(10)
+    void concurrentOfferTest() throws InterruptedException {
+        EventRingBuffer ringBuffer = EventRingBuffer.of(CONCURRENT_CAPACITY);
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        CountDownLatch latch = new CountDownLatch(NUMBER_OF_THREADS);
+
+        for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+            long firstPassengerId = (long) i * NUMBER_OF_EVENTS_PER_THREAD;
+            executorService.submit(() -> {
+                for (long j = 0; j < NUMBER_OF_EVENTS_PER_THREAD; j++) {
+                    while (!ringBuffer.offer(EventType.ARRIVAL, j, EventJournal.NO_ELEVATOR, 0,
+                            firstPassengerId + j, 1)) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+
+        Set<Long> passengerIds = new HashSet<>();
+        ByteBuffer buffer = ByteBuffer.allocate(CONCURRENT_CAPACITY * JournalEvent.RECORD_SIZE);
+        while (passengerIds.size() < NUMBER_OF_THREADS * NUMBER_OF_EVENTS_PER_THREAD) {
+            buffer.clear();
+            ringBuffer.drainTo(buffer);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                buffer.getLong();
+                assertTrue(passengerIds.add(buffer.getLong()));
+                buffer.position(buffer.position() + Long.BYTES + 3 * Integer.BYTES);
+            }
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertThat(ringBuffer.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,78 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class FloorHeatmapTest {
+    public static final int NUMBER_OF_FLOORS = 4;
+
+    @Test
+    void createInvalidHeatmapTest() {
+        assertThrows(IllegalArgumentException.class, () -> FloorHeatmap.of(0));
+    }
+
+    @Test
+    void recordOutOfRangeFloorTest() {
+        FloorHeatmap heatmap = FloorHeatmap.of(NUMBER_OF_FLOORS);
+
+        heatmap.record(EventType.ARRIVAL, NUMBER_OF_FLOORS);
+        heatmap.recordTrip(0, -1);
+        heatmap.recordWaitTime(NUMBER_OF_FLOORS, 1_000);
+
+        assertThat(heatmap.getNumberOfSkippedRecords(), equalTo(3L));
+        assertThat(heatmap.getCounts(EventType.ARRIVAL), equalTo(new long[NUMBER_OF_FLOORS]));
+        assertThrows(IllegalArgumentException.class, () -> heatmap.recordWaitTime(0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> heatmap.getCount(EventType.ARRIVAL, NUMBER_OF_FLOORS));
+    }
+
+    @Test
+    void recordCountsAndTripsTest() {
+        FloorHeatmap heatmap = FloorHeatmap.of(NUMBER_OF_FLOORS);
+
+        heatmap.record(EventType.ARRIVAL, 0);
+        heatmap.record(EventType.ARRIVAL, 0);
+        heatmap.record(EventType.ARRIVAL, 3);
+        heatmap.recordTrip(0, 3);
+        heatmap.recordTrip(0, 3);
+        heatmap.recordTrip(3, 1);
+
+        assertThat(heatmap.getCount(EventType.ARRIVAL, 0), equalTo(2L));
+        assertThat(heatmap.getCounts(EventType.ARRIVAL), equalTo(new long[]{2, 0, 0, 1}));
+        assertThat(heatmap.getCounts(EventType.BALK), equalTo(new long[NUMBER_OF_FLOORS]));
+        assertThat(heatmap.getNumberOfTrips(0, 3), equalTo(2L));
+        assertThat(heatmap.getNumberOfTrips(3, 1), equalTo(1L));
+        assertThat(heatmap.getNumberOfTrips(1, 3), equalTo(0L));
+    }
+
+    @Test
+    void getAverageWaitTimeTest() {
+        FloorHeatmap heatmap = FloorHeatmap.of(NUMBER_OF_FLOORS);
+
+        heatmap.record(EventType.BOARDING, 2);
+        heatmap.recordWaitTime(2, 1_000);
+        heatmap.record(EventType.BOARDING, 2);
+        heatmap.recordWaitTime(2, 3_000);
+
+        assertThat(heatmap.getAverageWaitTime(2), closeTo(2_000, 1e-9));
+        assertThat(heatmap.getAverageWaitTime(1), closeTo(0, 1e-9));
+    }
+
+    @Test
+    void renderTest() {
+        FloorHeatmap heatmap = FloorHeatmap.of(NUMBER_OF_FLOORS);
+        heatmap.record(EventType.DOOR_OPEN, 1);
+        heatmap.record(EventType.DOOR_OPEN, 1);
+        heatmap.record(EventType.DOOR_OPEN, 3);
+
+        String[] lines = heatmap.render(EventType.DOOR_OPEN).split("\n");
+
+        assertThat(lines.length, equalTo(NUMBER_OF_FLOORS));
+        assertThat(lines[0], startsWith("  3 | "));
+        assertThat(lines[0], endsWith(" 1"));
+        assertThat(lines[2], containsString(new String(new char[FloorHeatmap.BAR_WIDTH]).replace('\0', '#')));
+        assertThat(lines[3], equalTo("  0 |  0"));
+    }
+}
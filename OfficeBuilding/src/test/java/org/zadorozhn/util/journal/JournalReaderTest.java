@@ -0,0 +1,104 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class JournalReaderTest {
+    public static final int SEGMENT_SIZE = 4 * JournalEvent.RECORD_SIZE;
+    public static final int BUFFER_CAPACITY = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void createInvalidReaderTest() throws IOException {
+        Path file = Files.createFile(directory.resolve("file"));
+
+        assertThrows(IllegalArgumentException.class, () -> JournalReader.of(file));
+        assertThrows(NullPointerException.class, () -> JournalReader.of(null));
+    }
+
+    @Test
+    void readEmptyDirectoryTest() throws IOException {
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            assertFalse(journalReader.advance());
+            assertFalse(journalReader.hasNext());
+            assertThrows(NoSuchElementException.class, journalReader::next);
+        }
+    }
+
+    @Test
+    void advanceThroughSegmentsTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY);
+        for (int i = 0; i < 10; i++) {
+            journal.record(EventType.BOARDING, i, 1, i, i + 100, i * 2);
+        }
+        journal.close();
+
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            assertThat(journalReader.getSegmentPaths(), hasSize(3));
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(journalReader.advance());
+                assertThat(journalReader.getType(), equalTo(EventType.BOARDING));
+                assertThat(journalReader.getTime(), equalTo((long) i));
+                assertThat(journalReader.getElevatorId(), equalTo(1L));
+                assertThat(journalReader.getFloorNumber(), equalTo(i));
+                assertThat(journalReader.getPassengerId(), equalTo(i + 100L));
+                assertThat(journalReader.getValue(), equalTo(i * 2));
+            }
+            assertFalse(journalReader.advance());
+        }
+    }
+
+    @Test
+    void readWideElevatorIdTest() throws IOException {
+        long elevatorId = Integer.MAX_VALUE + 1L;
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY);
+        journal.record(EventType.DOOR_OPEN, 1, elevatorId, 3, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        journal.close();
+
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            assertThat(journalReader.next(), equalTo(JournalEvent.of(EventType.DOOR_OPEN, 1, elevatorId, 3,
+                    EventJournal.NO_PASSENGER, EventJournal.NO_VALUE)));
+        }
+    }
+
+    @Test
+    void mixIteratorAndCursorTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY);
+        journal.record(EventType.ARRIVAL, 1, EventJournal.NO_ELEVATOR, 0, 1, 5);
+        journal.record(EventType.ARRIVAL, 2, EventJournal.NO_ELEVATOR, 0, 2, 5);
+        journal.close();
+
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            assertTrue(journalReader.hasNext());
+            assertTrue(journalReader.advance());
+            assertThat(journalReader.getPassengerId(), equalTo(1L));
+            assertThat(journalReader.next(), equalTo(JournalEvent.of(EventType.ARRIVAL, 2,
+                    EventJournal.NO_ELEVATOR, 0, 2, 5)));
+            assertFalse(journalReader.hasNext());
+        }
+    }
+
+    @Test
+    void stopAtUnwrittenRecordsTest() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SEGMENT_SIZE);
+        buffer.putLong(7).putLong(3).putLong(2).putInt(4).putInt(EventType.DOOR_OPEN.getCode()).putInt(0);
+        Files.write(MappedEventJournal.getSegmentPath(directory, 0), buffer.array());
+
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            assertThat(journalReader.next(), equalTo(JournalEvent.of(EventType.DOOR_OPEN, 7, 2, 4, 3, 0)));
+            assertFalse(journalReader.hasNext());
+        }
+    }
+}
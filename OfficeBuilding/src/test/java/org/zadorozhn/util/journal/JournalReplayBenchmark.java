@@ -0,0 +1,79 @@
+package org.zadorozhn.util.journal;
+
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalReplayBenchmark {
+    public static final int NUMBER_OF_FLOORS = 20;
+    public static final int NUMBER_OF_ELEVATORS = 4;
+    public static final int NUMBER_OF_PASSENGERS = 200_000;
+    public static final int EVENTS_PER_PASSENGER = 10;
+    public static final int NUMBER_OF_EVENTS = NUMBER_OF_PASSENGERS * EVENTS_PER_PASSENGER;
+
+    private Path directory;
+
+    @Setup
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("journal");
+        MappedEventJournal journal = MappedEventJournal.of(directory).start();
+
+        for (int i = 0; i < NUMBER_OF_PASSENGERS; i++) {
+            long time = i * 100L;
+            int elevatorId = i % NUMBER_OF_ELEVATORS;
+            int startFloorNumber = i % NUMBER_OF_FLOORS;
+            int targetFloorNumber = (i + 7) % NUMBER_OF_FLOORS;
+
+            journal.record(EventType.ARRIVAL, time, EventJournal.NO_ELEVATOR, startFloorNumber, i, targetFloorNumber);
+            journal.record(EventType.DOOR_OPEN, time + 10, elevatorId, startFloorNumber, EventJournal.NO_PASSENGER,
+                    EventJournal.NO_VALUE);
+            journal.record(EventType.BOARDING, time + 20, elevatorId, startFloorNumber, i, 20);
+            journal.record(EventType.DOOR_CLOSE, time + 30, elevatorId, startFloorNumber, EventJournal.NO_PASSENGER,
+                    EventJournal.NO_VALUE);
+            for (int j = 0; j < EVENTS_PER_PASSENGER - 6; j++) {
+                journal.record(EventType.PASSED_FLOOR, time + 40 + j, elevatorId, j % NUMBER_OF_FLOORS,
+                        EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+            }
+            journal.record(EventType.DOOR_OPEN, time + 80, elevatorId, targetFloorNumber, EventJournal.NO_PASSENGER,
+                    EventJournal.NO_VALUE);
+            journal.record(EventType.ALIGHTING, time + 90, elevatorId, targetFloorNumber, i, 70);
+        }
+        journal.close();
+    }
+
+    @TearDown
+    public void destroy() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_EVENTS)
+    public long replay() throws IOException {
+        return JournalReplay.of(NUMBER_OF_FLOORS).replay(directory).getNumberOfReplayedEvents();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_EVENTS)
+    public long read() throws IOException {
+        long sum = 0;
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            while (journalReader.advance()) {
+                sum += journalReader.getTime();
+            }
+        }
+
+        return sum;
+    }
+}
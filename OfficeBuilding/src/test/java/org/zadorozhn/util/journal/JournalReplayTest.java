@@ -0,0 +1,169 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.util.StatisticsSnapshot;
+import org.zadorozhn.util.latency.LatencyHistogram;
+import org.zadorozhn.util.latency.LatencyStatistics;
+import org.zadorozhn.util.latency.LatencyType;
+import org.zadorozhn.util.simulation.Simulation;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class JournalReplayTest {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int ELEVATOR_ID = 1;
+    public static final int ELEVATOR_CAPACITY = 800;
+    public static final double ARRIVAL_RATE = 6;
+    public static final long DURATION = 1_800_000;
+    public static final long SEED = 42;
+
+    @TempDir
+    Path directory;
+
+    void writeSampleJournal() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory);
+
+        journal.record(EventType.ARRIVAL, 100, EventJournal.NO_ELEVATOR, 0, 1, 3);
+        journal.record(EventType.ARRIVAL, 200, EventJournal.NO_ELEVATOR, 5, 2, 0);
+        journal.record(EventType.BALK, 250, EventJournal.NO_ELEVATOR, 5, 3, 1);
+        journal.record(EventType.DOOR_OPEN, 300, ELEVATOR_ID, 0, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        journal.record(EventType.BOARDING, 600, ELEVATOR_ID, 0, 1, 500);
+        journal.record(EventType.DOOR_CLOSE, 700, ELEVATOR_ID, 0, EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+        for (int i = 1; i <= 3; i++) {
+            journal.record(EventType.PASSED_FLOOR, 700 + i * 100, ELEVATOR_ID, i, EventJournal.NO_PASSENGER,
+                    EventJournal.NO_VALUE);
+        }
+        journal.record(EventType.ALIGHTING, 1_100, ELEVATOR_ID, 3, 1, 500);
+        journal.record(EventType.ABANDONMENT, 2_000, EventJournal.NO_ELEVATOR, 5, 2, 0);
+        journal.record(EventType.ALIGHTING, 2_500, ELEVATOR_ID, 7, 99, 100);
+
+        journal.close();
+    }
+
+    @Test
+    void createInvalidReplayTest() {
+        assertThrows(IllegalArgumentException.class, () -> JournalReplay.of(0));
+        assertThrows(NullPointerException.class, () -> JournalReplay.of(NUMBER_OF_FLOORS).addListener(null));
+    }
+
+    @Test
+    void replayCountersTest() throws IOException {
+        writeSampleJournal();
+
+        JournalReplay journalReplay = JournalReplay.of(NUMBER_OF_FLOORS).replay(directory);
+
+        assertThat(journalReplay.getNumberOfReplayedEvents(), equalTo(12L));
+        assertThat(journalReplay.getNumberOfUnmatchedEvents(), equalTo(1L));
+        assertThat(journalReplay.getNumberOfPassengersInFlight(), equalTo(0));
+        assertThat(journalReplay.getStartTime(), equalTo(100L));
+        assertThat(journalReplay.getEndTime(), equalTo(2_500L));
+        assertThat(journalReplay.getNumberOfEvents(EventType.PASSED_FLOOR), equalTo(3L));
+        assertThat(journalReplay.getStatisticsSnapshot(), equalTo(StatisticsSnapshot.of(2, 3, 3, 1, 0, 1)));
+    }
+
+    @Test
+    void replayUnorderedJournalWithUnknownFloorsTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory);
+        journal.record(EventType.ARRIVAL, 500, EventJournal.NO_ELEVATOR, 0, 1, NUMBER_OF_FLOORS);
+        journal.record(EventType.BOARDING, 100, ELEVATOR_ID, NUMBER_OF_FLOORS, 1, 50);
+        journal.record(EventType.ALIGHTING, 900, ELEVATOR_ID, 2, 1, 300);
+        journal.record(EventType.PASSED_FLOOR, 300, ELEVATOR_ID, 1, EventJournal.NO_PASSENGER,
+                EventJournal.NO_VALUE);
+        journal.close();
+
+        JournalReplay journalReplay = JournalReplay.of(NUMBER_OF_FLOORS).replay(directory);
+
+        assertThat(journalReplay.getNumberOfReplayedEvents(), equalTo(4L));
+        assertThat(journalReplay.getStartTime(), equalTo(100L));
+        assertThat(journalReplay.getEndTime(), equalTo(900L));
+        assertThat(journalReplay.getNumberOfUnmatchedEvents(), equalTo(1L));
+        assertThat(journalReplay.getHeatmap().getNumberOfSkippedRecords(), equalTo(3L));
+        assertThat(journalReplay.getLatencyStatistics().getHistogram(LatencyType.WAIT).getCount(), equalTo(0L));
+    }
+
+    @Test
+    void replayLatenciesTest() throws IOException {
+        writeSampleJournal();
+
+        LatencyStatistics latencyStatistics = JournalReplay.of(NUMBER_OF_FLOORS).replay(directory)
+                .getLatencyStatistics();
+
+        LatencyHistogram waitHistogram = latencyStatistics.getHistogram(LatencyType.WAIT);
+        assertThat(waitHistogram.getCount(), equalTo(1L));
+        assertThat(waitHistogram.getSum(), equalTo(500L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, 0).getCount(), equalTo(1L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, Direction.UP).getCount(), equalTo(1L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.RIDE).getSum(), equalTo(500L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.JOURNEY).getSum(), equalTo(1_000L));
+    }
+
+    @Test
+    void replayHeatmapTest() throws IOException {
+        writeSampleJournal();
+
+        FloorHeatmap heatmap = JournalReplay.of(NUMBER_OF_FLOORS).replay(directory).getHeatmap();
+
+        assertThat(heatmap.getNumberOfTrips(0, 3), equalTo(1L));
+        assertThat(heatmap.getNumberOfTrips(5, 0), equalTo(1L));
+        assertThat(heatmap.getCount(EventType.ABANDONMENT, 5), equalTo(1L));
+        assertThat(heatmap.getCount(EventType.DOOR_OPEN, 0), equalTo(1L));
+        assertThat(heatmap.getAverageWaitTime(0), closeTo(500, 1e-9));
+    }
+
+    @Test
+    void replayWithListenerTest() throws IOException {
+        writeSampleJournal();
+        AtomicLong numberOfElevatorEvents = new AtomicLong();
+
+        JournalReplay.of(NUMBER_OF_FLOORS)
+                .addListener(event -> {
+                    if (event.getElevatorId() == ELEVATOR_ID) {
+                        numberOfElevatorEvents.incrementAndGet();
+                    }
+                })
+                .replay(directory);
+
+        assertThat(numberOfElevatorEvents.get(), equalTo(8L));
+    }
+
+    @Test
+    void replayMatchesLiveStatisticsTest() throws IOException {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        building.addElevator(Elevator.of(ELEVATOR_CAPACITY)).addElevator(Elevator.of(ELEVATOR_CAPACITY));
+        MappedEventJournal journal = MappedEventJournal.of(directory).start();
+        building.setJournal(journal);
+
+        Simulation simulation = Simulation.of(building, TrafficProfile.interfloor(ARRIVAL_RATE), SEED).run(DURATION);
+        journal.close();
+
+        JournalReplay journalReplay = JournalReplay.of(NUMBER_OF_FLOORS).replay(directory);
+        StatisticsSnapshot expected = building.getStatisticsSnapshot();
+        StatisticsSnapshot actual = journalReplay.getStatisticsSnapshot();
+
+        assertThat(actual.getNumberOfGeneratedPeople(), equalTo(simulation.getNumberOfGeneratedPeople()));
+        assertThat(actual.getNumberOfDeliveredPeople(), equalTo(expected.getNumberOfDeliveredPeople()));
+        assertThat(actual.getNumberOfPassedFloors(), equalTo(expected.getNumberOfPassedFloors()));
+        assertThat(actual.getNumberOfAbandonedPeople(), equalTo(expected.getNumberOfAbandonedPeople()));
+        assertThat(journalReplay.getNumberOfUnmatchedEvents(), equalTo(0L));
+
+        for (LatencyType latencyType : LatencyType.values()) {
+            LatencyHistogram expectedHistogram = building.getLatencyStatistics().getHistogram(latencyType);
+            LatencyHistogram actualHistogram = journalReplay.getLatencyStatistics().getHistogram(latencyType);
+
+            assertThat(actualHistogram.getCount(), equalTo(expectedHistogram.getCount()));
+            assertThat(actualHistogram.getSum(), equalTo(expectedHistogram.getSum()));
+            assertThat(actualHistogram.getValueAtPercentile(99), equalTo(expectedHistogram.getValueAtPercentile(99)));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.util.simulation.Simulation;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class MappedEventJournalTest {
+    public static final int SEGMENT_SIZE = 16 * JournalEvent.RECORD_SIZE;
+    public static final int BUFFER_CAPACITY = 8;
+    public static final int LARGE_BUFFER_CAPACITY = 512;
+    public static final int NUMBER_OF_BURST_EVENTS = 100_000;
+    public static final int NUMBER_OF_EVENTS = 100;
+    public static final int NUMBER_OF_THREADS = 4;
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int ELEVATOR_CAPACITY = 800;
+    public static final double ARRIVAL_RATE = 6;
+    public static final long DURATION = 600_000;
+    public static final long SEED = 42;
+
+    @TempDir
+    Path directory;
+
+    static List<JournalEvent> readAll(Path directory) throws IOException {
+        List<JournalEvent> events = new ArrayList<>();
+        try (JournalReader journalReader = JournalReader.of(directory)) {
+            journalReader.forEachRemaining(events::add);
+        }
+
+        return events;
+    }
+
+    @Test
+    void createInvalidJournalTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedEventJournal.of(directory, JournalEvent.RECORD_SIZE + 1, BUFFER_CAPACITY));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY + 1));
+        assertThrows(NullPointerException.class,
+                () -> MappedEventJournal.of(null, SEGMENT_SIZE, BUFFER_CAPACITY));
+    }
+
+    @Test
+    void recordAndRollSegmentsTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, LARGE_BUFFER_CAPACITY).start();
+        List<JournalEvent> expectedEvents = new ArrayList<>();
+
+        for (int i = 0; i < NUMBER_OF_EVENTS; i++) {
+            JournalEvent event = JournalEvent.of(EventType.values()[i % EventType.values().length], i * 10L,
+                    i % 3, i % NUMBER_OF_FLOORS, i, -i);
+            journal.record(event.getType(), event.getTime(), event.getElevatorId(), event.getFloorNumber(),
+                    event.getPassengerId(), event.getValue());
+            expectedEvents.add(event);
+        }
+        journal.close();
+
+        assertFalse(journal.isRunning());
+        assertThat(journal.getNumberOfWrittenEvents(), equalTo((long) NUMBER_OF_EVENTS));
+        assertThat(journal.getNumberOfDroppedEvents(), equalTo(0L));
+        assertThat(journal.getNumberOfSegments(), equalTo(7));
+        assertThat(Files.size(MappedEventJournal.getSegmentPath(directory, 0)), equalTo((long) SEGMENT_SIZE));
+        assertThat(Files.size(MappedEventJournal.getSegmentPath(directory, 6)),
+                equalTo(4L * JournalEvent.RECORD_SIZE));
+        assertThat(readAll(directory), equalTo(expectedEvents));
+    }
+
+    @Test
+    void recordWithoutWriterTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY);
+
+        for (int i = 0; i < BUFFER_CAPACITY + 2; i++) {
+            journal.record(EventType.ARRIVAL, i, EventJournal.NO_ELEVATOR, 0, i, 1);
+        }
+        journal.close();
+
+        assertThat(journal.getNumberOfWrittenEvents(), equalTo((long) BUFFER_CAPACITY));
+        assertThat(journal.getNumberOfDroppedEvents(), equalTo(2L));
+        assertThat(readAll(directory), hasSize(BUFFER_CAPACITY));
+    }
+
+    @Test
+    void closeTwiceTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY).start();
+        journal.record(EventType.ARRIVAL, 1, EventJournal.NO_ELEVATOR, 0, 1, 1);
+
+        journal.close();
+        journal.close();
+
+        assertTrue(journal.isClosed());
+        assertThat(journal.getNumberOfWrittenEvents(), equalTo(1L));
+        assertThat(readAll(directory), hasSize(1));
+        assertThrows(IllegalStateException.class, journal::start);
+    }
+
+    @Test
+    void recordAfterCloseTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY).start();
+        journal.record(EventType.ARRIVAL, 1, EventJournal.NO_ELEVATOR, 0, 1, 1);
+        journal.close();
+
+        journal.record(EventType.ARRIVAL, 2, EventJournal.NO_ELEVATOR, 0, 2, 1);
+
+        assertThat(journal.getNumberOfWrittenEvents(), equalTo(1L));
+        assertThat(journal.getNumberOfDroppedEvents(), equalTo(1L));
+        assertThat(readAll(directory), hasSize(1));
+    }
+
+    @Test
+    @Timeout(10)
+    void recordIntoFullBufferDoesNotWaitForWriterTest() throws IOException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, BUFFER_CAPACITY).start();
+
+        for (int i = 0; i < NUMBER_OF_BURST_EVENTS; i++) {
+            journal.record(EventType.PASSED_FLOOR, i, 1, i % NUMBER_OF_FLOORS, EventJournal.NO_PASSENGER,
+                    EventJournal.NO_VALUE);
+        }
+        journal.close();
+
+        assertThat(journal.getNumberOfDroppedEvents(), greaterThan(0L));
+        assertThat(journal.getNumberOfWrittenEvents() + journal.getNumberOfDroppedEvents(),
+                equalTo((long) NUMBER_OF_BURST_EVENTS));
+    }
+
+    @Test
+    void concurrentRecordTest() throws IOException, InterruptedException {
+        MappedEventJournal journal = MappedEventJournal.of(directory, SEGMENT_SIZE, LARGE_BUFFER_CAPACITY).start();
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        CountDownLatch latch = new CountDownLatch(NUMBER_OF_THREADS);
+
+        for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+            int elevatorId = i;
+            executorService.submit(() -> {
+                for (int j = 0; j < NUMBER_OF_EVENTS; j++) {
+                    journal.record(EventType.PASSED_FLOOR, j, elevatorId, j % NUMBER_OF_FLOORS,
+                            EventJournal.NO_PASSENGER, EventJournal.NO_VALUE);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        journal.close();
+
+        List<JournalEvent> events = readAll(directory);
+        assertThat(events, hasSize(NUMBER_OF_THREADS * NUMBER_OF_EVENTS));
+        for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+            int elevatorId = i;
+            assertThat(events.stream().filter(event -> event.getElevatorId() == elevatorId)
+                    .mapToLong(JournalEvent::getTime).toArray(),
+                    equalTo(events.stream().filter(event -> event.getElevatorId() == elevatorId)
+                            .mapToLong(JournalEvent::getTime).sorted().toArray()));
+        }
+    }
+
+    @Test
+    void recordSimulationTest() throws IOException {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        building.addElevator(Elevator.of(ELEVATOR_CAPACITY)).addElevator(Elevator.of(ELEVATOR_CAPACITY));
+        MappedEventJournal journal = MappedEventJournal.of(directory).start();
+        building.setJournal(journal);
+
+        Simulation simulation = Simulation.of(building, TrafficProfile.interfloor(ARRIVAL_RATE), SEED).run(DURATION);
+        journal.close();
+
+        Map<EventType, Long> numberOfEvents = new EnumMap<>(EventType.class);
+        readAll(directory).forEach(event -> numberOfEvents.merge(event.getType(), 1L, Long::sum));
+
+        assertThat(numberOfEvents.get(EventType.ARRIVAL), equalTo(simulation.getNumberOfGeneratedPeople()));
+        assertThat(numberOfEvents.get(EventType.ALIGHTING), equalTo(simulation.getNumberOfDeliveredPeople()));
+        assertThat(numberOfEvents.get(EventType.PASSED_FLOOR), equalTo(simulation.getNumberOfPassedFloors()));
+        assertThat(numberOfEvents.get(EventType.BOARDING), greaterThanOrEqualTo(simulation.getNumberOfDeliveredPeople()));
+    }
+}
@@ -0,0 +1,79 @@
+package org.zadorozhn.util.journal;
+
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class PassengerTableTest {
+    public static final int SMALL_CAPACITY = 4;
+    public static final int NUMBER_OF_OPERATIONS = 100_000;
+    public static final int KEY_RANGE = 2_000;
+    public static final long SEED = 42;
+    public static final long MISSING = -1;
+
+    @Test
+    void createInvalidTableTest() {
+        assertThrows(IllegalArgumentException.class, () -> PassengerTable.of(0));
+        assertThrows(IllegalArgumentException.class, () -> PassengerTable.of(3));
+        assertThrows(IllegalArgumentException.class, () -> PassengerTable.getEmpty().put(Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    void putGetAndRemoveTest() {
+        PassengerTable passengerTable = PassengerTable.of(SMALL_CAPACITY);
+
+        passengerTable.put(1, 10);
+        passengerTable.put(2, 20);
+        passengerTable.put(1, 11);
+
+        assertThat(passengerTable.size(), equalTo(2));
+        assertThat(passengerTable.get(1, MISSING), equalTo(11L));
+        assertThat(passengerTable.remove(2, MISSING), equalTo(20L));
+        assertThat(passengerTable.remove(2, MISSING), equalTo(MISSING));
+        assertThat(passengerTable.get(3, MISSING), equalTo(MISSING));
+        assertThat(passengerTable.size(), equalTo(1));
+    }
+
+    @Test
+    void growBeyondInitialCapacityTest() {
+        PassengerTable passengerTable = PassengerTable.of(SMALL_CAPACITY);
+
+        for (long i = 0; i < KEY_RANGE; i++) {
+            passengerTable.put(i, i * 2);
+        }
+
+        assertThat(passengerTable.size(), equalTo(KEY_RANGE));
+        for (long i = 0; i < KEY_RANGE; i++) {
+            assertThat(passengerTable.get(i, MISSING), equalTo(i * 2));
+        }
+    }
+
+    @Test
+    void matchHashMapUnderRandomOperationsTest() {
+        PassengerTable passengerTable = PassengerTable.of(SMALL_CAPACITY);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < NUMBER_OF_OPERATIONS; i++) {
+            long key = random.nextInt(KEY_RANGE);
+            if (random.nextBoolean()) {
+                passengerTable.put(key, i);
+                expected.put(key, (long) i);
+            } else {
+                assertThat(passengerTable.remove(key, MISSING), equalTo(expected.getOrDefault(key, MISSING)));
+                expected.remove(key);
+            }
+        }
+
+        assertThat(passengerTable.size(), equalTo(expected.size()));
+        expected.forEach((key, value) -> assertThat(passengerTable.get(key, MISSING), equalTo(value)));
+
+        passengerTable.clear();
+        assertThat(passengerTable.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,162 @@
+package org.zadorozhn.util.latency;
+
+import org.junit.jupiter.api.Test;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class LatencyHistogramTest {
+    public static final int NUMBER_OF_VALUES = 10_000;
+    public static final double RELATIVE_ERROR = 1.0 / LatencyHistogram.SUB_BUCKET_COUNT;
+    public static final int NUMBER_OF_THREADS = 4;
+
+    @Test
+    void emptyHistogramTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        assertThat(latencyHistogram.getCount(), equalTo(0L));
+        assertThat(latencyHistogram.getValueAtPercentile(99), equalTo(0L));
+        assertThat(latencyHistogram.getMax(), equalTo(0L));
+    }
+
+    @Test
+    void recordInvalidValueTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        assertThrows(IllegalArgumentException.class, () -> latencyHistogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> latencyHistogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    void smallValuesAreExactTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        LongStream.rangeClosed(1, 10).forEach(latencyHistogram::record);
+
+        assertThat(latencyHistogram.getValueAtPercentile(50), equalTo(5L));
+        assertThat(latencyHistogram.getValueAtPercentile(90), equalTo(9L));
+        assertThat(latencyHistogram.getValueAtPercentile(100), equalTo(10L));
+    }
+
+    @Test
+    void percentilesWithinRelativeErrorTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        LongStream.rangeClosed(1, NUMBER_OF_VALUES).map(i -> i * 100).forEach(latencyHistogram::record);
+
+        assertThat((double) latencyHistogram.getValueAtPercentile(50), closeTo(500_000, 500_000 * RELATIVE_ERROR));
+        assertThat((double) latencyHistogram.getValueAtPercentile(99), closeTo(990_000, 990_000 * RELATIVE_ERROR));
+        assertThat(latencyHistogram.getMax(), equalTo(1_000_000L));
+    }
+
+    @Test
+    void bucketsCoverWholeRangeTest() {
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE), equalTo(LatencyHistogram.NUMBER_OF_BUCKETS - 1));
+        assertThat(LatencyHistogram.highestValueOf(LatencyHistogram.NUMBER_OF_BUCKETS - 1), equalTo(Long.MAX_VALUE));
+
+        LongStream.of(0, 1, 31, 32, 63, 64, 65, 1_000, 123_456_789)
+                .forEach(i -> assertThat(LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(i)),
+                        greaterThanOrEqualTo(i)));
+    }
+
+    @Test
+    void concurrentRecordTest() throws InterruptedException {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        Thread[] threads = IntStream.range(0, NUMBER_OF_THREADS)
+                .mapToObj(i -> new Thread(() -> LongStream.range(0, NUMBER_OF_VALUES).forEach(latencyHistogram::record)))
+                .toArray(Thread[]::new);
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(latencyHistogram.getCount(), equalTo((long) NUMBER_OF_THREADS * NUMBER_OF_VALUES));
+    }
+
+    @Test
+    void resetTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        latencyHistogram.record(1_000);
+
+        latencyHistogram.reset();
+
+        assertThat(latencyHistogram.getCount(), equalTo(0L));
+        assertThat(latencyHistogram.getSum(), equalTo(0L));
+        assertThat(latencyHistogram.getMax(), equalTo(0L));
+    }
+
+    @Test
+    void getSumTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        latencyHistogram.record(100);
+        latencyHistogram.record(250);
+
+        assertThat(latencyHistogram.getSum(), equalTo(350L));
+    }
+
+    @Test
+    void getCumulativeCountsTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        latencyHistogram.record(10);
+        latencyHistogram.record(99);
+        latencyHistogram.record(5_000);
+        latencyHistogram.record(1_000_000);
+
+        long[] cumulativeCounts = latencyHistogram.getCumulativeCounts(new long[]{10, 101, 1_007, 10_239});
+
+        assertThat(cumulativeCounts[0], equalTo(1L));
+        assertThat(cumulativeCounts[1], equalTo(2L));
+        assertThat(cumulativeCounts[2], equalTo(2L));
+        assertThat(cumulativeCounts[3], equalTo(3L));
+    }
+
+    @Test
+    void getCumulativeCountsAtBoundTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        latencyHistogram.record(100);
+        latencyHistogram.record(101);
+        latencyHistogram.record(102);
+        long[] upperBounds = {LatencyHistogram.alignUpperBound(100), LatencyHistogram.alignUpperBound(250)};
+
+        long[] cumulativeCounts = latencyHistogram.getCumulativeCounts(upperBounds);
+
+        assertThat(upperBounds[0], equalTo(101L));
+        assertThat(cumulativeCounts[0], equalTo(2L));
+        assertThat(cumulativeCounts[1], equalTo(3L));
+    }
+
+    @Test
+    void getCumulativeCountsWithUnalignedBoundsTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        assertThrows(IllegalArgumentException.class, () -> latencyHistogram.getCumulativeCounts(new long[]{100}));
+    }
+
+    @Test
+    void getSnapshotTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+        latencyHistogram.record(100);
+        latencyHistogram.record(250);
+
+        HistogramSnapshot snapshot = latencyHistogram.getSnapshot();
+        latencyHistogram.record(500);
+
+        assertThat(snapshot.getCount(), equalTo(2L));
+        assertThat(snapshot.getSum(), equalTo(350L));
+        assertThat(snapshot.getCumulativeCounts(new long[]{LatencyHistogram.alignUpperBound(500)})[0],
+                equalTo(2L));
+    }
+
+    @Test
+    void getCumulativeCountsWithUnsortedBoundsTest() {
+        LatencyHistogram latencyHistogram = LatencyHistogram.getEmpty();
+
+        assertThrows(IllegalArgumentException.class, () -> latencyHistogram.getCumulativeCounts(new long[]{10, 5}));
+    }
+}
@@ -0,0 +1,74 @@
+package org.zadorozhn.util.latency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class LatencyStatisticsTest {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int START_FLOOR_NUMBER = 3;
+    public static final int WEIGHT = 60;
+
+    private Building building;
+    private LatencyStatistics latencyStatistics;
+
+    @BeforeEach
+    void init() {
+        building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).setClock(VirtualClock.getDefault());
+        latencyStatistics = LatencyStatistics.of(NUMBER_OF_FLOORS);
+    }
+
+    @Test
+    void recordUndeliveredHumanTest() {
+        Human human = Human.of(WEIGHT, Floor.GROUND_FLOOR, building.getFloor(START_FLOOR_NUMBER));
+
+        assertThrows(IllegalArgumentException.class, () -> latencyStatistics.record(human));
+    }
+
+    @Test
+    void recordByFloorAndDirectionTest() {
+        Human human = Human.of(WEIGHT, Floor.GROUND_FLOOR, building.getFloor(START_FLOOR_NUMBER));
+        human.board(100);
+        human.alight(300);
+
+        latencyStatistics.record(human);
+
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT).getMax(), equalTo(100L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.RIDE).getMax(), equalTo(200L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.JOURNEY).getMax(), equalTo(300L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, START_FLOOR_NUMBER).getCount(), equalTo(1L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, Floor.GROUND_FLOOR).getCount(), equalTo(0L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, Direction.DOWN).getCount(), equalTo(1L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.WAIT, Direction.UP).getCount(), equalTo(0L));
+    }
+
+    @Test
+    void getInvalidHistogramTest() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> latencyStatistics.getHistogram(LatencyType.WAIT, NUMBER_OF_FLOORS));
+        assertThrows(IllegalArgumentException.class,
+                () -> latencyStatistics.getHistogram(LatencyType.WAIT, Direction.NONE));
+    }
+
+    @Test
+    void resetTest() {
+        Human human = Human.of(WEIGHT, Floor.GROUND_FLOOR, building.getFloor(START_FLOOR_NUMBER));
+        human.board(100);
+        human.alight(300);
+        latencyStatistics.record(human);
+
+        latencyStatistics.reset();
+
+        assertThat(latencyStatistics.getHistogram(LatencyType.JOURNEY).getCount(), equalTo(0L));
+        assertThat(latencyStatistics.getHistogram(LatencyType.JOURNEY, START_FLOOR_NUMBER).getCount(), equalTo(0L));
+    }
+}
@@ -0,0 +1,203 @@
+package org.zadorozhn.util.lock;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class InstrumentedLockTest {
+    public static final String NAME = "test";
+    public static final long HOLD_TIME = 50;
+
+    @Test
+    void recordAcquisitionTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+
+        instrumentedLock.lock();
+        instrumentedLock.unlock();
+        instrumentedLock.lock();
+        instrumentedLock.unlock();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(2L));
+        assertThat(lockStatistics.getNumberOfContendedAcquisitions().get(), equalTo(0L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getCount(), equalTo(2L));
+    }
+
+    @Test
+    void recordReentrantAcquisitionOnceTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+
+        instrumentedLock.lock();
+        instrumentedLock.lock();
+        instrumentedLock.unlock();
+
+        assertTrue(instrumentedLock.isHeldByCurrentThread());
+
+        instrumentedLock.unlock();
+
+        assertThat(instrumentedLock.getLockStatistics().getNumberOfAcquisitions().get(), equalTo(1L));
+        assertThat(instrumentedLock.getLockStatistics().getHoldTimeHistogram().getCount(), equalTo(1L));
+    }
+
+    @SneakyThrows
+    @Test
+    void recordContendedAcquisitionTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        CountDownLatch isLocked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            instrumentedLock.lock();
+            isLocked.countDown();
+            try {
+                TimeUnit.MILLISECONDS.sleep(HOLD_TIME);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                instrumentedLock.unlock();
+            }
+        });
+
+        holder.start();
+        isLocked.await();
+        instrumentedLock.lock();
+        instrumentedLock.unlock();
+        holder.join();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getNumberOfContendedAcquisitions().get(), equalTo(1L));
+        assertThat(lockStatistics.getTotalWaitTimeNanos(), greaterThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+        assertThat(lockStatistics.getHoldTimeHistogram().getMax(),
+                greaterThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+    }
+
+    @Test
+    void tryLockTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(false, LockStatistics.of(NAME));
+
+        assertTrue(instrumentedLock.tryLock());
+        instrumentedLock.unlock();
+
+        assertThat(instrumentedLock.getLockStatistics().getNumberOfAcquisitions().get(), equalTo(1L));
+    }
+
+    @SneakyThrows
+    @Test
+    void excludeConditionWaitFromHoldTimeTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        Condition condition = instrumentedLock.newCondition();
+
+        instrumentedLock.lock();
+        condition.await(HOLD_TIME, TimeUnit.MILLISECONDS);
+        instrumentedLock.unlock();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getHoldTimeHistogram().getCount(), equalTo(2L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getMax(),
+                lessThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void recordReentrantConditionWaitOnceTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        Condition condition = instrumentedLock.newCondition();
+
+        instrumentedLock.lock();
+        instrumentedLock.lock();
+        condition.await(HOLD_TIME, TimeUnit.MILLISECONDS);
+        instrumentedLock.unlock();
+        instrumentedLock.unlock();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(1L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getCount(), equalTo(1L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getMax(),
+                lessThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void recordConditionReacquisitionTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        Condition condition = instrumentedLock.newCondition();
+
+        instrumentedLock.lock();
+        condition.await(HOLD_TIME, TimeUnit.MILLISECONDS);
+        instrumentedLock.unlock();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(2L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getCount(), equalTo(2L));
+        assertThat(lockStatistics.getTotalWaitTimeNanos(), lessThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void recordBlockedTimeAfterSignalTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        Condition condition = instrumentedLock.newCondition();
+        CountDownLatch isWaiting = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            instrumentedLock.lock();
+            isWaiting.countDown();
+            condition.awaitUninterruptibly();
+            instrumentedLock.unlock();
+        });
+
+        waiter.start();
+        isWaiting.await();
+        instrumentedLock.lock();
+        condition.signal();
+        TimeUnit.MILLISECONDS.sleep(HOLD_TIME);
+        instrumentedLock.unlock();
+        waiter.join();
+
+        LockStatistics lockStatistics = instrumentedLock.getLockStatistics();
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(3L));
+        assertThat(lockStatistics.getHoldTimeHistogram().getCount(), equalTo(3L));
+        assertThat(lockStatistics.getNumberOfContendedAcquisitions().get(), greaterThanOrEqualTo(1L));
+        assertThat(lockStatistics.getTotalWaitTimeNanos(), greaterThan(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME / 2)));
+    }
+
+    @SneakyThrows
+    @Test
+    void keepReentrantHoldTimeAcrossOtherAcquisitionsTest() {
+        InstrumentedLock instrumentedLock = InstrumentedLock.of(true, LockStatistics.of(NAME));
+        Condition condition = instrumentedLock.newCondition();
+        CountDownLatch isWaiting = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            instrumentedLock.lock();
+            instrumentedLock.lock();
+            try {
+                TimeUnit.MILLISECONDS.sleep(HOLD_TIME);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            isWaiting.countDown();
+            condition.awaitUninterruptibly();
+            instrumentedLock.unlock();
+            instrumentedLock.unlock();
+        });
+
+        waiter.start();
+        isWaiting.await();
+        instrumentedLock.lock();
+        condition.signal();
+        instrumentedLock.unlock();
+        waiter.join();
+
+        assertThat(instrumentedLock.getLockStatistics().getHoldTimeHistogram().getMax(),
+                greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(HOLD_TIME)));
+    }
+}
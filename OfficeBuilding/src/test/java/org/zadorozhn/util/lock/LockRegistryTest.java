@@ -0,0 +1,80 @@
+package org.zadorozhn.util.lock;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class LockRegistryTest {
+    public static final String FIRST_NAME = "first";
+    public static final String SECOND_NAME = "second";
+
+    @Test
+    void newLockWhenDisabledTest() {
+        LockRegistry lockRegistry = LockRegistry.of(false);
+
+        Lock lock = lockRegistry.newLock(FIRST_NAME, true);
+
+        assertThat(lock, instanceOf(ReentrantLock.class));
+        assertThat(lockRegistry.getRanking(), is(empty()));
+    }
+
+    @Test
+    void newLockWhenEnabledTest() {
+        LockRegistry lockRegistry = LockRegistry.of(true);
+
+        Lock lock = lockRegistry.newLock(FIRST_NAME, true);
+
+        assertThat(lock, instanceOf(InstrumentedLock.class));
+        assertThat(lockRegistry.getRanking(), contains(hasProperty("name", equalTo(FIRST_NAME))));
+    }
+
+    @Test
+    void shareStatisticsByNameTest() {
+        LockRegistry lockRegistry = LockRegistry.of(true);
+        Lock firstLock = lockRegistry.newLock(FIRST_NAME, true);
+        Lock secondLock = lockRegistry.newLock(FIRST_NAME, true);
+
+        firstLock.lock();
+        firstLock.unlock();
+        secondLock.lock();
+        secondLock.unlock();
+
+        assertThat(lockRegistry.getRanking().size(), equalTo(1));
+        assertThat(lockRegistry.getRanking().get(0).getNumberOfAcquisitions().get(), equalTo(2L));
+    }
+
+    @Test
+    void rankByTotalWaitTimeTest() {
+        LockRegistry lockRegistry = LockRegistry.of(true);
+        InstrumentedLock firstLock = (InstrumentedLock) lockRegistry.newLock(FIRST_NAME, true);
+        InstrumentedLock secondLock = (InstrumentedLock) lockRegistry.newLock(SECOND_NAME, true);
+
+        firstLock.getLockStatistics().recordAcquisition(100, true);
+        secondLock.getLockStatistics().recordAcquisition(10_000, true);
+
+        assertThat(lockRegistry.getRanking(), contains(hasProperty("name", equalTo(SECOND_NAME)),
+                hasProperty("name", equalTo(FIRST_NAME))));
+        assertThat(lockRegistry.getReport(), startsWith(SECOND_NAME));
+    }
+
+    @Test
+    void resetTest() {
+        LockRegistry lockRegistry = LockRegistry.of(true);
+        Lock lock = lockRegistry.newLock(FIRST_NAME, true);
+        lock.lock();
+        lock.unlock();
+
+        lockRegistry.reset();
+
+        assertThat(lockRegistry.getRanking().get(0).getNumberOfAcquisitions().get(), equalTo(0L));
+    }
+
+    @Test
+    void getDefaultTest() {
+        assertThat(LockRegistry.getDefault(), sameInstance(LockRegistry.getDefault()));
+    }
+}
@@ -0,0 +1,50 @@
+package org.zadorozhn.util.lock;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class LockStatisticsTest {
+    public static final String NAME = "test";
+
+    @Test
+    void createInvalidLockStatisticsTest() {
+        assertThrows(NullPointerException.class, () -> LockStatistics.of(null));
+    }
+
+    @Test
+    void recordTest() {
+        LockStatistics lockStatistics = LockStatistics.of(NAME);
+
+        lockStatistics.recordAcquisition(0, false);
+        lockStatistics.recordAcquisition(1_000, true);
+        lockStatistics.recordRelease(500);
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(2L));
+        assertThat(lockStatistics.getNumberOfContendedAcquisitions().get(), equalTo(1L));
+        assertThat(lockStatistics.getTotalWaitTimeNanos(), equalTo(1_000L));
+        assertThat(lockStatistics.getTotalHoldTimeNanos(), equalTo(500L));
+    }
+
+    @Test
+    void resetTest() {
+        LockStatistics lockStatistics = LockStatistics.of(NAME);
+        lockStatistics.recordAcquisition(1_000, true);
+        lockStatistics.recordRelease(500);
+
+        lockStatistics.reset();
+
+        assertThat(lockStatistics.getNumberOfAcquisitions().get(), equalTo(0L));
+        assertThat(lockStatistics.getTotalWaitTimeNanos(), equalTo(0L));
+        assertThat(lockStatistics.getTotalHoldTimeNanos(), equalTo(0L));
+    }
+
+    @Test
+    void toStringTest() {
+        LockStatistics lockStatistics = LockStatistics.of(NAME);
+
+        assertThat(lockStatistics.toString(), startsWith(NAME + ": acquisitions: 0"));
+    }
+}
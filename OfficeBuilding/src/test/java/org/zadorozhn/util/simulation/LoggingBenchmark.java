@@ -0,0 +1,64 @@
+package org.zadorozhn.util.simulation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+    public static final String LOGGER_NAME = "org.zadorozhn";
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int NUMBER_OF_ELEVATORS = 3;
+    public static final int ELEVATOR_CAPACITY = 800;
+    public static final double ARRIVAL_RATE = 6;
+    public static final long DURATION = 600_000;
+    public static final long SEED = 42;
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    private String level;
+
+    private Logger logger;
+    private Level previousLevel;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Floors {
+        public long passedFloors;
+    }
+
+    @Setup
+    public void init() {
+        logger = (Logger) LoggerFactory.getLogger(LOGGER_NAME);
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.toLevel(level));
+    }
+
+    @TearDown
+    public void restore() {
+        logger.setLevel(previousLevel);
+    }
+
+    @Benchmark
+    public long simulate(Floors floors) {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        for (int i = 0; i < NUMBER_OF_ELEVATORS; i++) {
+            building.addElevator(Elevator.of(ELEVATOR_CAPACITY));
+        }
+
+        Simulation simulation = Simulation.of(building, TrafficProfile.interfloor(ARRIVAL_RATE), SEED).run(DURATION);
+        floors.passedFloors += simulation.getNumberOfPassedFloors();
+
+        return simulation.getNumberOfDeliveredPeople();
+    }
+}
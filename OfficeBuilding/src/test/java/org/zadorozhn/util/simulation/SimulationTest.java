@@ -0,0 +1,154 @@
+package org.zadorozhn.util.simulation;
+
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.state.OverflowPolicy;
+import org.zadorozhn.human.PatienceDistribution;
+import org.zadorozhn.util.traffic.TrafficProfile;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class SimulationTest {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int NUMBER_OF_ELEVATORS = 3;
+    public static final int ELEVATOR_CAPACITY = 800;
+    public static final double ARRIVAL_RATE = 6;
+    public static final long DURATION = 3_600_000;
+    public static final long SEED = 42;
+    public static final long ANOTHER_SEED = 7;
+    public static final double BUSY_ARRIVAL_RATE = 60;
+    public static final long PATIENCE = 5_000;
+    public static final long SHORT_DURATION = 600_000;
+
+    static Simulation createSimulation(long seed) {
+        return createSimulation(seed, NUMBER_OF_ELEVATORS, ARRIVAL_RATE);
+    }
+
+    static Simulation createSimulation(long seed, int numberOfElevators, double arrivalRate) {
+        Building building = Building.of(NUMBER_OF_FLOORS);
+        for (int i = 0; i < numberOfElevators; i++) {
+            building.addElevator(Elevator.of(ELEVATOR_CAPACITY));
+        }
+        building.setController(Controller.getEmpty());
+
+        return Simulation.of(building, TrafficProfile.interfloor(arrivalRate), seed);
+    }
+
+    @Test
+    void createInvalidSimulationTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Simulation.of(building, TrafficProfile.interfloor(ARRIVAL_RATE), SEED));
+        assertThrows(NullPointerException.class,
+                () -> Simulation.of(Building.of(NUMBER_OF_FLOORS), TrafficProfile.interfloor(ARRIVAL_RATE), SEED));
+    }
+
+    @Test
+    void runDeliversPeopleTest() {
+        Simulation simulation = createSimulation(SEED).run(DURATION);
+
+        assertThat(simulation.getCurrentTime(), greaterThanOrEqualTo(DURATION));
+        assertThat(simulation.getNumberOfGeneratedPeople(), greaterThan(0L));
+        assertThat(simulation.getNumberOfDeliveredPeople(), greaterThan(0L));
+        assertThat(simulation.getNumberOfDeliveredPeople(), lessThanOrEqualTo(simulation.getNumberOfGeneratedPeople()));
+        assertThat(simulation.getNumberOfPassedFloors(), greaterThan(0L));
+    }
+
+    @Test
+    void runStopsAtEndTimeTest() {
+        Simulation simulation = createSimulation(SEED, 1, BUSY_ARRIVAL_RATE).run(SHORT_DURATION);
+
+        assertThat(simulation.getCurrentTime(), equalTo(SHORT_DURATION));
+        assertThat(simulation.run(SHORT_DURATION).getCurrentTime(), equalTo(2 * SHORT_DURATION));
+    }
+
+    @Test
+    void throughputGrowsWithNumberOfElevatorsTest() {
+        Simulation oneElevatorSimulation = createSimulation(SEED, 1, BUSY_ARRIVAL_RATE).run(SHORT_DURATION);
+        Simulation twoElevatorSimulation = createSimulation(SEED, 2, BUSY_ARRIVAL_RATE).run(SHORT_DURATION);
+        Simulation fourElevatorSimulation = createSimulation(SEED, 4, BUSY_ARRIVAL_RATE).run(SHORT_DURATION);
+
+        assertThat(twoElevatorSimulation.getNumberOfDeliveredPeople(),
+                greaterThan(oneElevatorSimulation.getNumberOfDeliveredPeople()));
+        assertThat(fourElevatorSimulation.getNumberOfDeliveredPeople(),
+                greaterThan(twoElevatorSimulation.getNumberOfDeliveredPeople()));
+        assertThat(twoElevatorSimulation.getNumberOfPassedFloors(),
+                greaterThan(oneElevatorSimulation.getNumberOfPassedFloors()));
+        assertThat(fourElevatorSimulation.getNumberOfPassedFloors(),
+                greaterThan(twoElevatorSimulation.getNumberOfPassedFloors()));
+    }
+
+    @Test
+    void sameSeedYieldsSameRunTest() {
+        Simulation firstSimulation = createSimulation(SEED).run(DURATION);
+        Simulation secondSimulation = createSimulation(SEED).run(DURATION);
+
+        assertThat(secondSimulation.getEventLog(), equalTo(firstSimulation.getEventLog()));
+        assertThat(secondSimulation.getNumberOfDeliveredPeople(), equalTo(firstSimulation.getNumberOfDeliveredPeople()));
+        assertThat(secondSimulation.getNumberOfPassedFloors(), equalTo(firstSimulation.getNumberOfPassedFloors()));
+    }
+
+    @Test
+    void differentSeedsYieldDifferentRunsTest() {
+        Simulation firstSimulation = createSimulation(SEED).run(DURATION);
+        Simulation secondSimulation = createSimulation(ANOTHER_SEED).run(DURATION);
+
+        assertThat(secondSimulation.getEventLog(), not(equalTo(firstSimulation.getEventLog())));
+    }
+
+    @Test
+    void runInStagesTest() {
+        Simulation firstSimulation = createSimulation(SEED).run(DURATION);
+        Simulation secondSimulation = createSimulation(SEED).run(DURATION / 2).run(DURATION / 2);
+
+        assertThat(secondSimulation.getEventLog(), equalTo(firstSimulation.getEventLog()));
+    }
+
+    @Test
+    void virtualTimeNeverGoesBackwardsTest() {
+        List<String> eventLog = createSimulation(SEED).run(DURATION).getEventLog();
+
+        long previousTime = 0;
+        for (String event : eventLog) {
+            long time = Long.parseLong(event.substring(0, event.indexOf(' ')));
+            assertThat(time, greaterThanOrEqualTo(previousTime));
+            previousTime = time;
+        }
+    }
+
+    @Test
+    void impatientPeopleRenegeInVirtualTimeTest() {
+        Simulation firstSimulation = createImpatientSimulation(SEED).run(DURATION);
+        Simulation secondSimulation = createImpatientSimulation(SEED).run(DURATION);
+
+        assertThat(firstSimulation.getNumberOfAbandonedPeople(), greaterThan(0L));
+        assertThat(secondSimulation.getNumberOfAbandonedPeople(),
+                equalTo(firstSimulation.getNumberOfAbandonedPeople()));
+        assertThat(secondSimulation.getEventLog(), equalTo(firstSimulation.getEventLog()));
+    }
+
+    @Test
+    void blockingFloorIsRejectedTest() {
+        Building building = Building.of(NUMBER_OF_FLOORS).addElevator(Elevator.of(ELEVATOR_CAPACITY))
+                .setController(Controller.getEmpty());
+        building.getFloor(0).setCapacity(1, OverflowPolicy.BLOCK);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Simulation.of(building, TrafficProfile.interfloor(ARRIVAL_RATE), SEED));
+    }
+
+    static Simulation createImpatientSimulation(long seed) {
+        Building building = Building.of(NUMBER_OF_FLOORS).addElevator(Elevator.of(ELEVATOR_CAPACITY))
+                .setController(Controller.getEmpty());
+        Simulation simulation = Simulation.of(building, TrafficProfile.interfloor(BUSY_ARRIVAL_RATE), seed);
+        simulation.setPatienceDistribution(PatienceDistribution.fixed(PATIENCE));
+
+        return simulation;
+    }
+}
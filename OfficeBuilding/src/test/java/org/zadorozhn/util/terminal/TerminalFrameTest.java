@@ -0,0 +1,79 @@
+package org.zadorozhn.util.terminal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TerminalFrameTest {
+    public static final int HEIGHT = 2;
+    public static final int WIDTH = 8;
+    public static final byte STYLE = 3;
+
+    static String readRow(TerminalFrame frame, int row) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < frame.getWidth(); i++) {
+            builder.append(frame.getCharacter(row, i));
+        }
+
+        return builder.toString();
+    }
+
+    @Test
+    void createInvalidFrameTest() {
+        assertThrows(IllegalArgumentException.class, () -> TerminalFrame.of(0, WIDTH));
+        assertThrows(IllegalArgumentException.class, () -> TerminalFrame.of(HEIGHT, 0));
+    }
+
+    @Test
+    void printTextTest() {
+        TerminalFrame frame = TerminalFrame.of(HEIGHT, WIDTH);
+
+        int column = frame.print(1, 2, "abc", STYLE);
+
+        assertThat(column, equalTo(5));
+        assertThat(readRow(frame, 0), equalTo("        "));
+        assertThat(readRow(frame, 1), equalTo("  abc   "));
+        assertThat(frame.getStyle(1, 2), equalTo(STYLE));
+        assertThat(frame.getStyle(1, 5), equalTo(TerminalFrame.PLAIN));
+    }
+
+    @Test
+    void printClipsAtWidthTest() {
+        TerminalFrame frame = TerminalFrame.of(HEIGHT, WIDTH);
+
+        int column = frame.print(0, 5, "abcdef", STYLE);
+
+        assertThat(column, equalTo(11));
+        assertThat(readRow(frame, 0), equalTo("     abc"));
+        assertThrows(IndexOutOfBoundsException.class, () -> frame.print(HEIGHT, 0, 'x', STYLE));
+    }
+
+    @Test
+    void printNumberTest() {
+        TerminalFrame frame = TerminalFrame.of(HEIGHT, WIDTH);
+
+        int column = frame.print(0, 0, 7, 3, TerminalFrame.PLAIN);
+        column = frame.print(0, column, -42, 1, TerminalFrame.PLAIN);
+        frame.print(1, 0, 1234567, 2, TerminalFrame.PLAIN);
+
+        assertThat(column, equalTo(6));
+        assertThat(readRow(frame, 0), equalTo("  7-42  "));
+        assertThat(readRow(frame, 1), equalTo("1234567 "));
+    }
+
+    @Test
+    void resizeAndClearTest() {
+        TerminalFrame frame = TerminalFrame.of(HEIGHT, WIDTH);
+        frame.print(0, 0, "abc", STYLE);
+
+        frame.resize(HEIGHT + 1, WIDTH / 2);
+
+        assertThat(frame.getHeight(), equalTo(HEIGHT + 1));
+        assertThat(frame.getWidth(), equalTo(WIDTH / 2));
+        assertThat(readRow(frame, 0), equalTo("    "));
+        assertTrue(frame.hasSameSize(TerminalFrame.of(HEIGHT + 1, WIDTH / 2)));
+        assertFalse(frame.hasSameSize(TerminalFrame.of(HEIGHT, WIDTH)));
+    }
+}
@@ -0,0 +1,100 @@
+package org.zadorozhn.util.terminal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TerminalRendererTest {
+    public static final int HEIGHT = 2;
+    public static final int WIDTH = 6;
+    public static final String STYLE = "<style>";
+    public static final byte STYLE_INDEX = 1;
+
+    private ByteArrayOutputStream output;
+    private TerminalRenderer renderer;
+
+    @BeforeEach
+    void init() {
+        output = new ByteArrayOutputStream();
+        renderer = TerminalRenderer.of(new PrintStream(output), "", STYLE);
+    }
+
+    String takeOutput() {
+        String text = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        output.reset();
+
+        return text;
+    }
+
+    @Test
+    void createInvalidRendererTest() {
+        assertThrows(NullPointerException.class, () -> TerminalRenderer.of(null, ""));
+        assertThrows(IllegalArgumentException.class, () -> TerminalRenderer.of(new PrintStream(output)));
+    }
+
+    @Test
+    void renderFirstFrameTest() {
+        renderer.beginFrame(HEIGHT, WIDTH).print(1, 1, "ab", TerminalFrame.PLAIN);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), equalTo(TerminalRenderer.ANSI_CLEAR_SCREEN + "\u001B[2;2Hab"));
+        assertThat(renderer.getNumberOfFrames(), equalTo(1L));
+    }
+
+    @Test
+    void renderOnlyChangedCellsTest() {
+        renderer.beginFrame(HEIGHT, WIDTH).print(0, 0, "abc", TerminalFrame.PLAIN);
+        renderer.endFrame();
+        takeOutput();
+
+        renderer.beginFrame(HEIGHT, WIDTH).print(0, 0, "abd", TerminalFrame.PLAIN);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), equalTo("\u001B[1;3Hd"));
+
+        renderer.beginFrame(HEIGHT, WIDTH).print(0, 0, "abd", TerminalFrame.PLAIN);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), isEmptyString());
+        assertThat(renderer.getNumberOfChangedCells(), equalTo(4L));
+    }
+
+    @Test
+    void renderErasedAndStyledCellsTest() {
+        renderer.beginFrame(HEIGHT, WIDTH).print(0, 0, "abc", TerminalFrame.PLAIN);
+        renderer.endFrame();
+        takeOutput();
+
+        TerminalFrame frame = renderer.beginFrame(HEIGHT, WIDTH);
+        frame.print(0, 0, 'a', TerminalFrame.PLAIN);
+        frame.print(1, 4, "xy", STYLE_INDEX);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), equalTo("\u001B[1;2H  \u001B[2;5H" + TerminalRenderer.ANSI_RESET + STYLE + "xy"
+                + TerminalRenderer.ANSI_RESET));
+    }
+
+    @Test
+    void redrawOnResizeAndRequestTest() {
+        renderer.beginFrame(HEIGHT, WIDTH).print(0, 0, "a", TerminalFrame.PLAIN);
+        renderer.endFrame();
+        takeOutput();
+
+        renderer.beginFrame(HEIGHT, WIDTH + 1).print(0, 0, "a", TerminalFrame.PLAIN);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), startsWith(TerminalRenderer.ANSI_CLEAR_SCREEN));
+
+        renderer.requestRedraw();
+        renderer.beginFrame(HEIGHT, WIDTH + 1).print(0, 0, "a", TerminalFrame.PLAIN);
+        renderer.endFrame();
+
+        assertThat(takeOutput(), equalTo(TerminalRenderer.ANSI_CLEAR_SCREEN + "\u001B[1;1Ha"));
+    }
+}
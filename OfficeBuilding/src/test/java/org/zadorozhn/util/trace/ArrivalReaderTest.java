@@ -0,0 +1,148 @@
+package org.zadorozhn.util.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class ArrivalReaderTest {
+    public static final int NUMBER_OF_ARRIVALS = 1_000;
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int WEIGHT = 60;
+    public static final int SMALL_WINDOW_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    static List<Arrival> getArrivals() {
+        return IntStream.range(0, NUMBER_OF_ARRIVALS)
+                .mapToObj(i -> Arrival.of(i * 10L, i % NUMBER_OF_FLOORS, (i + 1) % NUMBER_OF_FLOORS, WEIGHT))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void readCsvTest() throws IOException {
+        Path path = writeCsv(getArrivals());
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(path)) {
+            assertThat(readAll(arrivalReader), equalTo(getArrivals()));
+        }
+    }
+
+    @Test
+    void readCsvAcrossWindowsTest() throws IOException {
+        Path path = writeCsv(getArrivals());
+
+        try (ArrivalReader arrivalReader = new CsvArrivalReader(path, SMALL_WINDOW_SIZE)) {
+            assertThat(readAll(arrivalReader), equalTo(getArrivals()));
+        }
+    }
+
+    @Test
+    void skipCsvHeaderAndMalformedLinesTest() throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.write(path, Arrays.asList("timestamp,origin,destination,weight", "", "# comment",
+                "10,0,5,60\r", "20,abc,5,60", "30,5,0", "40, 5, 0, 70"), StandardCharsets.US_ASCII);
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(path)) {
+            assertThat(readAll(arrivalReader), contains(Arrival.of(10, 0, 5, 60), Arrival.of(40, 5, 0, 70)));
+        }
+    }
+
+    @Test
+    void readCsvWithoutTrailingLineFeedTest() throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.write(path, "10,0,5,60\n20,5,0,70".getBytes(StandardCharsets.US_ASCII));
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(path)) {
+            assertThat(readAll(arrivalReader), contains(Arrival.of(10, 0, 5, 60), Arrival.of(20, 5, 0, 70)));
+        }
+    }
+
+    @Test
+    void readTooLongCsvLineTest() throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.write(path, "10,0,5,60\n10000000000000000,0,5,60\n".getBytes(StandardCharsets.US_ASCII));
+
+        try (ArrivalReader arrivalReader = new CsvArrivalReader(path, 16)) {
+            assertThrows(IllegalStateException.class, () -> readAll(arrivalReader));
+        }
+    }
+
+    @Test
+    void readBinaryTest() throws IOException {
+        Path path = writeBinary(getArrivals());
+
+        try (ArrivalReader arrivalReader = ArrivalReader.binary(path)) {
+            assertThat(readAll(arrivalReader), equalTo(getArrivals()));
+        }
+    }
+
+    @Test
+    void readBinaryAcrossWindowsTest() throws IOException {
+        Path path = writeBinary(getArrivals());
+
+        try (ArrivalReader arrivalReader = new BinaryArrivalReader(path, SMALL_WINDOW_SIZE)) {
+            assertThat(readAll(arrivalReader), equalTo(getArrivals()));
+        }
+    }
+
+    @Test
+    void readTruncatedBinaryTest() throws IOException {
+        Path path = directory.resolve("trace.bin");
+        Files.write(path, new byte[BinaryArrivalReader.RECORD_SIZE + 1]);
+
+        assertThrows(IllegalArgumentException.class, () -> ArrivalReader.binary(path));
+    }
+
+    @Test
+    void readEmptyTraceTest() throws IOException {
+        Path path = directory.resolve("trace.bin");
+        Files.write(path, new byte[0]);
+
+        try (ArrivalReader arrivalReader = ArrivalReader.binary(path)) {
+            assertFalse(arrivalReader.hasNext());
+            assertThrows(NoSuchElementException.class, arrivalReader::next);
+        }
+    }
+
+    private Path writeCsv(List<Arrival> arrivals) throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.write(path, arrivals.stream()
+                .map(i -> i.getTimestamp() + "," + i.getStartFloorNumber() + ","
+                        + i.getTargetFloorNumber() + "," + i.getWeight())
+                .collect(Collectors.toList()), StandardCharsets.US_ASCII);
+
+        return path;
+    }
+
+    private Path writeBinary(List<Arrival> arrivals) throws IOException {
+        Path path = directory.resolve("trace.bin");
+        try (BinaryArrivalWriter binaryArrivalWriter = BinaryArrivalWriter.of(path)) {
+            for (Arrival arrival : arrivals) {
+                binaryArrivalWriter.write(arrival);
+            }
+        }
+
+        return path;
+    }
+
+    private static List<Arrival> readAll(ArrivalReader arrivalReader) {
+        List<Arrival> arrivals = new ArrayList<>();
+        arrivalReader.forEachRemaining(arrivals::add);
+
+        return arrivals;
+    }
+}
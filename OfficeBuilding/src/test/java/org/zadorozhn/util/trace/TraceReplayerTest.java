@@ -0,0 +1,103 @@
+package org.zadorozhn.util.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.building.state.OverflowPolicy;
+import org.zadorozhn.util.clock.VirtualClock;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TraceReplayerTest {
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final double FAST_TIME_SCALE = 1_000;
+    public static final long TIMEOUT = 5_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void createInvalidTraceReplayerTest() throws IOException {
+        Building building = Building.of(NUMBER_OF_FLOORS);
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(writeTrace())) {
+            assertThrows(IllegalArgumentException.class, () -> TraceReplayer.of(building, arrivalReader, 0));
+            assertThrows(NullPointerException.class, () -> TraceReplayer.of(null, arrivalReader));
+        }
+    }
+
+    @Test
+    void replayInvalidArrivalTest() throws IOException {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(writeTrace())) {
+            TraceReplayer traceReplayer = TraceReplayer.of(building, arrivalReader);
+
+            assertFalse(traceReplayer.replay(Arrival.of(0, 0, NUMBER_OF_FLOORS, 60)));
+            assertFalse(traceReplayer.replay(Arrival.of(0, 0, 0, 60)));
+            assertThat(traceReplayer.getNumberOfSkippedArrivals(), equalTo(2L));
+        }
+    }
+
+    @Test
+    void replayTraceTest() throws IOException, InterruptedException {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        TraceReplayer traceReplayer = TraceReplayer.of(building, ArrivalReader.csv(writeTrace()), FAST_TIME_SCALE);
+
+        traceReplayer.start();
+        traceReplayer.join(TIMEOUT);
+
+        assertThat(traceReplayer.getNumberOfAdmittedArrivals(), equalTo(3L));
+        assertThat(traceReplayer.getNumberOfBalkedArrivals(), equalTo(0L));
+        assertThat(traceReplayer.getNumberOfSkippedArrivals(), equalTo(1L));
+        assertThat(building.getFloor(0).getNumberOfPeople(Direction.UP), equalTo(2));
+        assertThat(building.getFloor(5).getNumberOfPeople(Direction.DOWN), equalTo(1));
+    }
+
+    @Test
+    void replayBalkedArrivalTest() throws IOException {
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty());
+        building.getFloor(0).setCapacity(1, OverflowPolicy.BALK);
+
+        try (ArrivalReader arrivalReader = ArrivalReader.csv(writeTrace())) {
+            TraceReplayer traceReplayer = TraceReplayer.of(building, arrivalReader);
+
+            assertTrue(traceReplayer.replay(Arrival.of(0, 0, 5, 60)));
+            assertFalse(traceReplayer.replay(Arrival.of(0, 0, 7, 70)));
+            assertThat(traceReplayer.getNumberOfAdmittedArrivals(), equalTo(1L));
+            assertThat(traceReplayer.getNumberOfBalkedArrivals(), equalTo(1L));
+            assertThat(traceReplayer.getNumberOfSkippedArrivals(), equalTo(0L));
+        }
+    }
+
+    @Test
+    void replayTraceOnVirtualClockTest() throws IOException, InterruptedException {
+        VirtualClock clock = VirtualClock.getDefault();
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).setClock(clock);
+        TraceReplayer traceReplayer = TraceReplayer.of(building, ArrivalReader.csv(writeTrace()));
+
+        traceReplayer.start();
+        traceReplayer.join(TIMEOUT);
+
+        assertThat(traceReplayer.getNumberOfAdmittedArrivals(), equalTo(3L));
+        assertThat(clock.currentTimeMillis(), equalTo(3000L));
+        assertThat(building.getFloor(5).getHumanQueue(Direction.DOWN).get(0).getArrivalTime(), equalTo(2000L));
+    }
+
+    private Path writeTrace() throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.write(path, Arrays.asList("0,0,5,60", "1000,0,7,70", "2000,5,0,80", "3000,5,42,80"),
+                StandardCharsets.US_ASCII);
+
+        return path;
+    }
+}
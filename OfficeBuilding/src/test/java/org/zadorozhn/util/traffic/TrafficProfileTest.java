@@ -0,0 +1,150 @@
+package org.zadorozhn.util.traffic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.zadorozhn.building.Floor;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TrafficProfileTest {
+    public static final double PEAK_ARRIVAL_RATE = 60;
+    public static final long PERIOD = 60_000;
+    public static final int NUMBER_OF_FLOORS = 10;
+    public static final int NUMBER_OF_SAMPLES = 10_000;
+    public static final long SEED = 42;
+
+    static Object[][] profileData() {
+        return new Object[][]{
+                {TrafficProfile.upPeak(PEAK_ARRIVAL_RATE, PERIOD)},
+                {TrafficProfile.downPeak(PEAK_ARRIVAL_RATE, PERIOD)},
+                {TrafficProfile.lunch(PEAK_ARRIVAL_RATE, PERIOD)},
+                {TrafficProfile.interfloor(PEAK_ARRIVAL_RATE)},
+        };
+    }
+
+    @Test
+    void createInvalidProfileTest() {
+        assertThrows(IllegalArgumentException.class, () -> TrafficProfile.interfloor(0));
+        assertThrows(IllegalArgumentException.class, () -> TrafficProfile.upPeak(PEAK_ARRIVAL_RATE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> TrafficProfile.of(PEAK_ARRIVAL_RATE, elapsedTime -> 1, 0, 0, 0));
+    }
+
+    @Test
+    void normalizeSharesTest() {
+        TrafficProfile trafficProfile = TrafficProfile.of(PEAK_ARRIVAL_RATE, elapsedTime -> 1, 2, 1, 1);
+
+        assertThat(trafficProfile.getIncomingShare(), closeTo(0.5, 1e-9));
+        assertThat(trafficProfile.getOutgoingShare(), closeTo(0.25, 1e-9));
+        assertThat(trafficProfile.getInterfloorShare(), closeTo(0.25, 1e-9));
+    }
+
+    @Test
+    void arrivalRatePeaksInTheMiddleOfPeriodTest() {
+        TrafficProfile trafficProfile = TrafficProfile.upPeak(PEAK_ARRIVAL_RATE, PERIOD);
+
+        assertThat(trafficProfile.getArrivalRate(0), closeTo(0, 1e-9));
+        assertThat(trafficProfile.getArrivalRate(PERIOD / 2), closeTo(PEAK_ARRIVAL_RATE, 1e-9));
+        assertThat(trafficProfile.getArrivalRate(PERIOD / 4), lessThan(PEAK_ARRIVAL_RATE));
+    }
+
+    @Test
+    void constantArrivalRateMeanInterArrivalTimeTest() {
+        TrafficProfile trafficProfile = TrafficProfile.interfloor(PEAK_ARRIVAL_RATE);
+        Random random = new Random(SEED);
+
+        long elapsedTime = 0;
+        for (int i = 0; i < NUMBER_OF_SAMPLES; i++) {
+            elapsedTime = trafficProfile.nextArrivalTime(elapsedTime, random);
+        }
+
+        double expectedMean = TrafficProfile.MILLIS_PER_MINUTE / PEAK_ARRIVAL_RATE;
+        assertThat((double) elapsedTime / NUMBER_OF_SAMPLES, closeTo(expectedMean, expectedMean * 0.05));
+    }
+
+    @ParameterizedTest
+    @MethodSource("profileData")
+    void nextArrivalTimeIsNotBeforeElapsedTimeTest(TrafficProfile trafficProfile) {
+        Random random = new Random(SEED);
+
+        IntStream.range(0, NUMBER_OF_SAMPLES).forEach(i ->
+                assertThat(trafficProfile.nextArrivalTime(i, random), greaterThanOrEqualTo((long) i)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("profileData")
+    void nextJourneyIsValidTest(TrafficProfile trafficProfile) {
+        Random random = new Random(SEED);
+
+        IntStream.range(0, NUMBER_OF_SAMPLES).mapToObj(i -> trafficProfile.nextJourney(i, NUMBER_OF_FLOORS, random))
+                .forEach(journey -> {
+                    assertThat(journey.getStartFloorNumber(), both(greaterThanOrEqualTo(Floor.GROUND_FLOOR))
+                            .and(lessThan(NUMBER_OF_FLOORS)));
+                    assertThat(journey.getTargetFloorNumber(), both(greaterThanOrEqualTo(Floor.GROUND_FLOOR))
+                            .and(lessThan(NUMBER_OF_FLOORS)));
+                    assertThat(journey.getStartFloorNumber(), not(equalTo(journey.getTargetFloorNumber())));
+                });
+    }
+
+    @Test
+    void upPeakIsLobbyHeavyTest() {
+        List<Journey> journeys = sample(TrafficProfile.upPeak(PEAK_ARRIVAL_RATE, PERIOD), NUMBER_OF_FLOORS);
+
+        long numberOfIncomingJourneys = journeys.stream().filter(Journey::isIncoming).count();
+
+        assertThat((double) numberOfIncomingJourneys / NUMBER_OF_SAMPLES, closeTo(0.85, 0.02));
+    }
+
+    @Test
+    void downPeakIsLobbyBoundTest() {
+        List<Journey> journeys = sample(TrafficProfile.downPeak(PEAK_ARRIVAL_RATE, PERIOD), NUMBER_OF_FLOORS);
+
+        long numberOfOutgoingJourneys = journeys.stream().filter(Journey::isOutgoing).count();
+
+        assertThat((double) numberOfOutgoingJourneys / NUMBER_OF_SAMPLES, closeTo(0.85, 0.02));
+    }
+
+    @Test
+    void lunchHasOutboundAndReturnPeaksTest() {
+        TrafficProfile trafficProfile = TrafficProfile.lunch(PEAK_ARRIVAL_RATE, PERIOD);
+
+        assertThat(trafficProfile.getArrivalRate(PERIOD / 4), closeTo(PEAK_ARRIVAL_RATE, 1e-9));
+        assertThat(trafficProfile.getArrivalRate(PERIOD / 2), closeTo(0, 1e-9));
+        assertThat(trafficProfile.getArrivalRate(3 * PERIOD / 4), closeTo(PEAK_ARRIVAL_RATE, 1e-9));
+
+        long numberOfOutgoingJourneys = sample(trafficProfile, PERIOD / 4, NUMBER_OF_FLOORS).stream()
+                .filter(Journey::isOutgoing).count();
+        long numberOfIncomingJourneys = sample(trafficProfile, 3 * PERIOD / 4, NUMBER_OF_FLOORS).stream()
+                .filter(Journey::isIncoming).count();
+
+        assertThat((double) numberOfOutgoingJourneys / NUMBER_OF_SAMPLES, closeTo(0.80, 0.02));
+        assertThat((double) numberOfIncomingJourneys / NUMBER_OF_SAMPLES, closeTo(0.80, 0.02));
+    }
+
+    @Test
+    void twoFloorsJourneyTest() {
+        int numberOfFloors = 2;
+
+        sample(TrafficProfile.interfloor(PEAK_ARRIVAL_RATE), numberOfFloors)
+                .forEach(journey -> assertTrue(journey.isIncoming() || journey.isOutgoing()));
+    }
+
+    private static List<Journey> sample(TrafficProfile trafficProfile, int numberOfFloors) {
+        return sample(trafficProfile, 0, numberOfFloors);
+    }
+
+    private static List<Journey> sample(TrafficProfile trafficProfile, long elapsedTime, int numberOfFloors) {
+        Random random = new Random(SEED);
+
+        return IntStream.range(0, NUMBER_OF_SAMPLES)
+                .mapToObj(i -> trafficProfile.nextJourney(elapsedTime, numberOfFloors, random))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,53 @@
+package org.zadorozhn.util.window;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class TimeWeightedGaugeTest {
+    public static final long BUCKET_DURATION = 100;
+    public static final int NUMBER_OF_BUCKETS = 10;
+
+    @Test
+    void getValueTest() {
+        TimeWeightedGauge timeWeightedGauge = TimeWeightedGauge.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        timeWeightedGauge.add(10, 3);
+        timeWeightedGauge.add(20, -1);
+
+        assertThat(timeWeightedGauge.getValue(), equalTo(2L));
+    }
+
+    @Test
+    void getIntegralAcrossBucketsTest() {
+        TimeWeightedGauge timeWeightedGauge = TimeWeightedGauge.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        timeWeightedGauge.add(0, 2);
+        timeWeightedGauge.add(250, -2);
+
+        assertThat(timeWeightedGauge.getIntegral(299, 300), equalTo(500L));
+        assertThat(timeWeightedGauge.getIntegral(299, 100), equalTo(100L));
+    }
+
+    @Test
+    void getIntegralWithPendingValueTest() {
+        TimeWeightedGauge timeWeightedGauge = TimeWeightedGauge.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        timeWeightedGauge.add(0, 1);
+
+        assertThat(timeWeightedGauge.getIntegral(400, 1000), equalTo(400L));
+        assertThat(timeWeightedGauge.getAverage(400, 1000), closeTo(1, 1e-9));
+    }
+
+    @Test
+    void ignoreOutOfOrderTimeTest() {
+        TimeWeightedGauge timeWeightedGauge = TimeWeightedGauge.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        timeWeightedGauge.add(200, 1);
+        timeWeightedGauge.add(100, 1);
+
+        assertThat(timeWeightedGauge.getValue(), equalTo(2L));
+        assertThat(timeWeightedGauge.getIntegral(300, 1000), equalTo(200L));
+    }
+}
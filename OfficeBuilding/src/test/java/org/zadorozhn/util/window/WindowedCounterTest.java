@@ -0,0 +1,89 @@
+package org.zadorozhn.util.window;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class WindowedCounterTest {
+    public static final long BUCKET_DURATION = 100;
+    public static final int NUMBER_OF_BUCKETS = 10;
+
+    @Test
+    void createInvalidWindowedCounterTest() {
+        assertThrows(IllegalArgumentException.class, () -> WindowedCounter.of(0, NUMBER_OF_BUCKETS));
+        assertThrows(IllegalArgumentException.class, () -> WindowedCounter.of(BUCKET_DURATION, 0));
+    }
+
+    @Test
+    void getSumWithinWindowTest() {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        windowedCounter.add(50, 1);
+        windowedCounter.add(150, 2);
+        windowedCounter.add(250, 3);
+
+        assertThat(windowedCounter.getSum(250, 100), equalTo(3L));
+        assertThat(windowedCounter.getSum(250, 200), equalTo(5L));
+        assertThat(windowedCounter.getSum(250, 1000), equalTo(6L));
+    }
+
+    @Test
+    void expireOldBucketsTest() {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        windowedCounter.add(50, 1);
+        windowedCounter.add(1050, 2);
+
+        assertThat(windowedCounter.getSum(1050, 1000), equalTo(2L));
+    }
+
+    @Test
+    void dropTooOldValueTest() {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        windowedCounter.add(1050, 2);
+        windowedCounter.add(50, 1);
+
+        assertThat(windowedCounter.getSum(1050, 1000), equalTo(2L));
+    }
+
+    @Test
+    void getSumWithTooLongWindowTest() {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        assertThrows(IllegalArgumentException.class, () -> windowedCounter.getSum(0, 1001));
+    }
+
+    @Test
+    void resetTest() {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+
+        windowedCounter.add(50, 1);
+        windowedCounter.reset();
+
+        assertThat(windowedCounter.getSum(50, 100), equalTo(0L));
+    }
+
+    @Test
+    void concurrentAddTest() throws InterruptedException {
+        WindowedCounter windowedCounter = WindowedCounter.of(BUCKET_DURATION, NUMBER_OF_BUCKETS);
+        int numberOfThreads = 8;
+        int numberOfIncrements = 10_000;
+        Thread[] threads = new Thread[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < numberOfIncrements; j++) {
+                    windowedCounter.add(j % 1000, 1);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(windowedCounter.getSum(999, 1000), equalTo((long) numberOfThreads * numberOfIncrements));
+    }
+}
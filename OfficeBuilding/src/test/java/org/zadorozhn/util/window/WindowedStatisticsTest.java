@@ -0,0 +1,95 @@
+package org.zadorozhn.util.window;
+
+import org.junit.jupiter.api.Test;
+import org.zadorozhn.building.Building;
+import org.zadorozhn.building.Controller;
+import org.zadorozhn.building.Elevator;
+import org.zadorozhn.building.Floor;
+import org.zadorozhn.building.state.Direction;
+import org.zadorozhn.human.Human;
+import org.zadorozhn.util.clock.VirtualClock;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+class WindowedStatisticsTest {
+    public static final long WINDOW_DURATION = 60_000;
+    public static final int NUMBER_OF_FLOORS = 5;
+    public static final int WEIGHT = 60;
+
+    @Test
+    void getPerMinuteRatesTest() {
+        WindowedStatistics windowedStatistics = WindowedStatistics.getDefault();
+
+        for (int i = 0; i < 30; i++) {
+            windowedStatistics.recordDelivery(i * 2_000L);
+            windowedStatistics.recordPassedFloor(i * 2_000L);
+            windowedStatistics.recordPassedFloor(i * 2_000L);
+        }
+
+        assertThat(windowedStatistics.getDeliveredPerMinute(59_999, WINDOW_DURATION), closeTo(30, 0.1));
+        assertThat(windowedStatistics.getPassedFloorsPerMinute(59_999, WINDOW_DURATION), closeTo(60, 0.1));
+    }
+
+    @Test
+    void getUtilisationTest() {
+        WindowedStatistics windowedStatistics = WindowedStatistics.getDefault();
+
+        windowedStatistics.recordBusyElevators(0, 1);
+        windowedStatistics.recordBusyElevators(30_000, -1);
+
+        assertThat(windowedStatistics.getUtilisation(59_999, WINDOW_DURATION, 2), closeTo(0.25, 1e-3));
+        assertThat(windowedStatistics.getUtilisation(59_999, WINDOW_DURATION, 0), equalTo(0.0));
+    }
+
+    @Test
+    void littlesLawTest() {
+        WindowedStatistics windowedStatistics = WindowedStatistics.getDefault();
+
+        for (long time = 0; time < WINDOW_DURATION; time += 1_000) {
+            windowedStatistics.recordArrivals(time, 1);
+            windowedStatistics.recordDepartures(time + 500, 1);
+            windowedStatistics.recordBoarding(time + 500, 500);
+        }
+
+        assertThat(windowedStatistics.getAverageWaitTime(WINDOW_DURATION, WINDOW_DURATION), closeTo(500, 1e-9));
+        assertThat(windowedStatistics.getAverageQueueLength(WINDOW_DURATION, WINDOW_DURATION), closeTo(0.5, 0.01));
+        assertThat(windowedStatistics.getLittlesLawQueueLength(WINDOW_DURATION, WINDOW_DURATION),
+                closeTo(0.5, 0.01));
+        assertThat(windowedStatistics.getLittlesLawRatio(WINDOW_DURATION, WINDOW_DURATION), closeTo(1, 0.05));
+    }
+
+    @Test
+    void recordFloorQueueTest() {
+        VirtualClock virtualClock = VirtualClock.of(1_000);
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).setClock(virtualClock);
+        Floor floor = building.getFloor(Floor.GROUND_FLOOR);
+
+        floor.addHuman(Human.of(WEIGHT, Floor.GROUND_FLOOR + 1, floor));
+        floor.addHuman(Human.of(WEIGHT, Floor.GROUND_FLOOR + 2, floor));
+        virtualClock.setCurrentTimeMillis(2_000);
+        floor.pollFirstHuman(Direction.UP);
+
+        WindowedStatistics windowedStatistics = building.getWindowedStatistics();
+
+        assertThat(windowedStatistics.getQueueLength(), equalTo(1L));
+        assertThat(windowedStatistics.getArrivalsPerMinute(2_000, 2_000), greaterThan(0.0));
+    }
+
+    @Test
+    void recordElevatorStateTest() {
+        VirtualClock virtualClock = VirtualClock.of(0);
+        Building building = Building.of(NUMBER_OF_FLOORS).setController(Controller.getEmpty()).setClock(virtualClock);
+        Elevator elevator = Elevator.of(500);
+        building.addElevator(elevator);
+
+        elevator.goUp();
+        elevator.idle();
+
+        WindowedStatistics windowedStatistics = building.getWindowedStatistics();
+        long now = virtualClock.currentTimeMillis();
+
+        assertThat(windowedStatistics.getPassedFloorsPerMinute(now, WINDOW_DURATION), greaterThan(0.0));
+        assertThat(windowedStatistics.getUtilisation(now, WINDOW_DURATION, 1), closeTo(1, 1e-9));
+    }
+}